@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of the {@link CharOperation} primitives the compiler and the indexer call on type and package names.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharOperationBenchmark {
+
+	private static final String NAME = "org.eclipse.jdt.internal.compiler.lookup.ParameterizedTypeBinding"; //$NON-NLS-1$
+
+	private char[] name;
+	private char[] sameName;
+	private char[] otherName;
+	private char[] prefix;
+	private char[] pattern;
+	private char[][] compoundName;
+	private char[][] sameCompoundName;
+
+	@Setup
+	public void setup() {
+		this.name = NAME.toCharArray();
+		this.sameName = NAME.toCharArray();
+		this.otherName = NAME.replace("Parameterized", "Intersection_").toCharArray(); //$NON-NLS-1$ //$NON-NLS-2$
+		this.prefix = "org.eclipse.jdt.internal".toCharArray(); //$NON-NLS-1$
+		this.pattern = "org.*.lookup.*Type?inding".toCharArray(); //$NON-NLS-1$
+		this.compoundName = CharOperation.splitOn('.', this.name);
+		this.sameCompoundName = CharOperation.splitOn('.', this.sameName);
+	}
+
+	@Benchmark
+	public boolean equals() {
+		return CharOperation.equals(this.name, this.sameName);
+	}
+
+	@Benchmark
+	public boolean equalsDiffering() {
+		return CharOperation.equals(this.name, this.otherName);
+	}
+
+	@Benchmark
+	public boolean equalsCompound() {
+		return CharOperation.equals(this.compoundName, this.sameCompoundName);
+	}
+
+	@Benchmark
+	public int hash() {
+		return CharOperation.hashCode(this.name);
+	}
+
+	@Benchmark
+	public int lastIndexOf() {
+		return CharOperation.lastIndexOf('.', this.name);
+	}
+
+	@Benchmark
+	public boolean prefixEquals() {
+		return CharOperation.prefixEquals(this.prefix, this.name);
+	}
+
+	@Benchmark
+	public boolean match() {
+		return CharOperation.match(this.pattern, this.name, true);
+	}
+
+	@Benchmark
+	public char[][] splitOn() {
+		return CharOperation.splitOn('.', this.name);
+	}
+
+	@Benchmark
+	public char[] concatWith() {
+		return CharOperation.concatWith(this.compoundName, '.');
+	}
+}
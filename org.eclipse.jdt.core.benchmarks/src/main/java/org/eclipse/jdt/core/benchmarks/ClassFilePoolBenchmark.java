@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.ClassFilePool;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of acquiring a class file from the {@link ClassFilePool}, filling its constant pool and releasing it,
+ * from one thread and from several threads sharing the pool, compared to allocating a new class file each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassFilePoolBenchmark {
+
+	private static final char[][] CONSTANTS = {
+		"java/lang/Object".toCharArray(), //$NON-NLS-1$
+		"java/lang/String".toCharArray(), //$NON-NLS-1$
+		"<init>".toCharArray(), //$NON-NLS-1$
+		"()V".toCharArray(), //$NON-NLS-1$
+		"toString".toCharArray(), //$NON-NLS-1$
+		"()Ljava/lang/String;".toCharArray(), //$NON-NLS-1$
+		"Code".toCharArray(), //$NON-NLS-1$
+		"LineNumberTable".toCharArray(), //$NON-NLS-1$
+	};
+
+	private ClassFilePool pool;
+	private CompilerOptions options;
+
+	@Setup
+	public void setup() {
+		this.pool = ClassFilePool.newInstance();
+		this.options = new CompilerOptions();
+	}
+
+	private static int fill(ClassFile classFile) {
+		classFile.constantPool.initialize(classFile); // as done when writing the class file header
+		int index = 0;
+		for (char[] constant : CONSTANTS) {
+			index += classFile.constantPool.literalIndex(constant);
+		}
+		return index;
+	}
+
+	@Benchmark
+	public int acquireAndRelease() {
+		ClassFile classFile = this.pool.acquireForModule(null, this.options);
+		int index = fill(classFile);
+		this.pool.release(classFile);
+		return index;
+	}
+
+	@Benchmark
+	@Threads(4)
+	public int acquireAndReleaseConcurrently() {
+		return acquireAndRelease();
+	}
+
+	@Benchmark
+	public int allocate() {
+		return fill(new ClassFile(null, this.options));
+	}
+}
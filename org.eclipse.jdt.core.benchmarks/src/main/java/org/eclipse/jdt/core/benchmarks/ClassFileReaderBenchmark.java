@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to decode class files of the compiler itself with {@link ClassFileReader}: a huge class, a utility class with
+ * many small methods, and a class hierarchy root with many inner types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassFileReaderBenchmark {
+
+	@Param({
+		"org.eclipse.jdt.internal.compiler.parser.Parser", //$NON-NLS-1$
+		"org.eclipse.jdt.core.compiler.CharOperation", //$NON-NLS-1$
+		"org.eclipse.jdt.internal.compiler.lookup.TypeBinding" //$NON-NLS-1$
+	})
+	public String className;
+
+	private byte[] bytes;
+	private char[] fileName;
+
+	@Setup
+	public void setup() {
+		this.bytes = Samples.classFileBytes(this.className);
+		this.fileName = (this.className.replace('.', '/') + ".class").toCharArray(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Decodes what the lookup environment asks for when creating a binary type: the methods and fields and their
+	 * signatures.
+	 */
+	@Benchmark
+	public int read() throws ClassFormatException {
+		ClassFileReader reader = new ClassFileReader(this.bytes, this.fileName);
+		int length = 0;
+		IBinaryMethod[] methods = reader.getMethods();
+		if (methods != null) {
+			for (IBinaryMethod method : methods) {
+				length += method.getSelector().length + method.getMethodDescriptor().length;
+			}
+		}
+		return length + (reader.getFields() == null ? 0 : reader.getFields().length);
+	}
+
+	@Benchmark
+	public ClassFileReader readFully() throws ClassFormatException {
+		return new ClassFileReader(this.bytes, this.fileName, true);
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.codegen.BranchLabel;
+import org.eclipse.jdt.internal.compiler.codegen.CodeStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to emit the byte codes of a method body into a {@link CodeStream}: local variable accesses, arithmetic,
+ * constants and branches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeStreamBenchmark {
+
+	private static final int STATEMENTS = 100;
+	private static final String[] CONSTANTS = { "alpha", "beta", "gamma", "delta" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private ClassFile classFile;
+	private CodeStream codeStream;
+	private final BranchLabel loop = new BranchLabel();
+	private final BranchLabel exit = new BranchLabel();
+
+	@Setup
+	public void setup() {
+		this.classFile = new ClassFile(null /* module */, Samples.compilerOptions());
+		this.classFile.constantPool.initialize(this.classFile);
+		this.codeStream = new CodeStream(this.classFile);
+	}
+
+	/**
+	 * @return the size of the emitted code
+	 */
+	@Benchmark
+	public int emit() {
+		CodeStream code = this.codeStream;
+		code.resetForProblemClinit(this.classFile);
+		// labels created ahead, as the constructor taking the code stream needs the options of a source type
+		this.loop.initialize(code);
+		this.exit.initialize(code);
+		code.iconst_0();
+		code.istore(1);
+		this.loop.place();
+		for (int i = 0; i < STATEMENTS; i++) {
+			code.iload(1);
+			code.iconst_1();
+			code.iadd();
+			code.istore(1);
+			code.ldc(CONSTANTS[i % CONSTANTS.length]);
+			code.pop();
+			code.iload(i % 4 + 2);
+			code.ifeq(this.exit);
+		}
+		code.iload(1);
+		code.ifne(this.loop);
+		this.exit.place();
+		code.return_();
+		this.classFile.contents = code.bCodeStream; // keep the grown buffer, as the class file does after each method
+		return code.position;
+	}
+}
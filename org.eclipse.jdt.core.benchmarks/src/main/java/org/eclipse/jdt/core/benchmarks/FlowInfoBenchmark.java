@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.flow.FlowInfo;
+import org.eclipse.jdt.internal.compiler.flow.UnconditionalFlowInfo;
+import org.eclipse.jdt.internal.compiler.lookup.LocalVariableBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to merge the flow info of two branches with {@link UnconditionalFlowInfo#mergedWith(UnconditionalFlowInfo)},
+ * for methods whose locals fit in the first 64 bits of the flow info and for methods needing its extra bits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowInfoBenchmark {
+
+	@Param({ "16", "200" })
+	public int localCount;
+
+	private UnconditionalFlowInfo thenBranch;
+	private UnconditionalFlowInfo elseBranch;
+
+	@Setup
+	public void setup() {
+		LocalVariableBinding[] locals = new LocalVariableBinding[this.localCount];
+		for (int i = 0; i < this.localCount; i++) {
+			locals[i] = new LocalVariableBinding(("local" + i).toCharArray(), null, 0, false); //$NON-NLS-1$
+			locals[i].id = i;
+		}
+		this.thenBranch = FlowInfo.initial(0);
+		this.elseBranch = FlowInfo.initial(0);
+		for (int i = 0; i < this.localCount; i++) {
+			// locals assigned in both branches, in one of them, with null information differing or not
+			if (i % 3 != 2) {
+				this.thenBranch.markAsDefinitelyAssigned(locals[i]);
+				this.thenBranch.markAsDefinitelyNonNull(locals[i]);
+			}
+			if (i % 3 != 1) {
+				this.elseBranch.markAsDefinitelyAssigned(locals[i]);
+				if (i % 2 == 0)
+					this.elseBranch.markAsDefinitelyNonNull(locals[i]);
+				else
+					this.elseBranch.markAsDefinitelyNull(locals[i]);
+			}
+		}
+	}
+
+	@Benchmark
+	public UnconditionalFlowInfo mergedWith() {
+		// merging modifies the receiver
+		return this.thenBranch.unconditionalCopy().mergedWith(this.elseBranch);
+	}
+
+	@Benchmark
+	public UnconditionalFlowInfo mergeDefiniteInitsWith() {
+		return this.thenBranch.unconditionalCopy().mergeDefiniteInitsWith(this.elseBranch);
+	}
+
+	@Benchmark
+	public FlowInfo addInitializationsFrom() {
+		return this.thenBranch.unconditionalCopy().addInitializationsFrom(this.elseBranch);
+	}
+}
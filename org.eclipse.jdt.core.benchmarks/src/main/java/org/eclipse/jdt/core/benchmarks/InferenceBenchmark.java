@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to compile the stream pipelines sample, whose resolution is dominated by
+ * {@link org.eclipse.jdt.internal.compiler.lookup.InferenceContext18 type inference}. Inference contexts cannot be
+ * solved outside of the resolution of their invocation, so the whole unit is compiled against the system libraries
+ * of the running JDK, whose binary types stay cached by the name environment across invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InferenceBenchmark {
+
+	private char[] source;
+	private CompilerOptions options;
+	private FileSystem environment;
+
+	@Setup
+	public void setup() {
+		this.source = Samples.source(Samples.PIPELINES);
+		this.options = Samples.compilerOptions();
+		this.environment = Samples.systemLibraries();
+		if (compile() == 0)
+			throw new IllegalStateException("no inference context solved"); //$NON-NLS-1$
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	/**
+	 * @return the number of inference contexts solved
+	 */
+	@Benchmark
+	public long compile() {
+		Compiler compiler = new Compiler(this.environment, DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				this.options, InferenceBenchmark::checkResult, new DefaultProblemFactory());
+		// compilation units remember the module they were compiled in, use a new one
+		compiler.compile(new ICompilationUnit[] { new CompilationUnit(this.source, Samples.PIPELINES, "UTF-8") }); //$NON-NLS-1$
+		return compiler.stats.inferenceCount;
+	}
+
+	private static void checkResult(CompilationResult result) {
+		if (result.hasErrors())
+			throw new IllegalStateException(result.toString());
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to parse a sample source with {@link Parser#parse(org.eclipse.jdt.internal.compiler.env.ICompilationUnit, CompilationResult)},
+ * with and without its method bodies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+	@Param({ Samples.SHAPES, Samples.PIPELINES })
+	public String sample;
+
+	private CompilationUnit unit;
+	private CompilerOptions options;
+	private Parser parser;
+
+	@Setup
+	public void setup() {
+		this.unit = Samples.compilationUnit(this.sample);
+		this.options = Samples.compilerOptions();
+		this.parser = new Parser(Samples.problemReporter(this.options), false /* optimizeStringLiterals */);
+	}
+
+	private CompilationResult newResult() {
+		return new CompilationResult(this.unit, 0, 1, this.options.maxProblemsPerUnit);
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration parse() {
+		return this.parser.parse(this.unit, newResult());
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration dietParse() {
+		return this.parser.dietParse(this.unit, newResult());
+	}
+}
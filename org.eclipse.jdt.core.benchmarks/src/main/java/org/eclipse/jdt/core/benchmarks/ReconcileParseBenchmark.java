@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bounds what an incremental reparse of the edited method body could save on the reconcile of a large generated
+ * unit. Reconcile parses the whole unit ({@link #parse()}) before resolving, analyzing and generating it, which
+ * {@link #compile()} measures as a whole. An incremental reparse would still parse the edited method body
+ * ({@link #parseEditedMethodBody()}), so it saves at most the difference between the first and the last, to be
+ * compared with the time of the whole compilation, which it does not change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReconcileParseBenchmark {
+
+	/** number of generated methods, of 10 lines each **/
+	@Param({ "100", "1000" })
+	public int methodCount;
+
+	private char[] source;
+	private CompilerOptions options;
+	private Parser parser;
+	private FileSystem environment;
+	/** a unit parsed without its method bodies, and its method in the middle of the unit **/
+	private CompilationUnitDeclaration dietUnit;
+	private AbstractMethodDeclaration editedMethod;
+
+	@Setup
+	public void setup() {
+		this.source = generatedSource(this.methodCount);
+		this.options = Samples.compilerOptions();
+		this.parser = new Parser(Samples.problemReporter(this.options), false /* optimizeStringLiterals */);
+		this.environment = Samples.systemLibraries();
+		this.dietUnit = this.parser.dietParse(newUnit(), newResult());
+		this.editedMethod = this.dietUnit.types[0].methods[this.dietUnit.types[0].methods.length / 2];
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	private static char[] generatedSource(int methodCount) {
+		StringBuilder source = new StringBuilder("import java.util.List;\n\npublic class Generated {\n"); //$NON-NLS-1$
+		for (int i = 0; i < methodCount; i++) {
+			source.append("\tint field").append(i).append(";\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\tint method").append(i).append("(List<String> values, int limit) {\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\tint sum = this.field").append(i).append(";\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\tfor (String value : values) {\n") //$NON-NLS-1$
+				.append("\t\t\tif (value.length() > limit)\n") //$NON-NLS-1$
+				.append("\t\t\t\tcontinue;\n") //$NON-NLS-1$
+				.append("\t\t\tsum += value.hashCode() * ").append(i).append(";\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\t}\n") //$NON-NLS-1$
+				.append("\t\treturn sum > 0 ? sum : -sum;\n") //$NON-NLS-1$
+				.append("\t}\n"); //$NON-NLS-1$
+		}
+		return source.append("}\n").toString().toCharArray(); //$NON-NLS-1$
+	}
+
+	private CompilationUnit newUnit() {
+		return new CompilationUnit(this.source, "Generated.java", "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private CompilationResult newResult() {
+		return new CompilationResult(newUnit(), 0, 1, this.options.maxProblemsPerUnit);
+	}
+
+	/**
+	 * The parse of a reconcile: the whole unit with its method bodies.
+	 */
+	@Benchmark
+	public CompilationUnitDeclaration parse() {
+		return this.parser.parse(newUnit(), newResult());
+	}
+
+	/**
+	 * The structure of the unit only, which an incremental reparse would reuse.
+	 */
+	@Benchmark
+	public CompilationUnitDeclaration dietParse() {
+		return this.parser.dietParse(newUnit(), newResult());
+	}
+
+	/**
+	 * The part of the parse an incremental reparse of a single edited method could not save.
+	 */
+	@Benchmark
+	public AbstractMethodDeclaration parseEditedMethodBody() {
+		this.parser.scanner.setSource(this.source, this.dietUnit.compilationResult);
+		this.editedMethod.parseStatements(this.parser, this.dietUnit);
+		return this.editedMethod;
+	}
+
+	/**
+	 * The parse, resolution, analysis and generation of the unit, as the problem detection of a reconcile does.
+	 */
+	@Benchmark
+	public CompilationResult compile() {
+		CompilationResult[] result = new CompilationResult[1];
+		Compiler compiler = new Compiler(this.environment, DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				this.options, compilationResult -> result[0] = compilationResult, new DefaultProblemFactory());
+		// compilation units remember the module they were compiled in, use a new one
+		compiler.compile(new ICompilationUnit[] { newUnit() });
+		if (result[0].hasErrors())
+			throw new IllegalStateException(result[0].toString());
+		return result[0];
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Inputs of the benchmarks: the sample sources bundled under <code>samples/</code>, and class files of the compiler
+ * itself, so that the benchmarks run offline.
+ */
+final class Samples {
+
+	/** general purpose code: classes, records, control flow, exceptions **/
+	static final String SHAPES = "Shapes.java"; //$NON-NLS-1$
+	/** generic methods, lambdas and streams, dominated by type inference **/
+	static final String PIPELINES = "Pipelines.java"; //$NON-NLS-1$
+
+	private Samples() {
+		// not instantiable
+	}
+
+	static char[] source(String name) {
+		try (InputStream stream = Samples.class.getResourceAsStream("/samples/" + name)) { //$NON-NLS-1$
+			if (stream == null)
+				throw new IllegalArgumentException("no sample named " + name); //$NON-NLS-1$
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8).toCharArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static CompilationUnit compilationUnit(String name) {
+		return new CompilationUnit(source(name), name, "UTF-8"); //$NON-NLS-1$
+	}
+
+	static byte[] classFileBytes(String className) {
+		String resource = '/' + className.replace('.', '/') + ".class"; //$NON-NLS-1$
+		try (InputStream stream = Samples.class.getResourceAsStream(resource)) {
+			if (stream == null)
+				throw new IllegalArgumentException("no class file for " + className); //$NON-NLS-1$
+			return stream.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static CompilerOptions compilerOptions() {
+		Map<String, String> settings = new HashMap<>();
+		settings.put(CompilerOptions.OPTION_Compliance, CompilerOptions.VERSION_17);
+		settings.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_17);
+		settings.put(CompilerOptions.OPTION_TargetPlatform, CompilerOptions.VERSION_17);
+		return new CompilerOptions(settings);
+	}
+
+	static ProblemReporter problemReporter(CompilerOptions options) {
+		return new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(), options, new DefaultProblemFactory());
+	}
+
+	/** a name environment on the system modules of the running JDK **/
+	static FileSystem systemLibraries() {
+		Path jrtFs = Paths.get(System.getProperty("java.home"), "lib", "jrt-fs.jar"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+		return new FileSystem(new String[] { jrtFs.toString() }, new String[0], null);
+	}
+}
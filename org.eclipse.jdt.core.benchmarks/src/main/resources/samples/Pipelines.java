@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package samples;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Sample source of the benchmarks: generic methods, lambdas and streams, whose resolution is dominated by type
+ * inference.
+ */
+public class Pipelines {
+
+	public record Person(String name, String city, int age, List<String> tags) {}
+
+	public static <T, K> Map<K, List<T>> groupBy(List<T> items, Function<? super T, ? extends K> key) {
+		return items.stream().collect(Collectors.groupingBy(key));
+	}
+
+	public static <T, R> List<R> mapAll(List<T> items, Function<? super T, ? extends R> mapper) {
+		return items.stream().<R>map(mapper).collect(Collectors.toList());
+	}
+
+	public static <A, B, C> Function<A, C> compose(Function<A, B> first, Function<B, C> second) {
+		return first.andThen(second);
+	}
+
+	public static <T> Optional<T> firstMatching(Stream<T> stream, Supplier<? extends Comparator<? super T>> order) {
+		return stream.sorted(order.get()).findFirst();
+	}
+
+	public static Map<String, Double> averageAgeByCity(List<Person> people) {
+		return people.stream()
+				.collect(Collectors.groupingBy(Person::city, TreeMap::new, Collectors.averagingInt(Person::age)));
+	}
+
+	public static Map<String, Long> tagHistogram(List<Person> people) {
+		return people.stream()
+				.flatMap(p -> p.tags().stream())
+				.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+	}
+
+	public static Map<Boolean, List<String>> adultNames(List<Person> people) {
+		return people.stream()
+				.collect(Collectors.partitioningBy(p -> p.age() >= 18,
+						Collectors.mapping(Person::name, Collectors.toList())));
+	}
+
+	public static Optional<Person> oldestIn(List<Person> people, String city) {
+		return people.stream()
+				.filter(p -> p.city().equals(city))
+				.max(Comparator.comparingInt(Person::age).thenComparing(Person::name, Comparator.reverseOrder()));
+	}
+
+	public static String summary(List<Person> people) {
+		return people.stream()
+				.sorted(Comparator.comparing(Person::city).thenComparing(Person::age).thenComparing(Person::name))
+				.map(p -> p.name() + "@" + p.city())
+				.collect(Collectors.joining(", ", "[", "]"));
+	}
+
+	public static <T, U, R> List<R> zip(List<T> left, List<U> right, BiFunction<? super T, ? super U, ? extends R> zipper) {
+		return IntStream.range(0, Math.min(left.size(), right.size()))
+				.mapToObj(i -> zipper.apply(left.get(i), right.get(i)))
+				.collect(Collectors.toList());
+	}
+
+	public static Map<String, Map<Integer, List<String>>> nested(List<Person> people) {
+		return people.stream()
+				.collect(Collectors.groupingBy(Person::city,
+						Collectors.groupingBy(p -> p.age() / 10 * 10,
+								Collectors.mapping(p -> p.name().toUpperCase(), Collectors.toList()))));
+	}
+
+	public static int totalTagLength(List<Person> people) {
+		Function<Person, Integer> tagLength = compose(Person::tags,
+				tags -> tags.stream().mapToInt(String::length).sum());
+		return mapAll(people, tagLength).stream().reduce(0, Integer::sum);
+	}
+
+	public static List<String> cities(List<Person> people) {
+		return groupBy(people, Person::city).entrySet().stream()
+				.filter(e -> e.getValue().size() > 1)
+				.map(Map.Entry::getKey)
+				.sorted()
+				.collect(Collectors.toList());
+	}
+
+	public static Optional<String> youngestName(List<Person> people) {
+		return firstMatching(people.stream(), () -> Comparator.comparingInt(Person::age)).map(Person::name);
+	}
+
+	public static List<String> pairs(List<Person> people) {
+		return zip(people, people.subList(1, people.size()), (a, b) -> a.name() + "-" + b.name());
+	}
+}
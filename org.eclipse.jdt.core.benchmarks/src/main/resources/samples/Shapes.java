@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package samples;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sample source of the benchmarks: plain classes, control flow, exceptions and string handling.
+ */
+public class Shapes {
+
+	public sealed interface Shape permits Circle, Rectangle, Polygon {
+		double area();
+		default String describe() {
+			return getClass().getSimpleName() + " of area " + area();
+		}
+	}
+
+	public record Circle(double radius) implements Shape {
+		public Circle {
+			if (radius < 0)
+				throw new IllegalArgumentException("negative radius: " + radius);
+		}
+		@Override
+		public double area() {
+			return Math.PI * this.radius * this.radius;
+		}
+	}
+
+	public record Rectangle(double width, double height) implements Shape {
+		@Override
+		public double area() {
+			return this.width * this.height;
+		}
+	}
+
+	public static final class Polygon implements Shape, Iterable<double[]> {
+		private final double[] xs;
+		private final double[] ys;
+
+		public Polygon(double[] xs, double[] ys) {
+			if (xs.length != ys.length || xs.length < 3)
+				throw new IllegalArgumentException();
+			this.xs = xs.clone();
+			this.ys = ys.clone();
+		}
+
+		@Override
+		public double area() {
+			double sum = 0;
+			int n = this.xs.length;
+			for (int i = 0, j = n - 1; i < n; j = i++) {
+				sum += (this.xs[j] + this.xs[i]) * (this.ys[j] - this.ys[i]);
+			}
+			return Math.abs(sum / 2);
+		}
+
+		@Override
+		public Iterator<double[]> iterator() {
+			return new Iterator<double[]>() {
+				private int index;
+				@Override
+				public boolean hasNext() {
+					return this.index < Polygon.this.xs.length;
+				}
+				@Override
+				public double[] next() {
+					double[] point = { Polygon.this.xs[this.index], Polygon.this.ys[this.index] };
+					this.index++;
+					return point;
+				}
+			};
+		}
+	}
+
+	private final List<Shape> shapes = new ArrayList<>();
+	private final Map<String, Integer> counts = new HashMap<>();
+	private int version;
+
+	public synchronized void add(Shape shape) {
+		this.shapes.add(shape);
+		String kind = shape.getClass().getSimpleName();
+		Integer count = this.counts.get(kind);
+		this.counts.put(kind, count == null ? 1 : count + 1);
+		this.version++;
+	}
+
+	public double totalArea() {
+		double total = 0;
+		for (Shape shape : this.shapes) {
+			total += shape.area();
+		}
+		return total;
+	}
+
+	public static String classify(Shape shape) {
+		String size;
+		double area = shape.area();
+		if (area < 1) {
+			size = "tiny";
+		} else if (area < 100) {
+			size = "small";
+		} else if (area < 10000) {
+			size = "large";
+		} else {
+			size = "huge";
+		}
+		if (shape instanceof Circle c && c.radius() > 10) {
+			return size + " wide circle";
+		}
+		if (shape instanceof Rectangle r && r.width() == r.height()) {
+			return size + " square";
+		}
+		return switch (shape.getClass().getSimpleName()) {
+			case "Circle" -> size + " circle";
+			case "Rectangle" -> size + " rectangle";
+			default -> {
+				String kind = shape instanceof Polygon ? "polygon" : "shape";
+				yield size + ' ' + kind;
+			}
+		};
+	}
+
+	public static int parse(String text, int defaultValue) {
+		if (text == null || text.isEmpty())
+			return defaultValue;
+		int value = 0;
+		boolean negative = false;
+		int i = 0;
+		char first = text.charAt(0);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			i++;
+		}
+		for (; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '0': case '1': case '2': case '3': case '4':
+				case '5': case '6': case '7': case '8': case '9':
+					value = value * 10 + (c - '0');
+					break;
+				case '_':
+					continue;
+				default:
+					return defaultValue;
+			}
+		}
+		return negative ? -value : value;
+	}
+
+	public String report() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("Shapes (version ").append(this.version).append(")\n");
+		int index = 0;
+		for (Shape shape : this.shapes) {
+			builder.append(++index).append(". ").append(classify(shape)).append('\n');
+		}
+		for (Map.Entry<String, Integer> entry : this.counts.entrySet()) {
+			builder.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+		}
+		return builder.toString();
+	}
+
+	public static Shapes load(String[] lines) {
+		Shapes result = new Shapes();
+		for (String line : lines) {
+			String[] fields = line.trim().split("\\s+");
+			try {
+				switch (fields[0]) {
+					case "circle":
+						result.add(new Circle(parse(fields[1], 1)));
+						break;
+					case "rectangle":
+						result.add(new Rectangle(parse(fields[1], 1), parse(fields[2], 1)));
+						break;
+					default:
+						double[] xs = new double[fields.length / 2];
+						double[] ys = new double[fields.length / 2];
+						for (int i = 0; i + 1 < fields.length; i += 2) {
+							xs[i / 2] = parse(fields[i], 0);
+							ys[i / 2] = parse(fields[i + 1], 0);
+						}
+						result.add(new Polygon(xs, ys));
+				}
+			} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+				System.err.println("skipping " + line + ": " + e.getMessage());
+			} finally {
+				result.version++;
+			}
+		}
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -108,7 +108,8 @@ public class ClassFile implements TypeConstants, TypeIds {
 	public int methodCount;
 	public int methodCountOffset;
 	// pool managment
-	boolean isShared = false;
+	boolean isShared = false; // guarded by the lock of the ClassFilePool
+	Object poolGeneration;
 	// used to generate private access methods
 	// debug and stack map attributes
 	public int produceAttributes;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,62 +13,101 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler;
 
-import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
 import org.eclipse.jdt.internal.compiler.lookup.SourceTypeBinding;
 
+/**
+ * Recycles the class files (header, contents and constant pool buffers) of the generated types.
+ * <p>
+ * Class files are acquired by the thread generating code and released by the thread writing them. Released class
+ * files are put back into a non-blocking queue, and the number of class files created by the pool is bounded by an
+ * atomic counter. Once that bound is reached, class files are created without being pooled. The pool only locks to
+ * mark a class file as acquired or released, so that a class file released twice is only queued once.
+ * </p>
+ */
 public class ClassFilePool {
-	public static final int POOL_SIZE = 25; // need to have enough for 2 units
-	ClassFile[] classFiles;
+	public static final int POOL_SIZE = 25; // need to have enough for 2 units, per thread holding class files
+
+	/** released class files, ready to be acquired again **/
+	private final Queue<ClassFile> available = new ConcurrentLinkedQueue<>();
+	/** number of class files created by the pool since its last reset, either acquired or available **/
+	private final AtomicInteger size = new AtomicInteger();
+	private volatile int maximumSize = POOL_SIZE;
+	/** class files created before the last reset are not taken back **/
+	private volatile Object generation = new Object();
 
 private ClassFilePool() {
 	// prevent instantiation
-	this.classFiles = new ClassFile[POOL_SIZE];
 }
 
 public static ClassFilePool newInstance() {
 	return new ClassFilePool();
 }
 
-public synchronized ClassFile acquire(SourceTypeBinding typeBinding) {
-	for (int i = 0; i < POOL_SIZE; i++) {
-		ClassFile classFile = this.classFiles[i];
-		if (classFile == null) {
-			ClassFile newClassFile = new ClassFile(typeBinding);
-			this.classFiles[i] = newClassFile;
-			newClassFile.isShared = true;
-			return newClassFile;
-		}
-		if (!classFile.isShared) {
-			classFile.reset(typeBinding, typeBinding.scope.compilerOptions());
-			classFile.isShared = true;
-			return classFile;
-		}
+/**
+ * Allows the pool to hold {@link #POOL_SIZE} class files for each of the given number of threads holding class files at
+ * the same time, e.g. the threads generating class files and the thread writing them.
+ */
+public void ensureCapacityForThreads(int threads) {
+	int minimumSize = threads * POOL_SIZE;
+	if (minimumSize > this.maximumSize)
+		this.maximumSize = minimumSize;
+}
+
+public ClassFile acquire(SourceTypeBinding typeBinding) {
+	ClassFile classFile = this.available.poll();
+	if (classFile != null) {
+		classFile.reset(typeBinding, typeBinding.scope.compilerOptions());
+	} else if (reserve()) {
+		classFile = new ClassFile(typeBinding);
+		classFile.poolGeneration = this.generation;
+	} else {
+		return new ClassFile(typeBinding);
 	}
-	return new ClassFile(typeBinding);
+	share(classFile);
+	return classFile;
 }
-public synchronized ClassFile acquireForModule(ModuleBinding moduleBinding, CompilerOptions options) {
-	for (int i = 0; i < POOL_SIZE; i++) {
-		ClassFile classFile = this.classFiles[i];
-		if (classFile == null) {
-			ClassFile newClassFile = new ClassFile(moduleBinding, options);
-			this.classFiles[i] = newClassFile;
-			newClassFile.isShared = true;
-			return newClassFile;
-		}
-		if (!classFile.isShared) {
-			classFile.reset(null, options);
-			classFile.isShared = true;
-			return classFile;
-		}
+public ClassFile acquireForModule(ModuleBinding moduleBinding, CompilerOptions options) {
+	ClassFile classFile = this.available.poll();
+	if (classFile != null) {
+		classFile.reset(null, options);
+	} else if (reserve()) {
+		classFile = new ClassFile(moduleBinding, options);
+		classFile.poolGeneration = this.generation;
+	} else {
+		return new ClassFile(moduleBinding, options);
 	}
-	return new ClassFile(moduleBinding, options);
+	share(classFile);
+	return classFile;
 }
-public synchronized void release(ClassFile classFile) {
-	classFile.isShared = false;
+private boolean reserve() {
+	int current;
+	do {
+		current = this.size.get();
+		if (current >= this.maximumSize)
+			return false;
+	} while (!this.size.compareAndSet(current, current + 1));
+	return true;
+}
+private synchronized void share(ClassFile classFile) {
+	classFile.isShared = true;
+}
+public void release(ClassFile classFile) {
+	synchronized (this) {
+		if (!classFile.isShared)
+			return; // not pooled, or already released
+		classFile.isShared = false;
+	}
+	if (classFile.poolGeneration == this.generation)
+		this.available.offer(classFile);
 }
 public void reset() {
-	Arrays.fill(this.classFiles, null);
+	this.generation = new Object();
+	this.available.clear();
+	this.size.set(0);
 }
 }
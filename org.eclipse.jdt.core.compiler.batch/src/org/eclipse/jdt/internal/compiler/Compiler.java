@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	/**
+	 * Number of threads parsing the units to compile when {@link #useSingleThread} is false. Type bindings of the
+	 * parsed units are still built in the order of the units by the compiling thread.
+	 */
+	public int parsingThreads = 1;
 
 	// number of initial units parsed at once (-1: none)
 
@@ -165,6 +170,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		this.lookupEnvironment = new LookupEnvironment(this, this.options, this.problemReporter, environment);
 		this.out = out == null ? new PrintWriter(System.out, true) : out;
 		this.stats = new CompilerStats();
+		this.lookupEnvironment.stats = this.stats;
 		initializeParser();
 	}
 
@@ -488,11 +494,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					try {
 						Collection<CompilationUnitDeclaration> units;
 						do {
+							long waitStart = System.currentTimeMillis();
 							try {
 								units = processingTask.removeNextUnits();
 							} catch (Error | RuntimeException e) {
 								unit = processingTask.getUnitWithError();
 								throw e;
+							} finally {
+								this.stats.waitTime += System.currentTimeMillis() - waitStart;
 							}
 							for (CompilationUnitDeclaration u : units) {
 								unit = u;
@@ -548,6 +557,26 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		return null;
 	}
 
+	/**
+	 * Answers whether {@link #createWorkerParser()} can provide parsers equivalent to {@link #parser}.
+	 */
+	public boolean supportsWorkerParsers() {
+		return this.parser != null && this.parser.getClass() == Parser.class; // specialized parsers may record more
+	}
+
+	/**
+	 * Answers a parser equivalent to {@link #parser} to be used by a worker thread.
+	 * Must be called by the thread using the parser, because its scanner deduplicates
+	 * characters through a thread local cache.
+	 */
+	public Parser createWorkerParser() {
+		ProblemReporter reporter = new ProblemReporter(this.problemReporter.policy, this.options, this.problemReporter.problemFactory);
+		Parser workerParser = new Parser(reporter, this.options.parseLiteralExpressionsAsConstants);
+		workerParser.reportSyntaxErrorIsRequired = this.parser.reportSyntaxErrorIsRequired;
+		workerParser.reportOnlyOneSyntaxError = this.parser.reportOnlyOneSyntaxError;
+		return workerParser;
+	}
+
 	/*
 	 * Returns whether the compilation unit at the given index should be
 	 * cleaned up after processing. This basically means whether or not
@@ -730,7 +759,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	protected void internalBeginToCompile(ICompilationUnit[] sourceUnits, int maxUnits) {
 		abortIfVersionNotAllowed(sourceUnits,maxUnits);
 		abortIfPreviewNotAllowed(sourceUnits,maxUnits);
-		if (!this.useSingleThread)
+		ParseTaskManager parseTasks = this.useSingleThread ? null : ParseTaskManager.create(this, sourceUnits, maxUnits);
+		if (!this.useSingleThread && parseTasks == null)
 			this.parser.readManager = new ReadManager(sourceUnits, maxUnits);
 		try {
 			// Switch the current policy and compilation result for this unit to the requested one.
@@ -748,11 +778,17 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					}
 					// diet parsing for large collection of units
 					CompilationUnitDeclaration parsedUnit;
-					unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
 					long parseStart = System.currentTimeMillis();
-					if (this.totalUnits < this.parseThreshold) {
+					if (parseTasks != null) {
+						// parsed by the workers in the same mode as below, only wait for it
+						unitResult = parseTasks.getCompilationResult(i);
+						parsedUnit = parseTasks.getParsedUnit(i);
+						this.stats.waitTime += System.currentTimeMillis() - parseStart;
+					} else if (this.totalUnits < this.parseThreshold) {
+						unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
 						parsedUnit = this.parser.parse(sourceUnits[i], unitResult);
 					} else {
+						unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
 						unitResult.cacheSource();
 						parsedUnit = this.parser.dietParse(sourceUnits[i], unitResult);
 					}
@@ -778,7 +814,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 				}
 			}
 		} finally { // especially on AbortCompilation
+			if (parseTasks != null) {
+				parseTasks.close();
+			}
 			if (this.parser.readManager != null) {
+				this.stats.readWaitTime += this.parser.readManager.getWaitTime();
 				this.parser.readManager.shutdown();
 				this.parser.readManager = null;
 			}
@@ -828,7 +868,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		// finalize problems (suppressWarnings)
 		unit.finalizeProblems();
 
-		this.stats.generateTime += System.currentTimeMillis() - generateStart;
+		long generateEnd = System.currentTimeMillis();
+		this.stats.generateTime += generateEnd - generateStart;
+		this.stats.sourceLength += unit.sourceEnd + 1;
+		this.stats.classFileCount += unit.compilationResult.compiledTypes.size();
+		if (this.stats.unitStats != null) {
+			this.stats.unitStats.add(new CompilerStats.UnitStats(new String(unit.getFileName()), unit.sourceEnd + 1,
+					resolveStart - parseStart, analyzeStart - resolveStart, generateStart - analyzeStart, generateEnd - generateStart));
+		}
 
 		// refresh the total number of units known at this stage
 		unit.compilationResult.totalUnitsKnown = this.totalUnits;
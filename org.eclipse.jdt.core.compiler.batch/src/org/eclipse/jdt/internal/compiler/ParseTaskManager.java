@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+
+/**
+ * Parses a list of ICompilationUnit on worker threads, so that the compiler can build the type bindings of the
+ * parsed units in their original order while the following units are still being parsed.
+ * Each worker uses its own {@link Parser}, created by {@link Compiler#createWorkerParser()}.
+ */
+public class ParseTaskManager implements AutoCloseable {
+
+	/** Threads are created on demand and reused on subsequent compilations **/
+	private static final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "Compiler Parser"); //$NON-NLS-1$
+		t.setDaemon(true);
+		return t;
+	});
+
+	private final Compiler compiler;
+	private final ICompilationUnit[] sourceUnits;
+	private final CompilationResult[] results;
+	private final boolean[] fullParse;
+	private final List<CompletableFuture<CompilationUnitDeclaration>> parsedUnits;
+	private final AtomicInteger nextUnit = new AtomicInteger();
+	private final List<Future<?>> workers;
+	private volatile boolean parsing;
+
+	/**
+	 * Answers a manager parsing the given units with {@link Compiler#parsingThreads} workers, or null if the units
+	 * should be parsed by the compiling thread.
+	 */
+	public static ParseTaskManager create(Compiler compiler, ICompilationUnit[] sourceUnits, int length) {
+		int threads = Math.min(compiler.parsingThreads, length);
+		if (threads <= 1 || !compiler.supportsWorkerParsers()) {
+			return null;
+		}
+		return new ParseTaskManager(compiler, sourceUnits, length, threads);
+	}
+
+	private ParseTaskManager(Compiler compiler, ICompilationUnit[] sourceUnits, int length, int threads) {
+		this.compiler = compiler;
+		this.sourceUnits = sourceUnits.clone(); // the compiler releases its references while building bindings
+		this.results = new CompilationResult[length];
+		this.fullParse = new boolean[length];
+		this.parsedUnits = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) {
+			CompilationResult unitResult = new CompilationResult(sourceUnits[i], i, length, compiler.options.maxProblemsPerUnit);
+			// same decision as a sequential parse: units are appended one after the other while parsing
+			this.fullParse[i] = compiler.totalUnits + i < compiler.parseThreshold;
+			if (!this.fullParse[i]) {
+				unitResult.cacheSource();
+			}
+			this.results[i] = unitResult;
+			this.parsedUnits.add(new CompletableFuture<>());
+		}
+		this.parsing = true;
+		this.workers = new ArrayList<>(threads);
+		for (int i = 0; i < threads; i++) {
+			this.workers.add(executor.submit(this::parsing));
+		}
+	}
+
+	private void parsing() {
+		// the parser has to be created by the thread using it, see Scanner's CharDeduplication
+		Parser parser = this.compiler.createWorkerParser();
+		int length = this.results.length;
+		int index;
+		while (this.parsing && (index = this.nextUnit.getAndIncrement()) < length) {
+			CompletableFuture<CompilationUnitDeclaration> parsedUnit = this.parsedUnits.get(index);
+			try {
+				ICompilationUnit sourceUnit = this.sourceUnits[index];
+				this.sourceUnits[index] = null;
+				parsedUnit.complete(this.fullParse[index]
+						? parser.parse(sourceUnit, this.results[index])
+						: parser.dietParse(sourceUnit, this.results[index]));
+			} catch (Error | RuntimeException uncheckedThrowable) {
+				parsedUnit.completeExceptionally(uncheckedThrowable);
+			}
+		}
+	}
+
+	/** the compilation result the unit at the given index is parsed into **/
+	public CompilationResult getCompilationResult(int index) {
+		return this.results[index];
+	}
+
+	/** blocks until the unit at the given index is parsed, rethrowing whatever its parser threw **/
+	public CompilationUnitDeclaration getParsedUnit(int index) throws Error, AbortCompilation {
+		try {
+			return this.parsedUnits.get(index).get();
+		} catch (InterruptedException interrupt) {
+			throw new AbortCompilation(true/* silent */, new RuntimeException(interrupt));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Error err) {
+				throw err;
+			}
+			if (e.getCause() instanceof RuntimeException ex) {
+				throw ex;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	@Override
+	public void close() {
+		// On exceptional handling (error/cancel) the workers could be still running.
+		// stop them:
+		this.parsing = false;
+		for (Future<?> worker : this.workers) {
+			worker.cancel(true);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,8 @@ public class ProcessTaskManager implements AutoCloseable {
 	private final BlockingQueue<Object> units;
 
 	private static final int PROCESSED_QUEUE_SIZE = 100;
+	/** threads holding class files at the same time: the processing task generating them, and the compiling thread writing them **/
+	private static final int CLASS_FILE_THREADS = 2;
 	private static final Object STOP_SIGNAL = new Object();
 
 	/** Normally a single thread is created an reused on subsequent builds **/
@@ -54,6 +56,7 @@ public class ProcessTaskManager implements AutoCloseable {
 		this.startingIndex = startingIndex;
 
 		this.units = new ArrayBlockingQueue<>(PROCESSED_QUEUE_SIZE);
+		compiler.lookupEnvironment.classFilePool.ensureCapacityForThreads(CLASS_FILE_THREADS);
 		this.processing = true;
 		this.processingTask = executor.submit(this::processing);
 	}
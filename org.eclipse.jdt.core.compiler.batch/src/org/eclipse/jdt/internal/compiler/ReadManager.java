@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,8 @@ public class ReadManager {
 
 	private final Queue<ICompilationUnit> unitsToRead;
 	private final Map<ICompilationUnit, Future<char[]>> cache = new ConcurrentHashMap<>();
+	/** nanoseconds the compiling thread waited for contents which were not read ahead yet **/
+	private long waitTime;
 
 	public ReadManager(ICompilationUnit[] files, int length) {
 		this.unitsToRead = new ArrayDeque<>(length);
@@ -92,7 +94,12 @@ public class ReadManager {
 			// in most cases future is already completed
 			// Otherwise, when read ahead is slower then compiler,
 			// wait for completion to avoid extra work of reading files multiple times:
-			return getWithFuture(future);
+			long waitStart = System.nanoTime();
+			try {
+				return getWithFuture(future);
+			} finally {
+				this.waitTime += System.nanoTime() - waitStart;
+			}
 		} catch (InterruptedException ignored) {
 			return getWhileInterrupted(unit);
 		} catch (ExecutionException e) {
@@ -113,6 +120,11 @@ public class ReadManager {
 		return future.get();
 	}
 
+	/** Answers the milliseconds {@link #getContents(ICompilationUnit)} waited for contents being read ahead **/
+	public long getWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.waitTime);
+	}
+
 	private char[] getWithoutExecutor(ICompilationUnit unit) {
 		// THREAD_COUNT==0 => no read ahead
 		return unit.getContents();
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+
+/**
+ * A cache of the class files decoded from archives, shared by the compilations running in the same VM, so that
+ * consecutive compilations on the same dependencies (e.g. multiple modules of a build, or requests to a
+ * {@link CompileServer}) decode each class file once.
+ * <p>
+ * Entries are keyed by archive path, time stamp and length, and entry name, so a changed archive is read again.
+ * The cache keeps at most a given number of entries, least recently used ones being evicted first, and only softly
+ * references them so that they are released under memory pressure, the entries of released readers being removed on
+ * the next access. Cached readers are fully initialized and never
+ * modified afterwards, which lets concurrent compilations share them.
+ * </p>
+ * The cache is disabled unless a maximum size is set, either through the <code>jdt.compiler.binaryTypeCacheSize</code>
+ * system property or by {@link #setMaximumSize(int)}.
+ */
+public final class BinaryTypeCache {
+
+	private static volatile BinaryTypeCache instance = create(Integer.getInteger("jdt.compiler.binaryTypeCacheSize", 0).intValue()); //$NON-NLS-1$
+
+	/**
+	 * Identifies an archive as it was when opened.
+	 */
+	record Archive(String path, long lastModified, long length) {}
+	private record Key(Archive archive, String entryName) {}
+	private static final class Entry extends SoftReference<ClassFileReader> {
+		final Key key;
+		Entry(Key key, ClassFileReader reader, ReferenceQueue<ClassFileReader> queue) {
+			super(reader, queue);
+			this.key = key;
+		}
+	}
+
+	private final Map<Key, Entry> entries;
+	/** entries whose reader was released **/
+	private final ReferenceQueue<ClassFileReader> releasedEntries = new ReferenceQueue<>();
+
+	private BinaryTypeCache(int maximumSize) {
+		this.entries = new LinkedHashMap<>(Math.min(maximumSize, 1024), 0.75f, true /* access order */) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	private static BinaryTypeCache create(int maximumSize) {
+		return maximumSize > 0 ? new BinaryTypeCache(maximumSize) : null;
+	}
+
+	/**
+	 * Answers the shared cache, or null if it is disabled.
+	 */
+	public static BinaryTypeCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Replaces the shared cache by an empty one holding at most the given number of types, 0 disabling it.
+	 */
+	public static void setMaximumSize(int maximumSize) {
+		instance = create(maximumSize);
+	}
+
+	synchronized ClassFileReader get(Archive archive, String entryName) {
+		removeReleasedEntries();
+		Entry entry = this.entries.get(new Key(archive, entryName));
+		return entry == null ? null : entry.get();
+	}
+
+	synchronized void put(Archive archive, String entryName, ClassFileReader reader) {
+		removeReleasedEntries();
+		Key key = new Key(archive, entryName);
+		this.entries.put(key, new Entry(key, reader, this.releasedEntries));
+	}
+
+	private void removeReleasedEntries() {
+		for (Reference<? extends ClassFileReader> released; (released = this.releasedEntries.poll()) != null;) {
+			Entry entry = (Entry) released;
+			// unless already replaced by a new entry
+			this.entries.remove(entry.key, entry);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipException;
+
+/**
+ * Writes the class files of a compilation into a jar file, as requested by a destination path naming a jar (e.g.
+ * <code>-d out.jar</code>). The class files are compressed and written by a dedicated thread through a buffered
+ * stream, so that the compiling thread only hands over their contents, and no file is created per class.
+ * <p>
+ * All entries get the same time stamp, so that compiling the same sources twice creates the same jar file.
+ * </p>
+ */
+public class ClassFileJarWriter implements Closeable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/** number of class files handed over and not written yet, before the compiling thread waits **/
+	private static final int QUEUE_SIZE = 1000;
+	/** time stamp of all the entries, the earliest one zip files can hold in local time, as reproducible builds use **/
+	private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+	/** Threads are created on demand and reused on subsequent compilations **/
+	private static final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "Compiler Jar Writer"); //$NON-NLS-1$
+		t.setDaemon(true);
+		return t;
+	});
+
+	private record Entry(String name, byte[] contents) {}
+	private static final Entry END = new Entry(null, null);
+
+	private final BlockingQueue<Entry> entries = new ArrayBlockingQueue<>(QUEUE_SIZE);
+	/** compiling thread only **/
+	private final Set<String> names = new HashSet<>();
+	private final Future<?> writer;
+	private volatile IOException failure;
+
+	/**
+	 * Creates or replaces the given jar file, and its parent directories if needed.
+	 */
+	public ClassFileJarWriter(String path) throws IOException {
+		File file = new File(path).getAbsoluteFile();
+		File parent = file.getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs() && !parent.isDirectory()) {
+			throw new IOException("Cannot create directory " + parent); //$NON-NLS-1$
+		}
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+		JarOutputStream output = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+		try {
+			// not given to the constructor, which would time stamp the manifest with the current time
+			output.putNextEntry(newEntry(JarFile.MANIFEST_NAME));
+			manifest.write(output);
+			output.closeEntry();
+		} catch (IOException e) {
+			output.close();
+			throw e;
+		}
+		this.writer = executor.submit(() -> writing(output));
+	}
+
+	/**
+	 * Hands the contents of a class file over to the writing thread.
+	 *
+	 * @param entryName the name of the entry, using '/' as separator
+	 * @throws IOException if the entry was already written, or if writing a previous entry failed
+	 */
+	public void write(String entryName, byte[] contents) throws IOException {
+		IOException previousFailure = this.failure;
+		if (previousFailure != null)
+			throw previousFailure;
+		if (!this.names.add(entryName))
+			throw new ZipException("duplicate entry: " + entryName); //$NON-NLS-1$
+		put(new Entry(entryName, contents));
+	}
+
+	private void put(Entry entry) throws InterruptedIOException {
+		try {
+			this.entries.put(entry);
+		} catch (InterruptedException e) {
+			throw new InterruptedIOException();
+		}
+	}
+
+	private void writing(JarOutputStream output) {
+		try {
+			for (Entry entry = take(); entry != END; entry = take()) {
+				if (this.failure != null)
+					continue; // keep taking the entries so that the compiling thread never waits
+				try {
+					output.putNextEntry(newEntry(entry.name()));
+					output.write(entry.contents());
+					output.closeEntry();
+				} catch (IOException e) {
+					this.failure = e;
+				}
+			}
+		} finally {
+			try {
+				output.close();
+			} catch (IOException e) {
+				if (this.failure == null)
+					this.failure = e;
+			}
+		}
+	}
+
+	private static JarEntry newEntry(String name) {
+		JarEntry entry = new JarEntry(name);
+		entry.setTimeLocal(ENTRY_TIME);
+		return entry;
+	}
+
+	private Entry take() {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return this.entries.take();
+				} catch (InterruptedException e) {
+					// the compiling thread waits for the end of the entries
+					interrupted = true;
+				}
+			}
+		} finally {
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Waits until all the class files are written, and completes the jar file.
+	 *
+	 * @throws IOException if writing a class file or completing the jar file failed
+	 */
+	@Override
+	public void close() throws IOException {
+		put(END);
+		try {
+			this.writer.get();
+		} catch (InterruptedException e) {
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
+		}
+		if (this.failure != null)
+			throw this.failure;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,9 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -53,6 +55,22 @@ protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
 protected List<String> annotationPaths;
 
+/**
+ * Package names of the jars read so far, kept across compilations when enabled by a long-lived compiler (see
+ * {@link CompileServer}). An entry is only reused while the jar has the same time stamp and length.
+ */
+private static volatile Map<File, SharedPackageCache> sharedPackageCaches;
+private record SharedPackageCache(long lastModified, long length, Set<String> packageNames) {}
+
+private BinaryTypeCache.Archive archive; // identifies this jar in the BinaryTypeCache
+
+/**
+ * Enables or disables sharing the package names of jar files across compilations.
+ */
+public static void sharePackageCaches(boolean share) {
+	sharedPackageCaches = share ? new ConcurrentHashMap<>() : null;
+}
+
 public ClasspathJar(File file, boolean closeZipFileAtEnd,
 		AccessRuleSet accessRuleSet, String destinationPath) {
 	super(accessRuleSet, destinationPath);
@@ -112,7 +130,7 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 		return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = readClassFile(qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
@@ -149,6 +167,28 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 	}
 	return null;
 }
+/**
+ * Reads the given class file from this jar, or answers it from the {@link BinaryTypeCache} when enabled.
+ */
+protected ClassFileReader readClassFile(String qualifiedBinaryFileName) throws ClassFormatException, IOException {
+	BinaryTypeCache cache = BinaryTypeCache.getInstance();
+	if (cache == null || this.module != null) {
+		// readers of modular jars get their module name assigned, they can't be shared
+		return ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+	}
+	if (this.archive == null) {
+		this.archive = new BinaryTypeCache.Archive(getPath(), this.file.lastModified(), this.file.length());
+	}
+	ClassFileReader reader = cache.get(this.archive, qualifiedBinaryFileName);
+	if (reader == null) {
+		// fully initialized: shared readers are not decoded lazily
+		reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName, true);
+		if (reader != null) {
+			cache.put(this.archive, qualifiedBinaryFileName, reader);
+		}
+	}
+	return reader;
+}
 @Override
 public boolean hasAnnotationFileFor(String qualifiedTypeName) {
 	if (this.zipFile == null)
@@ -230,6 +270,17 @@ public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageN
 	if (this.packageCache != null)
 		return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 
+	Map<File, SharedPackageCache> shared = sharedPackageCaches;
+	long lastModified = 0, length = 0;
+	if (shared != null) {
+		lastModified = this.file.lastModified();
+		length = this.file.length();
+		SharedPackageCache cached = shared.get(this.file);
+		if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+			this.packageCache = cached.packageNames();
+			return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
+		}
+	}
 	this.packageCache = new HashSet<>(41);
 	this.packageCache.add(Util.EMPTY_STRING);
 
@@ -237,6 +288,10 @@ public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageN
 		String fileName = e.nextElement().getName();
 		addToPackageCache(fileName, false);
 	}
+	if (shared != null) {
+		// never modified once complete
+		shared.put(this.file, new SharedPackageCache(lastModified, length, this.packageCache));
+	}
 	return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 }
 @Override
@@ -290,6 +345,7 @@ public void reset() {
 	}
 	this.packageCache = null;
 	this.annotationPaths = null;
+	this.archive = null;
 }
 @Override
 public String toString() {
@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * A long-lived batch compiler answering compilation requests on a local socket, so that consecutive compilations
+ * share a warmed-up JVM, the JRT images and {@code ct.sym} contents already cached by {@link FileSystem}, and the
+ * package names of the jars on the classpath (see {@link ClasspathJar#sharePackageCaches(boolean)}), which are
+ * read again only when the jar changed. Unless configured otherwise, the server also enables the
+ * {@link BinaryTypeCache}.
+ * <p>
+ * Each request carries the command line arguments of a {@link Main} invocation, and is answered with its output,
+ * error output and exit status. Requests are compiled one after the other. Relative paths are resolved against the
+ * working directory of the server, clients should pass absolute paths.
+ * </p>
+ * <p>
+ * The socket is bound to the loopback address only. Since a request may run annotation processors and write files
+ * as the user running the server, a request is only answered when it starts with a secret token, which the server
+ * writes to a file only readable by its owner (see {@link #getTokenFile()}). Requests without the token, larger than
+ * the server accepts or not sent in time are dropped without an answer.
+ * </p>
+ * Usage: <code>java org.eclipse.jdt.internal.compiler.batch.CompileServer [-port &lt;port&gt;]</code>, the port
+ * and the path of the token file being printed on standard output, one per line, once the server accepts requests.
+ * {@link #compile(int, Path, String[], PrintWriter, PrintWriter)} sends a request.
+ */
+public class CompileServer implements Closeable {
+
+	private static final int DEFAULT_BINARY_TYPE_CACHE_SIZE = 100000;
+	private static final int TOKEN_LENGTH = 32;
+	/** limits of a request, so that a malformed request cannot exhaust the memory of the server **/
+	private static final int MAX_ARGUMENTS = 1 << 16;
+	private static final int MAX_REQUEST_LENGTH = 1 << 26; // bytes of all the arguments together
+	/** milliseconds a client may take to send its request, as requests are answered one after the other **/
+	private static final int REQUEST_TIMEOUT = 60000;
+
+	private final ServerSocket serverSocket;
+	private final byte[] token;
+	private final Path tokenFile;
+
+	/**
+	 * Binds a server to the given port of the loopback address, 0 for any free port, and writes its token to a new
+	 * temporary file, deleted when the server is closed or else when the JVM exits normally.
+	 */
+	public CompileServer(int port) throws IOException {
+		this.token = new byte[TOKEN_LENGTH];
+		new SecureRandom().nextBytes(this.token);
+		FileAttribute<?>[] ownerOnly = FileSystems.getDefault().supportedFileAttributeViews().contains("posix") //$NON-NLS-1$
+				? new FileAttribute<?>[] { PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")) } //$NON-NLS-1$
+				: new FileAttribute<?>[0]; // the temporary directory of the user
+		this.tokenFile = Files.createTempFile("ecj-server", ".token", ownerOnly); //$NON-NLS-1$ //$NON-NLS-2$
+		this.tokenFile.toFile().deleteOnExit(); // e.g. the server is interrupted without being closed
+		try {
+			Files.writeString(this.tokenFile, HexFormat.of().formatHex(this.token), StandardCharsets.US_ASCII);
+			this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(this.tokenFile);
+			throw e;
+		}
+	}
+
+	public int getPort() {
+		return this.serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Answers the file holding the token clients must send with their requests, only readable by the owner of the
+	 * server.
+	 */
+	public Path getTokenFile() {
+		return this.tokenFile;
+	}
+
+	/**
+	 * Answers requests until this server is closed.
+	 */
+	public void serve() throws IOException {
+		ClasspathJar.sharePackageCaches(true);
+		boolean enableBinaryTypeCache = BinaryTypeCache.getInstance() == null && Integer.getInteger("jdt.compiler.binaryTypeCacheSize") == null; //$NON-NLS-1$
+		if (enableBinaryTypeCache) {
+			BinaryTypeCache.setMaximumSize(DEFAULT_BINARY_TYPE_CACHE_SIZE);
+		}
+		try {
+			while (!this.serverSocket.isClosed()) {
+				try (Socket socket = this.serverSocket.accept()) {
+					handle(socket);
+				} catch (IOException e) {
+					if (this.serverSocket.isClosed())
+						return;
+					// connection dropped by the client, or malformed request, serve the next one
+				} catch (RuntimeException e) {
+					// this request fails, keep serving
+				}
+			}
+		} finally {
+			ClasspathJar.sharePackageCaches(false);
+			if (enableBinaryTypeCache) {
+				BinaryTypeCache.setMaximumSize(0);
+			}
+		}
+	}
+
+	private void handle(Socket socket) throws IOException {
+		socket.setSoTimeout(REQUEST_TIMEOUT);
+		DataInputStream in = new DataInputStream(socket.getInputStream());
+		if (!MessageDigest.isEqual(this.token, readBytes(in, TOKEN_LENGTH)))
+			throw new IOException("Invalid token"); //$NON-NLS-1$
+		String[] arguments = new String[readLength(in, MAX_ARGUMENTS)];
+		int remainingLength = MAX_REQUEST_LENGTH;
+		for (int i = 0; i < arguments.length; i++) {
+			byte[] bytes = readBytes(in, readLength(in, remainingLength));
+			remainingLength -= bytes.length;
+			arguments[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		socket.setSoTimeout(0);
+		StringWriter out = new StringWriter();
+		StringWriter err = new StringWriter();
+		boolean success;
+		try {
+			success = new Main(new PrintWriter(out), new PrintWriter(err), false /* systemExit */, null /* options */, null /* progress */).compile(arguments);
+		} catch (RuntimeException | LinkageError e) {
+			// keep serving, this request fails
+			e.printStackTrace(new PrintWriter(err, true));
+			success = false;
+		}
+		DataOutputStream answer = new DataOutputStream(socket.getOutputStream());
+		writeString(answer, out.toString());
+		writeString(answer, err.toString());
+		answer.writeInt(success ? 0 : -1);
+		answer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			this.serverSocket.close();
+		} finally {
+			Files.deleteIfExists(this.tokenFile);
+		}
+	}
+
+	/**
+	 * Compiles the given command line arguments with the server listening to the given port of the loopback address.
+	 *
+	 * @param tokenFile the file holding the token of the server, see {@link #getTokenFile()}
+	 * @return the exit status of the compilation, 0 if it succeeded, as the batch compiler would exit with
+	 */
+	public static int compile(int port, Path tokenFile, String[] arguments, PrintWriter outWriter, PrintWriter errWriter) throws IOException {
+		byte[] token;
+		try {
+			token = HexFormat.of().parseHex(Files.readString(tokenFile, StandardCharsets.US_ASCII).trim());
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Invalid token file " + tokenFile, e); //$NON-NLS-1$
+		}
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			DataOutputStream request = new DataOutputStream(socket.getOutputStream());
+			request.write(token);
+			request.writeInt(arguments.length);
+			for (String argument : arguments) {
+				writeString(request, argument);
+			}
+			request.flush();
+			DataInputStream answer = new DataInputStream(socket.getInputStream());
+			outWriter.print(readString(answer, Integer.MAX_VALUE));
+			outWriter.flush();
+			errWriter.print(readString(answer, Integer.MAX_VALUE));
+			errWriter.flush();
+			return answer.readInt();
+		}
+	}
+
+	// DataOutput#writeUTF is limited to 64K, which long class paths or outputs can exceed
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in, int maxLength) throws IOException {
+		return new String(readBytes(in, readLength(in, maxLength)), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(DataInputStream in, int length) throws IOException {
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	private static int readLength(DataInputStream in, int maxLength) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > maxLength)
+			throw new IOException("Invalid length " + length); //$NON-NLS-1$
+		return length;
+	}
+
+	public static void main(String[] argv) throws IOException {
+		int port = 0;
+		if (argv.length == 2 && argv[0].equals("-port")) { //$NON-NLS-1$
+			port = Integer.parseInt(argv[1]);
+		} else if (argv.length != 0) {
+			System.err.println("Usage: CompileServer [-port <port>]"); //$NON-NLS-1$
+			System.exit(-1);
+		}
+		try (CompileServer server = new CompileServer(port)) {
+			System.out.println(server.getPort());
+			System.out.println(server.getTokenFile());
+			System.out.flush();
+			server.serve();
+		}
+	}
+}
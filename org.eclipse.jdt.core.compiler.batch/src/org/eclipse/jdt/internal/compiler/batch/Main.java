@@ -38,15 +38,18 @@ import java.io.*;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.text.MessageFormat;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationProgress;
@@ -695,6 +698,40 @@ public class Main implements ProblemSeverities, SuffixConstants {
 				}));
 		}
 
+		public void logNoJarFileCreated(String fileName, IOException e) {
+			if ((this.tagBits & Logger.XML) != 0) {
+				HashMap<String, Object> parameters = new HashMap<>();
+				parameters.put(Logger.MESSAGE, this.main.bind("output.noJarFileCreated", //$NON-NLS-1$
+					new String[] {
+						fileName,
+						e.getMessage()
+					}));
+				printTag(Logger.ERROR_TAG, parameters, true, true);
+			}
+			this.printlnErr(this.main.bind("output.noJarFileCreated", //$NON-NLS-1$
+				new String[] {
+					fileName,
+					e.getMessage()
+				}));
+		}
+
+		public void logNoTimingFileCreated(String fileName, IOException e) {
+			if ((this.tagBits & Logger.XML) != 0) {
+				HashMap<String, Object> parameters = new HashMap<>();
+				parameters.put(Logger.MESSAGE, this.main.bind("output.noTimingFileCreated", //$NON-NLS-1$
+					new String[] {
+						fileName,
+						e.getMessage()
+					}));
+				printTag(Logger.ERROR_TAG, parameters, true, true);
+			}
+			this.printlnErr(this.main.bind("output.noTimingFileCreated", //$NON-NLS-1$
+				new String[] {
+					fileName,
+					e.getMessage()
+				}));
+		}
+
 		public void logNumberOfClassFilesGenerated(int exportedClassFilesCounter) {
 			if ((this.tagBits & Logger.XML) != 0) {
 				HashMap<String, Object> parameters = new HashMap<>();
@@ -1340,7 +1377,14 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	//          source files;
 	// == Main.NONE: absorbent element, do not output class files;
 	// else: use as the path of the directory into which class files must
-	//       be written.
+	//       be written, or of the jar file they must be written into if it
+	//       ends with .jar and no directory of that name exists.
+	/** writers of the destination paths naming jar files, by path, created on first class file written **/
+	private Map<String, ClassFileJarWriter> jarWriters;
+	/** whether the destination paths ending with .jar name jar files, by path, for the current compilation **/
+	private Map<String, Boolean> jarDestinations;
+	/** temporary directory of the files created by the Filer when -d names a jar file, null otherwise **/
+	private File filerOutputDirectory;
 	protected boolean enablePreview;
 	protected String releaseVersion;
 	private boolean didSpecifySource;
@@ -1387,6 +1431,12 @@ public class Main implements ProblemSeverities, SuffixConstants {
 
 	public int timing = TIMING_DISABLED;
 	public CompilerStats[] compilerStats;
+	/** file the statistics of each compilation are written to as JSON (-time:json=&lt;file&gt;), or null **/
+	public String timingJsonFile;
+	/** statistics of the repetitions of the current compilation, all written to {@link #timingJsonFile} **/
+	private List<CompilerStats> timingJsonStats;
+	/** when set, receives the statistics of each compilation, including per unit phase times **/
+	public Consumer<CompilerStats> compilerStatsListener;
 	public boolean verbose = false;
 	private String[] expandedCommandLine;
 
@@ -2153,6 +2203,11 @@ public void configure(String[] argv) {
 					this.timing = TIMING_ENABLED|TIMING_DETAILED;
 					continue;
 				}
+				if (currentArg.startsWith("-time:json=")) { //$NON-NLS-1$
+					mode = DEFAULT;
+					this.timingJsonFile = currentArg.substring("-time:json=".length()); //$NON-NLS-1$
+					continue;
+				}
 				if (currentArg.equals("-version") //$NON-NLS-1$
 						|| currentArg.equals("-v")) { //$NON-NLS-1$
 					this.logger.logVersion(true);
@@ -4579,7 +4634,7 @@ protected void initializeAnnotationProcessorManager() {
 	try {
 		Class<?> c = Class.forName(className);
 		AbstractAnnotationProcessorManager annotationManager = (AbstractAnnotationProcessorManager) c.getDeclaredConstructor().newInstance();
-		annotationManager.configure(this, this.expandedCommandLine);
+		annotationManager.configure(this, getAnnotationProcessingCommandLine());
 		annotationManager.setErr(this.err);
 		annotationManager.setOut(this.out);
 		this.batchCompiler.annotationProcessorManager = annotationManager;
@@ -4594,6 +4649,26 @@ protected void initializeAnnotationProcessorManager() {
 		this.logger.logIncorrectVMVersionForAnnotationProcessing();
 	}
 }
+/*
+ * The Filer cannot create its files in the jar file named by -d, so it is given a temporary directory instead,
+ * whose files are added to the jar file once the compilation is done (see addFilerOutput()).
+ */
+private String[] getAnnotationProcessingCommandLine() {
+	if (this.destinationPath == null || this.destinationPath == NONE || !isJarDestination(this.destinationPath))
+		return this.expandedCommandLine;
+	try {
+		this.filerOutputDirectory = Files.createTempDirectory("ecj").toFile(); //$NON-NLS-1$
+	} catch (IOException e) {
+		this.logger.logNoJarFileCreated(this.destinationPath, e);
+		throw new org.eclipse.jdt.internal.compiler.problem.AbortCompilation();
+	}
+	String[] commandLine = this.expandedCommandLine.clone();
+	for (int i = 0; i < commandLine.length - 1; i++) {
+		if ("-d".equals(commandLine[i])) //$NON-NLS-1$
+			commandLine[++i] = this.filerOutputDirectory.getPath();
+	}
+	return commandLine;
+}
 private static boolean isParentOf(char[] folderName, char[] fileName) {
 	if (folderName.length >= fileName.length) {
 		return false;
@@ -4640,6 +4715,10 @@ public void outputClassFiles(CompilationResult unitResult) {
 			generateClasspathStructure = true;
 		} // else leave currentDestinationPath null
 		if (currentDestinationPath != null) {
+			if (generateClasspathStructure && isJarDestination(currentDestinationPath)) {
+				outputClassFiles(classFiles, currentDestinationPath);
+				return;
+			}
 			for (ClassFile classFile : classFiles) {
 				char[] filename = classFile.fileName();
 				int length = filename.length;
@@ -4675,6 +4754,104 @@ public void outputClassFiles(CompilationResult unitResult) {
 		}
 	}
 }
+/*
+ * A destination path ending with .jar names a jar file, unless a directory of that name exists, which keeps
+ * receiving the class files as before. Checked once per compilation, before the jar file is created.
+ */
+private boolean isJarDestination(String destinationPath) {
+	if (!destinationPath.regionMatches(true, destinationPath.length() - 4, ".jar", 0, 4)) //$NON-NLS-1$
+		return false;
+	if (this.jarDestinations == null) {
+		this.jarDestinations = new HashMap<>();
+	}
+	return this.jarDestinations.computeIfAbsent(destinationPath, path -> !new File(path).isDirectory()).booleanValue();
+}
+private ClassFileJarWriter getJarWriter(String jarPath) throws IOException {
+	if (this.jarWriters == null) {
+		this.jarWriters = new HashMap<>();
+	}
+	ClassFileJarWriter writer = this.jarWriters.get(jarPath);
+	if (writer == null) {
+		writer = new ClassFileJarWriter(jarPath);
+		this.jarWriters.put(jarPath, writer);
+	}
+	return writer;
+}
+private void outputClassFiles(ClassFile[] classFiles, String jarPath) {
+	ClassFileJarWriter writer = null;
+	IOException creationFailure = null;
+	try {
+		writer = getJarWriter(jarPath);
+	} catch (IOException e) {
+		creationFailure = e;
+	}
+	for (ClassFile classFile : classFiles) {
+		String entryName = new String(CharOperation.concat(classFile.fileName(), SuffixConstants.SUFFIX_class));
+		try {
+			if (creationFailure != null)
+				throw creationFailure;
+			if (this.compilerOptions.verbose)
+				this.out.println(
+					Messages.bind(
+						Messages.compilation_write,
+						new String[] {
+							String.valueOf(this.exportedClassFilesCounter+1),
+							entryName
+						}));
+			// the bytes are copied before the class file goes back to the pool
+			writer.write(entryName, classFile.getBytes());
+			this.logger.logClassFile(true, jarPath, entryName.replace('/', File.separatorChar));
+			this.exportedClassFilesCounter++;
+		} catch (IOException e) {
+			this.logger.logNoClassFileCreated(jarPath, entryName, e);
+		}
+	}
+	this.batchCompiler.lookupEnvironment.releaseClassFiles(classFiles);
+}
+/*
+ * Adds the files created by the Filer in its temporary directory to the jar file named by -d, and deletes them.
+ */
+private void addFilerOutput() {
+	File directory = this.filerOutputDirectory;
+	if (directory == null)
+		return;
+	this.filerOutputDirectory = null;
+	List<Path> files = new ArrayList<>();
+	try (Stream<Path> paths = Files.walk(directory.toPath())) {
+		paths.forEach(files::add);
+	} catch (IOException e) {
+		this.logger.logNoJarFileCreated(this.destinationPath, e);
+	}
+	// children before their parents, so that the directories are empty when deleted
+	files.sort(Comparator.reverseOrder());
+	for (Path file : files) {
+		if (Files.isRegularFile(file)) {
+			String entryName = directory.toPath().relativize(file).toString().replace(File.separatorChar, '/');
+			try {
+				getJarWriter(this.destinationPath).write(entryName, Files.readAllBytes(file));
+			} catch (IOException e) {
+				this.logger.logNoClassFileCreated(this.destinationPath, entryName, e);
+			}
+		}
+		file.toFile().delete();
+	}
+}
+/*
+ * Waits until the jar files of the destination paths are written.
+ */
+private void closeJarWriters() {
+	this.jarDestinations = null;
+	if (this.jarWriters == null)
+		return;
+	for (Map.Entry<String, ClassFileJarWriter> entry : this.jarWriters.entrySet()) {
+		try {
+			entry.getValue().close();
+		} catch (IOException e) {
+			this.logger.logNoJarFileCreated(entry.getKey(), e);
+		}
+	}
+	this.jarWriters = null;
+}
 /*
  *  Low-level API performing the actual compilation
  */
@@ -4699,6 +4876,7 @@ public void performCompilation() {
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		this.batchCompiler.parsingThreads = Integer.getInteger("jdt.compiler.parsingThreads", 1).intValue(); //$NON-NLS-1$
 
 		if (this.compilerOptions.processAnnotations) {
 			initializeAnnotationProcessorManager();
@@ -4711,11 +4889,16 @@ public void performCompilation() {
 		// set the non-externally configurable options.
 		this.compilerOptions.verbose = this.verbose;
 		this.compilerOptions.produceReferenceInfo = this.produceRefInfo;
+		if (this.timingJsonFile != null || this.compilerStatsListener != null) {
+			this.batchCompiler.stats.unitStats = new ArrayList<>();
+		}
 		try {
 			this.logger.startLoggingSources();
 			this.batchCompiler.compile(getCompilationUnits());
 		} finally {
 			this.logger.endLoggingSources();
+			addFilerOutput();
+			closeJarWriters();
 		}
 
 		if (this.extraProblems != null) {
@@ -4725,6 +4908,26 @@ public void performCompilation() {
 		if (this.compilerStats != null) {
 			this.compilerStats[this.currentRepetition] = this.batchCompiler.stats;
 		}
+		if (this.timingJsonFile != null) {
+			if (this.currentRepetition == 0 || this.timingJsonStats == null)
+				this.timingJsonStats = new ArrayList<>(this.maxRepetition);
+			this.timingJsonStats.add(this.batchCompiler.stats);
+			// written again after each repetition, so that the file holds the completed ones if a repetition fails
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(this.timingJsonFile), Util.UTF_8)) {
+				writer.write('[');
+				for (int i = 0, length = this.timingJsonStats.size(); i < length; i++) {
+					if (i > 0)
+						writer.write(',');
+					this.timingJsonStats.get(i).writeJson(writer);
+				}
+				writer.write(']');
+			} catch (IOException e) {
+				this.logger.logNoTimingFileCreated(this.timingJsonFile, e);
+			}
+		}
+		if (this.compilerStatsListener != null) {
+			this.compilerStatsListener.accept(this.batchCompiler.stats);
+		}
 		this.logger.printStats();
 	}
 	finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -163,7 +163,7 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 	}
 	try (InputStream stream = zip.getInputStream(ze)) {
 		URI uri =  URI.create("jar:file://" + toUri(zip.getName()).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
-		ClassFileReader classFileReader = new ClassFileReader(uri, Util.getInputStreamAsByteArray(stream),
+		ClassFileReader classFileReader = new ClassFileReader(uri, Util.getInputStreamAsByteArray(stream, ze.getSize()),
 				filename.toCharArray());
 		if (fullyInitialize) {
 			classFileReader.initialize();
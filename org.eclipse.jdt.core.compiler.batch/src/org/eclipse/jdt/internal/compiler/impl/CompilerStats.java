@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.impl;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
 @SuppressWarnings("rawtypes")
 public class CompilerStats implements Comparable {
 
@@ -28,6 +32,29 @@ public class CompilerStats implements Comparable {
 	public long analyzeTime;
 	public long generateTime;
 
+	// time the compiling thread spent waiting for units parsed or processed by worker threads
+	public long waitTime;
+	// time the compiling thread spent waiting for source files read ahead by the ReadManager
+	public long readWaitTime;
+
+	// counts
+	public long sourceLength; // characters of the processed units
+	public int classFileCount;
+	public int sourceTypeCount; // source type bindings built, including member types
+	public int binaryTypeCount; // binary type bindings created
+	public long inferenceCount; // inference contexts solved (JLS 18.5)
+
+	/**
+	 * Phase times of each processed unit, in processing order. Only collected when not null, as set by clients
+	 * before compiling.
+	 */
+	public List<UnitStats> unitStats;
+
+	/**
+	 * Times spent in each phase on a single unit, parse time being the time to parse its method bodies.
+	 */
+	public record UnitStats(String fileName, long sourceLength, long parseTime, long resolveTime, long analyzeTime, long generateTime) {}
+
 /**
  * Returns the total elapsed time (between start and end)
  * @return the time spent between start and end
@@ -36,6 +63,74 @@ public long elapsedTime() {
 	return this.overallTime;
 }
 
+/**
+ * Writes these statistics as a JSON object, times being in milliseconds.
+ */
+public void writeJson(Writer writer) throws IOException {
+	writer.write('{');
+	writeJsonField(writer, "elapsedTime", elapsedTime()); //$NON-NLS-1$
+	writeJsonField(writer, "lineCount", this.lineCount); //$NON-NLS-1$
+	writeJsonField(writer, "parseTime", this.parseTime); //$NON-NLS-1$
+	writeJsonField(writer, "resolveTime", this.resolveTime); //$NON-NLS-1$
+	writeJsonField(writer, "analyzeTime", this.analyzeTime); //$NON-NLS-1$
+	writeJsonField(writer, "generateTime", this.generateTime); //$NON-NLS-1$
+	writeJsonField(writer, "waitTime", this.waitTime); //$NON-NLS-1$
+	writeJsonField(writer, "readWaitTime", this.readWaitTime); //$NON-NLS-1$
+	writeJsonField(writer, "sourceLength", this.sourceLength); //$NON-NLS-1$
+	writeJsonField(writer, "classFileCount", this.classFileCount); //$NON-NLS-1$
+	writeJsonField(writer, "sourceTypeCount", this.sourceTypeCount); //$NON-NLS-1$
+	writeJsonField(writer, "binaryTypeCount", this.binaryTypeCount); //$NON-NLS-1$
+	writeJsonField(writer, "inferenceCount", this.inferenceCount); //$NON-NLS-1$
+	writer.write("\"units\":["); //$NON-NLS-1$
+	if (this.unitStats != null) {
+		for (int i = 0, length = this.unitStats.size(); i < length; i++) {
+			UnitStats unit = this.unitStats.get(i);
+			if (i > 0)
+				writer.write(',');
+			writer.write("{\"fileName\":"); //$NON-NLS-1$
+			writeJsonString(writer, unit.fileName());
+			writer.write(',');
+			writeJsonField(writer, "sourceLength", unit.sourceLength()); //$NON-NLS-1$
+			writeJsonField(writer, "parseTime", unit.parseTime()); //$NON-NLS-1$
+			writeJsonField(writer, "resolveTime", unit.resolveTime()); //$NON-NLS-1$
+			writeJsonField(writer, "analyzeTime", unit.analyzeTime()); //$NON-NLS-1$
+			writer.write("\"generateTime\":"); //$NON-NLS-1$
+			writer.write(String.valueOf(unit.generateTime()));
+			writer.write('}');
+		}
+	}
+	writer.write("]}"); //$NON-NLS-1$
+}
+
+private static void writeJsonField(Writer writer, String name, long value) throws IOException {
+	writer.write('"');
+	writer.write(name);
+	writer.write("\":"); //$NON-NLS-1$
+	writer.write(String.valueOf(value));
+	writer.write(',');
+}
+
+private static void writeJsonString(Writer writer, String value) throws IOException {
+	writer.write('"');
+	for (int i = 0, length = value.length(); i < length; i++) {
+		char c = value.charAt(i);
+		switch (c) {
+			case '"' :
+			case '\\' :
+				writer.write('\\');
+				writer.write(c);
+				break;
+			default :
+				if (c < 0x20) {
+					writer.write(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+				} else {
+					writer.write(c);
+				}
+		}
+	}
+	writer.write('"');
+}
+
 @Override
 public int compareTo(Object o) {
 	CompilerStats otherStats = (CompilerStats) o;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -476,6 +476,8 @@ public class ClassScope extends Scope {
 
 		SourceTypeBinding sourceType = this.referenceContext.binding;
 		sourceType.module = module();
+		if (environment().root.stats != null)
+			environment().root.stats.sourceTypeCount++;
 		environment().setAccessRestriction(sourceType, accessRestriction);
 		ICompilationUnit compilationUnit = this.referenceContext.compilationResult.getCompilationUnit();
 		if (compilationUnit != null && compilerOptions().isAnnotationBasedNullAnalysisEnabled) {
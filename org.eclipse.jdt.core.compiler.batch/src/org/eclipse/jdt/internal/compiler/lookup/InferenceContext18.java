@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2025 GK Software AG, and others.
+ * Copyright (c) 2013, 2026 GK Software AG, and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1040,6 +1040,8 @@ public class InferenceContext18 {
 	 */
 	private /*@Nullable*/ BoundSet solve(boolean inferringApplicability, Location location) throws InferenceFailureException
 	{
+		if (this.environment.root.stats != null)
+			this.environment.root.stats.inferenceCount++;
 		CapturingContext.enter(location.sourceStart(), location.sourceEnd(), this.scope);
 		boolean isRecordPatternTypeInference = location instanceof RecordPattern;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.function.Consumer;
 import javax.annotation.processing.Processor;
 import javax.lang.model.SourceVersion;
 import javax.tools.DiagnosticListener;
@@ -40,6 +41,7 @@ import javax.tools.StandardJavaFileManager;
 import javax.tools.StandardLocation;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
 
 /**
  * Implementation of a batch compiler that supports the jsr199
@@ -58,6 +60,8 @@ public class EclipseCompiler implements JavaCompiler {
 
 	WeakHashMap<Thread, EclipseCompilerImpl> threadCache;
 	public DiagnosticListener<? super JavaFileObject> diagnosticListener;
+	/** when set, receives the statistics of each compilation run by this compiler, see {@link Main#compilerStatsListener} **/
+	public Consumer<CompilerStats> compilerStatsListener;
 
 	public static final RuntimeException UNEXPECTED_CONTROL_FLOW = new RuntimeException() { private static final long serialVersionUID = 1L; };
 	public static final RuntimeException UNSUPPORTED_OPERATION = new RuntimeException() { private static final long serialVersionUID = 1L; };
@@ -118,6 +122,7 @@ public class EclipseCompiler implements JavaCompiler {
 				eclipseCompiler2.compilationUnits.add(javaFileObject);
 		}
 		eclipseCompiler2.diagnosticListener = someDiagnosticListener;
+		eclipseCompiler2.compilerStatsListener = this.compilerStatsListener;
 		if (fileManager != null) {
 			eclipseCompiler2.fileManager = fileManager;
 		} else {
@@ -243,12 +248,14 @@ public class EclipseCompiler implements JavaCompiler {
 	 */
 	@Override
 	public int run(InputStream in, OutputStream out, OutputStream err, String... arguments) {
-		boolean succeed = new Main(
+		Main main = new Main(
 				new PrintWriter(new OutputStreamWriter(out != null ? out : System.out)),
 				new PrintWriter(new OutputStreamWriter(err != null ? err : System.err)),
 				true/* systemExit */,
 				null/* options */,
-				null/* progress */).compile(arguments);
+				null/* progress */);
+		main.compilerStatsListener = this.compilerStatsListener;
+		boolean succeed = main.compile(arguments);
 		return succeed ? 0 : -1;
 	}
 
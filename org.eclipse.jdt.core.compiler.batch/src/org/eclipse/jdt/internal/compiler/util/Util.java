@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -443,6 +443,39 @@ public class Util implements SuffixConstants {
 		return input.readAllBytes(); // will have even slighly better performance as of JDK17+ see JDK-8264777
 	}
 
+	/** largest array allocated upfront for an expected length, which may come from a corrupt or hostile archive **/
+	private static final int MAX_PREALLOCATED_LENGTH = 8 * 1024 * 1024;
+
+	/**
+	 * Returns the given input stream's contents as a byte array, reading directly into an array of the expected
+	 * length when it is known, instead of accumulating buffers and copying them as
+	 * {@link InputStream#readAllBytes()} does for streams not knowing their length (like inflating ones).
+	 * All bytes in the stream are returned, even if their number does not match the expected length. Only the
+	 * first 8MB of an expected length are allocated upfront, the array grows as larger contents are actually read.
+	 * Note this doesn't close the stream.
+	 * @param expectedLength the number of bytes the stream is expected to answer, -1 if unknown
+	 * @throws IOException if a problem occurred reading the stream.
+	 */
+	public static byte[] getInputStreamAsByteArray(InputStream input, long expectedLength) throws IOException {
+		if (expectedLength < 0) {
+			return input.readAllBytes();
+		}
+		byte[] contents = new byte[(int) Math.min(expectedLength, MAX_PREALLOCATED_LENGTH)];
+		int length = input.readNBytes(contents, 0, contents.length);
+		if (length < contents.length) {
+			return Arrays.copyOf(contents, length);
+		}
+		int next = input.read();
+		if (next == -1) {
+			return contents; // common case
+		}
+		byte[] remaining = input.readAllBytes();
+		byte[] allContents = Arrays.copyOf(contents, length + 1 + remaining.length);
+		allContents[length] = (byte) next;
+		System.arraycopy(remaining, 0, allContents, length + 1, remaining.length);
+		return allContents;
+	}
+
 	/**
 	 * Returns the given input stream's first bytes as array.
 	 * Note this doesn't close the stream.
@@ -594,7 +627,7 @@ public class Util implements SuffixConstants {
 		try (InputStream inputStream = zip.getInputStream(ze)) {
 			if (inputStream == null)
 				throw new IOException("Invalid zip entry name : " + ze.getName()); //$NON-NLS-1$
-			return inputStream.readAllBytes();
+			return getInputStreamAsByteArray(inputStream, ze.getSize());
 		}
 	}
 
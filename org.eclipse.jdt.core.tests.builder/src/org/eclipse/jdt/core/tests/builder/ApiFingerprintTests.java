@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.builder;
+
+import junit.framework.Test;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.core.builder.State;
+
+/**
+ * Tests that the dependents of a changed class file of a prerequisite project are only compiled when the API of its
+ * type changed, whatever the structural changes of the class file.
+ */
+public class ApiFingerprintTests extends BuilderTests {
+
+	private static final String A =
+		"package p;\n" + //$NON-NLS-1$
+		"@SuppressWarnings(\"unused\")\n" + //$NON-NLS-1$
+		"public class A {\n" + //$NON-NLS-1$
+		"	public static final int CONSTANT = 1;\n" + //$NON-NLS-1$
+		"	public int field;\n" + //$NON-NLS-1$
+		"	public void first() {}\n" + //$NON-NLS-1$
+		"	public void second() {}\n" + //$NON-NLS-1$
+		"	private void hidden() {}\n" + //$NON-NLS-1$
+		"}"; //$NON-NLS-1$
+
+	private IPath project1Path;
+	private IPath project2Path;
+	private IPath root1;
+
+	public ApiFingerprintTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildTestSuite(ApiFingerprintTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.project1Path = env.addProject("Project1"); //$NON-NLS-1$
+		env.addExternalJars(this.project1Path, Util.getJavaClassLibs());
+		this.root1 = env.getPackageFragmentRootPath(this.project1Path, ""); //$NON-NLS-1$
+		env.addClass(this.root1, "p", "A", A); //$NON-NLS-1$ //$NON-NLS-2$
+		env.addClass(this.root1, "p", "Other", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"@SuppressWarnings(\"unused\")\n" +
+			"public class Other {\n" +
+			"	private int hidden;\n" +
+			"}"); //$NON-NLS-1$
+
+		this.project2Path = env.addProject("Project2"); //$NON-NLS-1$
+		env.addExternalJars(this.project2Path, Util.getJavaClassLibs());
+		env.addRequiredProject(this.project2Path, this.project1Path);
+		IPath root2 = env.getPackageFragmentRootPath(this.project2Path, ""); //$NON-NLS-1$
+		env.addClass(root2, "q", "UseA", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class UseA {\n" +
+			"	int use(p.A a) {\n" +
+			"		a.first();\n" +
+			"		return p.A.CONSTANT + a.field;\n" +
+			"	}\n" +
+			"}"); //$NON-NLS-1$
+		env.addClass(root2, "q", "UseOther", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class UseOther {\n" +
+			"	p.Other other;\n" +
+			"}"); //$NON-NLS-1$
+		fullBuild();
+		expectingNoProblems();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		env.removeProject(this.project2Path);
+		env.removeProject(this.project1Path);
+		super.tearDown();
+	}
+
+	private void changeA(String source) {
+		env.addClass(this.root1, "p", "A", source); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	public void testPrivateChange() {
+		changeA(A.replace("private void hidden() {}", "private int hidden;\n	private void hidden(int i) {}")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild();
+		expectingNoProblems();
+		expectingCompiledClasses(new String[] {"p.A"}); //$NON-NLS-1$
+	}
+
+	public void testReorderedMembers() {
+		changeA(
+			"package p;\n" +
+			"@SuppressWarnings(\"unused\")\n" +
+			"public class A {\n" +
+			"	private void hidden() {}\n" +
+			"	public void second() {}\n" +
+			"	public void first() {}\n" +
+			"	public int field;\n" +
+			"	public static final int CONSTANT = 1;\n" +
+			"}"); //$NON-NLS-1$
+		incrementalBuild();
+		expectingNoProblems();
+		expectingCompiledClasses(new String[] {"p.A"}); //$NON-NLS-1$
+	}
+
+	public void testSignatureChange() {
+		changeA(A.replace("public void second() {}", "public int second() { return 0; }")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild();
+		expectingNoProblems();
+		expectingCompiledClasses(new String[] {"p.A", "q.UseA"}); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	public void testConstantChange() {
+		changeA(A.replace("CONSTANT = 1", "CONSTANT = 2")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild();
+		expectingNoProblems();
+		expectingCompiledClasses(new String[] {"p.A", "q.UseA"}); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	public void testAnnotationChange() {
+		changeA(A.replace("public void second() {}", "@Deprecated public void second() {}")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild();
+		expectingNoProblems();
+		expectingCompiledClasses(new String[] {"p.A", "q.UseA"}); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	public void testChangeBuiltTwice() {
+		// the structurally changed types of the prerequisite project are only known for its last build
+		changeA(A.replace("private void hidden() {}", "private void hidden(int i) {}")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild(this.project1Path);
+		changeA(A.replace("private void hidden() {}", "private void hidden(long l) {}")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild(this.project1Path);
+		expectingCompiledClasses(new String[] {"p.A"}); //$NON-NLS-1$
+		incrementalBuild(this.project2Path);
+		expectingNoProblems();
+		expectingCompiledClasses(new String[0]);
+
+		changeA(A.replace("public int field;", "public int field, other;")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild(this.project1Path);
+		changeA(A.replace("public int field;", "public int field, other;\n	private int hidden;")); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild(this.project1Path);
+		incrementalBuild(this.project2Path);
+		expectingNoProblems();
+		expectingCompiledClasses(new String[] {"q.UseA"}); //$NON-NLS-1$
+	}
+
+	public void testFullBuildOfPrerequisite() {
+		// a full build writes every class file again, but keeps when the API of each type last changed
+		fullBuild(this.project1Path);
+		expectingNoProblems();
+		incrementalBuild(this.project2Path);
+		expectingNoProblems();
+		expectingCompiledClasses(new String[0]);
+
+		changeA(A.replace("public void second() {}", "public int second() { return 0; }")); //$NON-NLS-1$ //$NON-NLS-2$
+		fullBuild(this.project1Path);
+		incrementalBuild(this.project2Path);
+		expectingNoProblems();
+		expectingCompiledClasses(new String[] {"q.UseA"}); //$NON-NLS-1$
+	}
+
+	public void testMoreThanMaxStructurallyChangedTypes() {
+		int max = State.MaxStructurallyChangedTypes;
+		State.MaxStructurallyChangedTypes = 0;
+		try {
+			// the structurally changed types of the prerequisite project are not kept beyond the first one
+			changeA(A.replace("private void hidden() {}", "private void hidden(int i) {}")); //$NON-NLS-1$ //$NON-NLS-2$
+			env.addClass(this.root1, "p", "Other", //$NON-NLS-1$ //$NON-NLS-2$
+				"package p;\n" +
+				"@SuppressWarnings(\"unused\")\n" +
+				"public class Other {\n" +
+				"	private long hidden;\n" +
+				"}"); //$NON-NLS-1$
+			incrementalBuild();
+			expectingNoProblems();
+			expectingCompiledClasses(new String[] {"p.A", "p.Other"}); //$NON-NLS-1$ //$NON-NLS-2$
+
+			changeA(A.replace("public int field;", "public int field, other;\n	private int hidden;")); //$NON-NLS-1$ //$NON-NLS-2$
+			env.addClass(this.root1, "p", "Other", //$NON-NLS-1$ //$NON-NLS-2$
+				"package p;\n" +
+				"@SuppressWarnings(\"unused\")\n" +
+				"public class Other {\n" +
+				"	private long hidden, other;\n" +
+				"}"); //$NON-NLS-1$
+			incrementalBuild();
+			expectingNoProblems();
+			expectingCompiledClasses(new String[] {"p.A", "p.Other", "q.UseA"}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		} finally {
+			State.MaxStructurallyChangedTypes = max;
+		}
+	}
+}
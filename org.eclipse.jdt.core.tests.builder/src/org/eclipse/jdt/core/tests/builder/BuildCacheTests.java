@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.builder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import junit.framework.Test;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.core.builder.IBuildCacheStore;
+import org.eclipse.jdt.internal.core.builder.JavaBuilder;
+import org.eclipse.jdt.internal.core.builder.LocalBuildCacheStore;
+
+/**
+ * Builds a project with a build cache, and checks that its full builds restore the source files which were compiled
+ * before with the same dependencies, and compile the others, as if the build cache was not used.
+ */
+public class BuildCacheTests extends BuilderTests {
+
+	private static final String[] ALL_CLASSES = {"p.A", "p.B", "p.C"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private IBuildCacheStore buildCacheStore;
+	private MemoryStore store;
+	private IPath projectPath;
+	private IPath root;
+
+	/**
+	 * A build cache store in memory, which counts its reads and writes.
+	 */
+	static class MemoryStore implements IBuildCacheStore {
+
+		final Map<String, byte[]> values = new ConcurrentHashMap<>();
+		final AtomicInteger gets = new AtomicInteger();
+		final AtomicInteger puts = new AtomicInteger();
+
+		@Override
+		public byte[] get(String key) {
+			this.gets.incrementAndGet();
+			return this.values.get(key);
+		}
+
+		@Override
+		public void put(String key, byte[] value) {
+			this.puts.incrementAndGet();
+			this.values.put(key, value);
+		}
+	}
+
+	public BuildCacheTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildTestSuite(BuildCacheTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.buildCacheStore = JavaBuilder.BUILD_CACHE_STORE;
+		JavaBuilder.BUILD_CACHE_STORE = this.store = new MemoryStore();
+
+		this.projectPath = env.addProject("Project"); //$NON-NLS-1$
+		env.addExternalJars(this.projectPath, Util.getJavaClassLibs());
+		env.removePackageFragmentRoot(this.projectPath, ""); //$NON-NLS-1$
+		this.root = env.addPackageFragmentRoot(this.projectPath, "src"); //$NON-NLS-1$
+		env.setOutputFolder(this.projectPath, "bin"); //$NON-NLS-1$
+		changeA("public void run() {}"); //$NON-NLS-1$
+		env.addClass(this.root, "p", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class B {\n" +
+			"	void use(A a) {\n" +
+			"		a.run();\n" +
+			"	}\n" +
+			"}"); //$NON-NLS-1$
+		changeC(""); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		JavaBuilder.BUILD_CACHE_STORE = this.buildCacheStore;
+		env.removeProject(this.projectPath);
+		super.tearDown();
+	}
+
+	private void changeA(String member) {
+		env.addClass(this.root, "p", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class A {\n" +
+			"	" + member + "\n" +
+			"}"); //$NON-NLS-1$
+	}
+
+	private void changeC(String statement) {
+		env.addClass(this.root, "p", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class C {\n" +
+			"	void warn() {\n" +
+			"		int unused = 0;\n" +
+			"		" + statement + "\n" +
+			"	}\n" +
+			"}"); //$NON-NLS-1$
+	}
+
+	private static String problems() {
+		Problem[] problems = env.getProblems();
+		String[] strings = new String[problems.length];
+		for (int i = 0; i < problems.length; i++)
+			strings[i] = problems[i].toString();
+		Arrays.sort(strings);
+		return String.join("\n", strings); //$NON-NLS-1$
+	}
+
+	/**
+	 * Verifies that the problems of the last build are the ones of a full build without the build cache.
+	 */
+	private void expectingProblemsOfUncachedBuild() {
+		String problems = problems();
+		JavaBuilder.BUILD_CACHE_STORE = null;
+		try {
+			fullBuild(this.projectPath);
+		} finally {
+			JavaBuilder.BUILD_CACHE_STORE = this.store;
+		}
+		assertEquals("Unexpected problems of a cached build", problems(), problems); //$NON-NLS-1$
+	}
+
+	private void expectingErrorsFor(IPath path, int errors) {
+		int errorCount = 0;
+		for (Problem problem : env.getProblemsFor(path))
+			if (problem.getSeverity() == IMarker.SEVERITY_ERROR)
+				errorCount++;
+		assertEquals("Unexpected errors of " + path, errors, errorCount); //$NON-NLS-1$
+	}
+
+	private IPath pathOf(String typeName) {
+		return this.root.append("p").append(typeName + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	public void testCacheHit() {
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(ALL_CLASSES);
+		String problems = problems();
+		assertEquals("Unexpected problems:\n" + problems, 1, env.getProblemsFor(pathOf("C")).length); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("Results not stored", this.store.values.isEmpty()); //$NON-NLS-1$
+
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(new String[0]);
+		assertEquals("Unexpected problems of restored source files", problems, problems()); //$NON-NLS-1$
+		expectingPresenceOf(new IPath[] {
+			this.projectPath.append("bin/p/A.class"), //$NON-NLS-1$
+			this.projectPath.append("bin/p/B.class"), //$NON-NLS-1$
+			this.projectPath.append("bin/p/C.class") //$NON-NLS-1$
+		});
+
+		// the restored state finds the dependents of a changed type
+		changeA("public void run() {}\n	public void other() {}"); //$NON-NLS-1$
+		incrementalBuild(this.projectPath);
+		expectingCompiledClasses(new String[] {"p.A", "p.B"}); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Unexpected problems after an incremental build", problems, problems()); //$NON-NLS-1$
+	}
+
+	public void testSourceChange() {
+		fullBuild(this.projectPath);
+		changeC("unused++;"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(new String[] {"p.C"}); //$NON-NLS-1$
+		expectingProblemsOfUncachedBuild();
+	}
+
+	public void testDependencyApiChange() {
+		fullBuild(this.projectPath);
+		expectingErrorsFor(pathOf("B"), 0); //$NON-NLS-1$
+
+		// B is restored, then compiled again since it was compiled against another API of A
+		changeA("public void run(int i) {}"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(new String[] {"p.A", "p.B"}); //$NON-NLS-1$ //$NON-NLS-2$
+		expectingErrorsFor(pathOf("B"), 1); //$NON-NLS-1$
+		expectingProblemsOfUncachedBuild();
+
+		// back on the first branch, B finds the result compiled against the first API of A
+		changeA("public void run() {}"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(new String[0]);
+		expectingErrorsFor(pathOf("B"), 0); //$NON-NLS-1$
+		expectingProblemsOfUncachedBuild();
+	}
+
+	public void testTypeAddedOnAnotherBranch() {
+		env.addClass(this.root, "p", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class B {\n" +
+			"	Missing missing;\n" +
+			"}"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingErrorsFor(pathOf("B"), 1); //$NON-NLS-1$
+
+		// the restored result of B does not depend on the added type, which it references
+		env.addClass(this.root, "p", "Missing", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class Missing {\n" +
+			"}"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(new String[] {"p.B", "p.Missing"}); //$NON-NLS-1$ //$NON-NLS-2$
+		expectingErrorsFor(pathOf("B"), 0); //$NON-NLS-1$
+		expectingProblemsOfUncachedBuild();
+
+		// the most recent result of B depends on the removed type
+		env.removeClass(this.root.append("p"), "Missing"); //$NON-NLS-1$ //$NON-NLS-2$
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(new String[] {"p.B"}); //$NON-NLS-1$
+		expectingErrorsFor(pathOf("B"), 1); //$NON-NLS-1$
+		expectingProblemsOfUncachedBuild();
+	}
+
+	public void testDuplicates() {
+		changeA("}\nclass Dup {"); //$NON-NLS-1$
+		env.addClass(this.root, "p", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class B {\n" +
+			"}"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingErrorsFor(this.projectPath, 0);
+
+		// on another branch, B defines the type instead of A
+		changeA(""); //$NON-NLS-1$
+		env.addClass(this.root, "p", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class B {\n" +
+			"}\n" +
+			"class Dup {\n" +
+			"}"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingErrorsFor(this.projectPath, 0);
+
+		// both results are found, but the result of B is not restored since A defines the type first
+		changeA("}\nclass Dup {"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		String[] compiledFiles = this.debugRequestor.getCompiledFiles();
+		assertEquals("Unexpected compiled files: " + Arrays.toString(compiledFiles), 1, compiledFiles.length); //$NON-NLS-1$
+		assertTrue("Unexpected compiled file: " + compiledFiles[0], compiledFiles[0].endsWith("/p/B.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		expectingErrorsFor(pathOf("A"), 0); //$NON-NLS-1$
+		expectingErrorsFor(pathOf("B"), 1); //$NON-NLS-1$
+		expectingPresenceOf(this.projectPath.append("bin/p/Dup.class")); //$NON-NLS-1$
+	}
+
+	public void testDisabledWithoutStore() {
+		JavaBuilder.BUILD_CACHE_STORE = null;
+		fullBuild(this.projectPath);
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(ALL_CLASSES);
+		assertEquals("Unexpected reads", 0, this.store.gets.get()); //$NON-NLS-1$
+		assertEquals("Unexpected writes", 0, this.store.puts.get()); //$NON-NLS-1$
+	}
+
+	public void testDisabledWithClassFolder() throws Exception {
+		// the class files of a class folder are not digested
+		IPath classFolderPath = env.addFolder(this.projectPath, "classes"); //$NON-NLS-1$
+		env.addClassFolder(this.projectPath, classFolderPath, false);
+		fullBuild(this.projectPath);
+		expectingNoProblemsFor(this.root.append("p/A.java")); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(ALL_CLASSES);
+		assertEquals("Unexpected reads", 0, this.store.gets.get()); //$NON-NLS-1$
+		assertEquals("Unexpected writes", 0, this.store.puts.get()); //$NON-NLS-1$
+	}
+
+	public void testPackageInfoNotCached() {
+		// the problems of a package-info file may be reported on its package
+		env.addClass(this.root, "p", "package-info", //$NON-NLS-1$ //$NON-NLS-2$
+			"@Deprecated\n" +
+			"package p;"); //$NON-NLS-1$
+		fullBuild(this.projectPath);
+		fullBuild(this.projectPath);
+		expectingCompiledClasses(new String[] {"p.package-info"}); //$NON-NLS-1$
+		expectingProblemsOfUncachedBuild();
+	}
+
+	public void testJarChange() throws IOException, JavaModelException {
+		Path directory = Files.createTempDirectory("buildCache"); //$NON-NLS-1$
+		try {
+			Path jar = directory.resolve("lib.jar"); //$NON-NLS-1$
+			Util.createJar(new String[] {
+					"q/Lib.java", //$NON-NLS-1$
+					"package q;\n" +
+					"public class Lib {\n" +
+					"	public static void run() {}\n" +
+					"}" //$NON-NLS-1$
+				},
+				jar.toString(),
+				"1.8"); //$NON-NLS-1$
+			env.addExternalJar(this.projectPath, jar.toString());
+			changeC("q.Lib.run();"); //$NON-NLS-1$
+			fullBuild(this.projectPath);
+			expectingErrorsFor(pathOf("C"), 0); //$NON-NLS-1$
+
+			// the jar is replaced by another one with the same time stamp, the results compiled against it are not restored
+			FileTime lastModified = Files.getLastModifiedTime(jar);
+			Files.delete(jar);
+			Util.createJar(new String[] {
+					"q/Lib.java", //$NON-NLS-1$
+					"package q;\n" +
+					"public class Lib {\n" +
+					"	public static void runAgain() {}\n" +
+					"}" //$NON-NLS-1$
+				},
+				jar.toString(),
+				"1.8"); //$NON-NLS-1$
+			Files.setLastModifiedTime(jar, lastModified);
+			fullBuild(this.projectPath);
+			expectingCompiledClasses(ALL_CLASSES);
+			expectingErrorsFor(pathOf("C"), 1); //$NON-NLS-1$
+			expectingProblemsOfUncachedBuild();
+		} finally {
+			try (Stream<Path> files = Files.walk(directory)) {
+				files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	public void testLocalStoreTrim() throws IOException {
+		Path directory = Files.createTempDirectory("buildCache"); //$NON-NLS-1$
+		try {
+			LocalBuildCacheStore localStore = new LocalBuildCacheStore(directory, 1000);
+			for (int i = 0; i < 5; i++)
+				localStore.put("key" + i, new byte[200]); //$NON-NLS-1$
+			// the values were last used in the order of their keys
+			long lastUsed = System.currentTimeMillis() - 24 * 60 * 60 * 1000;
+			for (int i = 0; i < 5; i++)
+				Files.setLastModifiedTime(directory.resolve("ke").resolve("y" + i), FileTime.fromMillis(lastUsed + i * 1000)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNotNull("Missing value", localStore.get("key0")); //$NON-NLS-1$ //$NON-NLS-2$
+
+			// the store exceeds its maximum size, and is trimmed to 3/4 of it
+			localStore.put("key5", new byte[200]); //$NON-NLS-1$
+			for (int i = 1; i < 4; i++)
+				assertNull("Unexpected value " + i, localStore.get("key" + i)); //$NON-NLS-1$ //$NON-NLS-2$
+			for (int i : new int[] {0, 4, 5})
+				assertNotNull("Missing value " + i, localStore.get("key" + i)); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			try (Stream<Path> files = Files.walk(directory)) {
+				files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+}
@@ -543,6 +543,10 @@ public class BuilderTests extends TestCase {
 			FriendDependencyTests.class,
 			ReferenceCollectionTest.class,
 			StateTest.class,
+			ReferenceIndexTest.class,
+			ApiFingerprintTests.class,
+			ParallelBuildTests.class,
+			BuildCacheTests.class,
 			CompressedWriterTest.class,
 			TestAttributeBuilderTests.class,
 			Bug530366Test.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,7 +27,7 @@ public class EfficiencyCompilerRequestor implements IDebugRequestor {
 	private final ArrayList<ClassFile> classes = new ArrayList<>();
 
 
-	public void acceptDebugResult(CompilationResult result){
+	public synchronized void acceptDebugResult(CompilationResult result){
 		this.compiledFiles.add(new String(result.fileName));
 		ClassFile[] classFiles = result.getClassFiles();
 		Util.sort(classFiles, new Util.Comparer() {
@@ -45,18 +45,18 @@ public class EfficiencyCompilerRequestor implements IDebugRequestor {
 		}
 	}
 
-	String[] getCompiledClasses(){
+	synchronized String[] getCompiledClasses(){
 		return this.compiledClasses.toArray(new String[this.compiledClasses.size()]);
 	}
 
-	String[] getCompiledFiles(){
+	synchronized String[] getCompiledFiles(){
 		return this.compiledFiles.toArray(new String[this.compiledFiles.size()]);
 	}
-	public ClassFile[] getClassFiles() {
+	public synchronized ClassFile[] getClassFiles() {
 		return this.classes.toArray(new ClassFile[this.classes.size()]);
 	}
 
-	public void clearResult(){
+	public synchronized void clearResult(){
 		this.compiledClasses.clear();
 		this.compiledFiles.clear();
 		this.classes.clear();
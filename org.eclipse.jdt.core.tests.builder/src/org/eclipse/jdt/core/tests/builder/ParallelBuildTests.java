@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.builder;
+
+import java.util.Arrays;
+import junit.framework.Test;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.core.builder.JavaBuilder;
+
+/**
+ * Builds sibling projects which depend on the same project concurrently, and checks that they get the problems of a
+ * sequential build.
+ */
+public class ParallelBuildTests extends BuilderTests {
+
+	private static final int SIBLINGS = 6;
+
+	private IPath basePath;
+	private IPath baseRoot;
+	private IPath[] siblingPaths;
+	private boolean parallelBuild;
+	private int maxConcurrentBuilds;
+
+	public ParallelBuildTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildTestSuite(ParallelBuildTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IWorkspaceDescription description = env.getWorkspace().getDescription();
+		this.maxConcurrentBuilds = description.getMaxConcurrentBuilds();
+		this.parallelBuild = JavaBuilder.PARALLEL_BUILD;
+
+		this.basePath = env.addProject("Base"); //$NON-NLS-1$
+		env.addExternalJars(this.basePath, Util.getJavaClassLibs());
+		this.baseRoot = env.getPackageFragmentRootPath(this.basePath, ""); //$NON-NLS-1$
+		changeBase(false);
+		this.siblingPaths = new IPath[SIBLINGS];
+		for (int i = 0; i < SIBLINGS; i++) {
+			IPath siblingPath = this.siblingPaths[i] = env.addProject("Sibling" + i); //$NON-NLS-1$
+			env.addExternalJars(siblingPath, Util.getJavaClassLibs());
+			env.addRequiredProject(siblingPath, this.basePath);
+			env.addClass(env.getPackageFragmentRootPath(siblingPath, ""), "q", "User" + i, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"package q;\n" +
+				"public class User" + i + " {\n" +
+				"	void use(p.Base base) {\n" +
+				"		int unused = 0;\n" +
+				"		base.used();\n" +
+				"		base.missing();\n" +
+				"	}\n" +
+				"}"); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		setParallelBuild(this.parallelBuild, this.maxConcurrentBuilds);
+		for (IPath siblingPath : this.siblingPaths)
+			env.removeProject(siblingPath);
+		env.removeProject(this.basePath);
+		super.tearDown();
+	}
+
+	private void changeBase(boolean withMissing) {
+		env.addClass(this.baseRoot, "p", "Base", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class Base {\n" +
+			"	public void used() {}\n" +
+			(withMissing ? "	public void missing() {}\n" : "") + //$NON-NLS-1$ //$NON-NLS-2$
+			"}"); //$NON-NLS-1$
+	}
+
+	private static void setParallelBuild(boolean parallel, int maxConcurrentBuilds) throws CoreException {
+		IWorkspaceDescription description = env.getWorkspace().getDescription();
+		description.setMaxConcurrentBuilds(maxConcurrentBuilds);
+		env.getWorkspace().setDescription(description);
+		JavaBuilder.PARALLEL_BUILD = parallel;
+	}
+
+	private static String problems() {
+		Problem[] problems = env.getProblems();
+		String[] strings = new String[problems.length];
+		for (int i = 0; i < problems.length; i++)
+			strings[i] = problems[i].toString();
+		Arrays.sort(strings);
+		return String.join("\n", strings); //$NON-NLS-1$
+	}
+
+	private void expectingProblemCounts(int errors, int warnings) {
+		for (IPath siblingPath : this.siblingPaths) {
+			int errorCount = 0, warningCount = 0;
+			for (Problem problem : env.getProblemsFor(siblingPath)) {
+				if (problem.getSeverity() == IMarker.SEVERITY_ERROR)
+					errorCount++;
+				else if (problem.getSeverity() == IMarker.SEVERITY_WARNING)
+					warningCount++;
+			}
+			assertEquals("Unexpected errors of " + siblingPath, errors, errorCount); //$NON-NLS-1$
+			assertEquals("Unexpected warnings of " + siblingPath, warnings, warningCount); //$NON-NLS-1$
+		}
+		expectingNoProblemsFor(this.basePath);
+	}
+
+	public void testFullBuild() throws CoreException {
+		setParallelBuild(false, 1);
+		fullBuild();
+		String sequentialProblems = problems();
+		expectingProblemCounts(1, 1);
+
+		setParallelBuild(true, SIBLINGS);
+		fullBuild();
+		assertEquals("Unexpected problems of a parallel build", sequentialProblems, problems()); //$NON-NLS-1$
+		expectingProblemCounts(1, 1);
+	}
+
+	public void testIncrementalBuild() throws CoreException {
+		setParallelBuild(true, SIBLINGS);
+		fullBuild();
+		expectingProblemCounts(1, 1);
+
+		// the siblings are built after the project they depend on, and their problems are fixed
+		changeBase(true);
+		incrementalBuild();
+		expectingProblemCounts(0, 1);
+		String[] compiledClasses = new String[SIBLINGS + 1];
+		compiledClasses[SIBLINGS] = "p.Base"; //$NON-NLS-1$
+		for (int i = 0; i < SIBLINGS; i++)
+			compiledClasses[i] = "q.User" + i; //$NON-NLS-1$
+		expectingCompiledClasses(compiledClasses);
+
+		changeBase(false);
+		incrementalBuild();
+		expectingProblemCounts(1, 1);
+		expectingCompiledClasses(compiledClasses);
+	}
+}
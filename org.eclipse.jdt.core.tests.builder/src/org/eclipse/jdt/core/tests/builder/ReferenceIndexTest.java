@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.builder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import junit.framework.Test;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.builder.JavaBuilder;
+import org.eclipse.jdt.internal.core.builder.ReferenceCollection;
+import org.eclipse.jdt.internal.core.builder.State;
+
+/**
+ * Tests the inverted index of the references of a build state, which answers the source files affected by a change
+ * during an incremental build, against a scan of all the references of the state.
+ */
+public class ReferenceIndexTest extends BuilderTests {
+
+	private static final int USERS = 50;
+
+	public ReferenceIndexTest(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildTestSuite(ReferenceIndexTest.class);
+	}
+
+	private IPath addProject() throws JavaModelException {
+		IPath projectPath = env.addProject("Project"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.removePackageFragmentRoot(projectPath, ""); //$NON-NLS-1$
+		IPath root = env.addPackageFragmentRoot(projectPath, "src"); //$NON-NLS-1$
+		env.setOutputFolder(projectPath, "bin"); //$NON-NLS-1$
+		return root;
+	}
+
+	private void changeA(IPath root, int fields) {
+		StringBuilder source = new StringBuilder("package p;\npublic class A {\n"); //$NON-NLS-1$
+		for (int i = 0; i < fields; i++)
+			source.append("	public int f").append(i).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		env.addClass(root, "p", "A", source.append("}").toString()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private static State getState(IPath projectPath) {
+		return (State) JavaModelManager.getJavaModelManager().getLastBuiltState(env.getProject(projectPath), null);
+	}
+
+	private static Object getReferenceIndex(State state) throws Exception {
+		Field field = State.class.getDeclaredField("referenceIndex"); //$NON-NLS-1$
+		field.setAccessible(true);
+		return field.get(state);
+	}
+
+	private static int countEncodedCollections(State state) throws Exception {
+		Field field = state.getReferences().getClass().getDeclaredField("entries"); //$NON-NLS-1$
+		field.setAccessible(true);
+		int count = 0;
+		for (Object value : ((Map<?, ?>) field.get(state.getReferences())).values())
+			if (value instanceof Integer)
+				count++;
+		return count;
+	}
+
+	private static boolean isStale(Object referenceIndex) throws Exception {
+		Method method = referenceIndex.getClass().getDeclaredMethod("isStale"); //$NON-NLS-1$
+		method.setAccessible(true);
+		return ((Boolean) method.invoke(referenceIndex)).booleanValue();
+	}
+
+	/**
+	 * Answers the type locators affected by a change of the given type (i.e. "p/A"), found through the index of the
+	 * state as the incremental builder does, after checking that a scan of all the references finds the same ones
+	 * in the same order.
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<String> assertSameAffectedFiles(State state, String qualifiedTypeName) throws Exception {
+		int separator = qualifiedTypeName.lastIndexOf('/');
+		char[][][] qualifiedNames = ReferenceCollection.internQualifiedNames(Collections.singleton(qualifiedTypeName.substring(0, separator)));
+		char[][] simpleNames = ReferenceCollection.internSimpleNames(Collections.singleton(qualifiedTypeName.substring(separator + 1)), true);
+		char[][] rootNames = ReferenceCollection.internSimpleNames(Collections.singleton(qualifiedTypeName.substring(0, qualifiedTypeName.indexOf('/'))), false);
+
+		List<String> scanned = new ArrayList<>();
+		for (Entry<String, ReferenceCollection> entry : state.getReferences().entrySet())
+			if (entry.getValue().includes(qualifiedNames, simpleNames, rootNames))
+				scanned.add(entry.getKey());
+
+		Method method = State.class.getDeclaredMethod("getTypeLocatorsReferencing", char[][][].class, char[][].class, char[][].class); //$NON-NLS-1$
+		method.setAccessible(true);
+		List<String> indexed = new ArrayList<>();
+		for (String typeLocator : (Collection<String>) method.invoke(state, qualifiedNames, simpleNames, rootNames))
+			if (state.getReferences().get(typeLocator).includes(qualifiedNames, simpleNames, rootNames))
+				indexed.add(typeLocator);
+		assertEquals("Unexpected affected files of " + qualifiedTypeName, scanned, indexed); //$NON-NLS-1$
+		return indexed;
+	}
+
+	public void testIndexHandedOverBetweenStates() throws Exception {
+		IPath root = addProject();
+		IPath projectPath = root.removeLastSegments(1);
+		changeA(root, 1);
+		env.addClass(root, "q", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class C {\n" +
+			"	p.A a;\n" +
+			"}"); //$NON-NLS-1$
+		env.addClass(root, "q", "D", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class D {\n" +
+			"	C c;\n" +
+			"}"); //$NON-NLS-1$
+		env.addClass(root, "q", "E", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class E {\n" +
+			"}"); //$NON-NLS-1$
+		fullBuild(projectPath);
+		expectingNoProblems();
+		assertNull("Unexpected index of a full build", getReferenceIndex(getState(projectPath))); //$NON-NLS-1$
+
+		// the index is built by the first incremental build which looks for affected files
+		changeA(root, 2);
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(new String[] {"p.A", "q.C"}); //$NON-NLS-1$ //$NON-NLS-2$
+		State state = getState(projectPath);
+		Object index = getReferenceIndex(state);
+		assertNotNull("Missing index", index); //$NON-NLS-1$
+		assertTrue("Missing affected file", assertSameAffectedFiles(state, "p/A").contains("src/q/C.java")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		// the locator of C is removed from the index handed over to the next state
+		env.removeClass(root.append("q"), "C"); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild(projectPath);
+		expectingUniqueCompiledClasses(new String[] {"q.D"}); //$NON-NLS-1$
+		State lastState = state;
+		state = getState(projectPath);
+		assertNotSame("Unexpected state", lastState, state); //$NON-NLS-1$
+		assertSame("Index not handed over", index, getReferenceIndex(state)); //$NON-NLS-1$
+		assertNull("Index kept by the last state", getReferenceIndex(lastState)); //$NON-NLS-1$
+		assertFalse("Unexpected affected file", assertSameAffectedFiles(state, "p/A").contains("src/q/C.java")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		// the locator of C is added again, after the locators of the other types
+		env.addClass(root, "q", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class C {\n" +
+			"	p.A a;\n" +
+			"}"); //$NON-NLS-1$
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(new String[] {"q.C", "q.D"}); //$NON-NLS-1$ //$NON-NLS-2$
+		state = getState(projectPath);
+		assertSame("Index not handed over", index, getReferenceIndex(state)); //$NON-NLS-1$
+		assertTrue("Missing affected file", assertSameAffectedFiles(state, "p/A").contains("src/q/C.java")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue("Missing affected file", assertSameAffectedFiles(state, "q/C").contains("src/q/D.java")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertSameAffectedFiles(state, "q/E"); //$NON-NLS-1$
+
+		changeA(root, 3);
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(new String[] {"p.A", "q.C"}); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame("Index not handed over", index, getReferenceIndex(getState(projectPath))); //$NON-NLS-1$
+		env.removeProject(projectPath);
+	}
+
+	public void testIndexOfReadState() throws Exception {
+		IPath root = addProject();
+		IPath projectPath = root.removeLastSegments(1);
+		changeA(root, 1);
+		env.addClass(root, "q", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class C {\n" +
+			"	p.A a;\n" +
+			"}"); //$NON-NLS-1$
+		env.addClass(root, "q", "D", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class D {\n" +
+			"}"); //$NON-NLS-1$
+		fullBuild(projectPath);
+		expectingNoProblems();
+
+		// the collections of a state read from its file are decoded on demand
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		JavaBuilder.writeState(getState(projectPath), new DataOutputStream(bytes));
+		State state = JavaBuilder.readState(env.getProject(projectPath), new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		int size = state.getReferences().size();
+		assertEquals("Unexpected decoded collections", size, countEncodedCollections(state)); //$NON-NLS-1$
+
+		// building the index decodes the collections without keeping them
+		Method method = State.class.getDeclaredMethod("getTypeLocatorsReferencing", char[][][].class, char[][].class, char[][].class); //$NON-NLS-1$
+		method.setAccessible(true);
+		Collection<?> typeLocators = (Collection<?>) method.invoke(state, null, new char[][] {"A".toCharArray()}, null); //$NON-NLS-1$
+		assertTrue("Missing affected file", typeLocators.contains("src/q/C.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("Unexpected affected file", typeLocators.contains("src/q/D.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("Missing index", getReferenceIndex(state)); //$NON-NLS-1$
+		assertEquals("Unexpected decoded collections", size, countEncodedCollections(state)); //$NON-NLS-1$
+		env.removeProject(projectPath);
+	}
+
+	public void testIndexRebuiltWhenStale() throws Exception {
+		IPath root = addProject();
+		IPath projectPath = root.removeLastSegments(1);
+		changeA(root, 1);
+		String[] compiledClasses = new String[USERS + 1];
+		compiledClasses[USERS] = "p.A"; //$NON-NLS-1$
+		List<String> users = new ArrayList<>();
+		for (int i = 0; i < USERS; i++) {
+			env.addClass(root, "q", "User" + i, //$NON-NLS-1$ //$NON-NLS-2$
+				"package q;\n" +
+				"public class User" + i + " {\n" +
+				"	p.A use(p.A a) {\n" +
+				"		return a;\n" +
+				"	}\n" +
+				"}"); //$NON-NLS-1$
+			compiledClasses[i] = "q.User" + i; //$NON-NLS-1$
+			users.add("src/q/User" + i + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		fullBuild(projectPath);
+		expectingNoProblems();
+
+		// every change of A records the collections of its users again, and appends their names to the index
+		int fields = 2;
+		changeA(root, fields);
+		incrementalBuild(projectPath);
+		expectingUniqueCompiledClasses(compiledClasses);
+		Object index = getReferenceIndex(getState(projectPath));
+		assertNotNull("Missing index", index); //$NON-NLS-1$
+		while (!isStale(index)) {
+			assertTrue("Index never stale", fields < 100); //$NON-NLS-1$
+			changeA(root, ++fields);
+			incrementalBuild(projectPath);
+			expectingNoProblems();
+			expectingUniqueCompiledClasses(compiledClasses);
+			assertSame("Index not handed over", index, getReferenceIndex(getState(projectPath))); //$NON-NLS-1$
+		}
+		assertTrue("Missing affected files", assertSameAffectedFiles(getState(projectPath), "p/A").containsAll(users)); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// the stale index is rebuilt by the next build which looks for affected files, without the removed locator
+		env.removeClass(root.append("q"), "User0"); //$NON-NLS-1$ //$NON-NLS-2$
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		State state = getState(projectPath);
+		Object rebuiltIndex = getReferenceIndex(state);
+		assertNotNull("Missing index", rebuiltIndex); //$NON-NLS-1$
+		assertNotSame("Index not rebuilt", index, rebuiltIndex); //$NON-NLS-1$
+		assertFalse("Unexpected stale index", isStale(rebuiltIndex)); //$NON-NLS-1$
+		List<String> affectedFiles = assertSameAffectedFiles(state, "p/A"); //$NON-NLS-1$
+		assertTrue("Missing affected files", affectedFiles.containsAll(users.subList(1, USERS))); //$NON-NLS-1$
+		assertFalse("Unexpected affected file", affectedFiles.contains(users.get(0))); //$NON-NLS-1$
+
+		// the locator added again is found by the rebuilt index
+		env.addClass(root, "q", "User0", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class User0 {\n" +
+			"	p.A use(p.A a) {\n" +
+			"		return a;\n" +
+			"	}\n" +
+			"}"); //$NON-NLS-1$
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(new String[] {"q.User0"}); //$NON-NLS-1$
+		changeA(root, ++fields);
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(compiledClasses);
+		state = getState(projectPath);
+		assertSame("Index not handed over", rebuiltIndex, getReferenceIndex(state)); //$NON-NLS-1$
+		affectedFiles = assertSameAffectedFiles(state, "p/A"); //$NON-NLS-1$
+		assertTrue("Missing affected files", affectedFiles.containsAll(users)); //$NON-NLS-1$
+		assertEquals("Unexpected order of a locator added again", users.get(0), affectedFiles.get(affectedFiles.size() - 1)); //$NON-NLS-1$
+		env.removeProject(projectPath);
+	}
+}
@@ -223,6 +223,119 @@ public class StateTest extends BuilderTests {
 		writeReadAndCompareExternalAnnotationLocations(project.getProject());
 	}
 
+	public void testLazyReferences() throws JavaModelException, Exception {
+		IPath projectPath = env.addProject("LazyReferences"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class A {\n" +
+			"	public int f;\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "b", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package b;\n" +
+			"public class B {\n" +
+			"	a.A a;\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "b", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package b;\n" +
+			"public class C {\n" +
+			"	B b;\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "c", "D", //$NON-NLS-1$ //$NON-NLS-2$
+			"package c;\n" +
+			"public class D {\n" +
+			"}\n" +
+			"class Other {\n" +
+			"}" //$NON-NLS-1$
+		);
+		fullBuild();
+		expectingNoProblems();
+
+		IProject project = env.getProject(projectPath);
+		JavaModelManager javaModelManager = JavaModelManager.getJavaModelManager();
+		State savedState = (State) javaModelManager.getLastBuiltState(project, null);
+		int size = savedState.getReferences().size();
+		byte[] bytes = writeState(savedState);
+		State readState = readState(project, bytes);
+		assertEquals("Unexpected references", "LazyReferenceMap", readState.getReferences().getClass().getSimpleName()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Unexpected decoded collections", size, countEncodedCollections(readState)); //$NON-NLS-1$
+
+		// the collections which were not decoded are written without being kept
+		assertArrayEquals(bytes, writeState(readState));
+		assertEquals("Unexpected decoded collections", size, countEncodedCollections(readState)); //$NON-NLS-1$
+
+		// comparing the states decodes the collections
+		assertEquals(savedState, readState);
+		assertEquals("Unexpected encoded collections", 0, countEncodedCollections(readState)); //$NON-NLS-1$
+		assertEquals(readState, readState(project, bytes));
+		assertArrayEquals(bytes, writeState(readState));
+
+		// the type locators are a snapshot, which removing them while they are iterated does not change
+		Map<String, ReferenceCollection> references = readState(project, bytes).getReferences();
+		Set<String> typeLocators = references.keySet();
+		for (String typeLocator : typeLocators)
+			references.remove(typeLocator);
+		assertEquals("Unexpected type locators", size, typeLocators.size()); //$NON-NLS-1$
+		assertTrue("Unexpected references", references.isEmpty()); //$NON-NLS-1$
+
+		// the state copied by an incremental build shares the encoded collections of the state it is copied from
+		State lastState = readState(project, bytes);
+		assertEqualReferenceCollections(savedState.getReferences().get("b/C.java"), lastState.getReferences().get("b/C.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		javaModelManager.setLastBuiltState(project, lastState);
+		env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class A {\n" +
+			"	public int f, g;\n" +
+			"}" //$NON-NLS-1$
+		);
+		incrementalBuild();
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(new String[] {"a.A", "b.B"}); //$NON-NLS-1$ //$NON-NLS-2$
+		State newState = (State) javaModelManager.getLastBuiltState(project, null);
+		assertNotSame("Unexpected state", lastState, newState); //$NON-NLS-1$
+		assertSame("Unexpected encoded collections", getField(lastState.getReferences(), "encodedCollections"), //$NON-NLS-1$ //$NON-NLS-2$
+				getField(newState.getReferences(), "encodedCollections")); //$NON-NLS-1$
+		assertEquals("Unexpected decoded collections", size - 1, countEncodedCollections(lastState)); //$NON-NLS-1$
+		assertEquals(newState, readState(project, writeState(newState)));
+
+		Map<String, ReferenceCollection> incrementalReferences = newState.getReferences();
+		fullBuild();
+		expectingNoProblems();
+		assertEqualLookupTables(((State) javaModelManager.getLastBuiltState(project, null)).getReferences(), incrementalReferences);
+		env.removeProject(projectPath);
+	}
+
+	private static byte[] writeState(State state) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		JavaBuilder.writeState(state, new DataOutputStream(outputStream));
+		return outputStream.toByteArray();
+	}
+
+	private static State readState(IProject project, byte[] bytes) throws IOException, CoreException {
+		return JavaBuilder.readState(project, new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	private static int countEncodedCollections(State state) {
+		int count = 0;
+		for (Object value : ((Map<?, ?>) getField(state.getReferences(), "entries")).values()) //$NON-NLS-1$
+			if (value instanceof Integer)
+				count++;
+		return count;
+	}
+
+	private static Object getField(Object object, String name) {
+		try {
+			Field fld = object.getClass().getDeclaredField(name);
+			fld.setAccessible(true);
+			return fld.get(object);
+		} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	private void writeReadAndCompareTestBinaryLocations(IPath projectPath)
 			throws JavaModelException, IOException, CoreException {
 		JavaModelManager javaModelManager = JavaModelManager.getJavaModelManager();
@@ -38,15 +38,27 @@
 package org.eclipse.jdt.core.tests.compiler.regression;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.Files;
 import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.Enumeration;
+import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import javax.lang.model.SourceVersion;
 import junit.framework.Test;
 import org.eclipse.jdt.core.JavaCore;
@@ -54,8 +66,10 @@ import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.tests.junit.extension.TestCase;
 import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.batch.BinaryTypeCache;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathDirectory;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.batch.CompileServer;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
 import org.eclipse.jdt.internal.compiler.batch.Main;
@@ -638,6 +652,7 @@ public void test012(){
         "                       created); this option can be overridden per source\n" +
         "                       directory\n" +
         "    -d none            generate no .class files\n" +
+        "    -d <file>.jar      write the .class files into the given jar file\n" +
         "    -encoding <enc>    specify default encoding for all source files. Each\n" +
         "                       file/directory can override it when suffixed with\n" +
         "                       ''[''<enc>'']'' (e.g. X.java[utf8]).\n" +
@@ -757,6 +772,9 @@ public void test012(){
         "    -referenceInfo     compute reference info\n" +
         "    -progress          show progress (only in -log mode)\n" +
         "    -time              display speed information \n" +
+        "    -time:json=<file>  write per unit and per phase compilation statistics\n" +
+        "                       to <file>, as a JSON array with one object per\n" +
+        "                       repetition\n" +
         "    -noExit            do not call System.exit(n) at end of compilation (n==0\n" +
         "                       if no error)\n" +
         "    -repeat <n>        repeat compilation process <n> times for perf analysis\n" +
@@ -13483,4 +13501,387 @@ public void testIssue4768(){
 
 		true);
 }
-}
\ No newline at end of file
+public void testParsingThreads() {
+	String singleThread = System.getProperty("jdt.compiler.useSingleThread");
+	String parsingThreads = System.getProperty("jdt.compiler.parsingThreads");
+	try {
+		System.setProperty("jdt.compiler.useSingleThread", "false");
+		System.setProperty("jdt.compiler.parsingThreads", "4");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	Runnable r = Y::bar;\n" +
+				"	void foo() {\n" +
+				"		int i = ;\n" +
+				"	}\n" +
+				"}",
+				"Y.java",
+				"public class Y {\n" +
+				"	static void bar() {\n" +
+				"		new X().foo(1);\n" +
+				"	}\n" +
+				"	Zork z;\n" +
+				"}",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " -1.8 -proc:none -proceedOnError"
+			+ " -d \"" + OUTPUT_DIR + "\"",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 4)\n" +
+			"	int i = ;\n" +
+			"	      ^\n" +
+			"Syntax error on token \"=\", VariableInitializer expected after this token\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 3)\n" +
+			"	new X().foo(1);\n" +
+			"	        ^^^\n" +
+			"The method foo() in the type X is not applicable for the arguments (int)\n" +
+			"----------\n" +
+			"3. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 5)\n" +
+			"	Zork z;\n" +
+			"	^^^^\n" +
+			"Zork cannot be resolved to a type\n" +
+			"----------\n" +
+			"3 problems (3 errors)\n",
+			true);
+	} finally {
+		if (singleThread == null) {
+			System.clearProperty("jdt.compiler.useSingleThread");
+		} else {
+			System.setProperty("jdt.compiler.useSingleThread", singleThread);
+		}
+		if (parsingThreads == null) {
+			System.clearProperty("jdt.compiler.parsingThreads");
+		} else {
+			System.setProperty("jdt.compiler.parsingThreads", parsingThreads);
+		}
+	}
+}
+// consecutive requests to a compile server see the changes of the jars on the classpath
+public void testCompileServer() throws Exception {
+	String libPath = OUTPUT_DIR + File.separator + "lib.jar";
+	String sourcePath = OUTPUT_DIR + File.separator + "X.java";
+	Util.writeToFile(
+		"public class X {\n" +
+		"  my.pkg.Zork dummy;\n" +
+		"}\n",
+		sourcePath);
+	String[] arguments = new String[] { sourcePath, "-1.8", "-proc:none", "-cp", libPath, "-d", "none" };
+	try (CompileServer server = new CompileServer(0)) {
+		BinaryTypeCache binaryTypeCache = BinaryTypeCache.getInstance();
+		Thread serving = new Thread(() -> {
+			try {
+				server.serve();
+			} catch (IOException e) {
+				// closed
+			}
+		});
+		serving.start();
+		Util.createJar(new String[] {
+				"my/pkg/Zork.java",
+				"package my.pkg;\n" +
+				"public class Zork {\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		StringWriter err = new StringWriter();
+		assertEquals("Unexpected status, errors: " + err, 0,
+				CompileServer.compile(server.getPort(), server.getTokenFile(), arguments, new PrintWriter(new StringWriter()), new PrintWriter(err)));
+		Util.createJar(new String[] {
+				"my/other/pkg/Zork.java",
+				"package my.other.pkg;\n" +
+				"public class Zork {\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		err = new StringWriter();
+		assertEquals("Unexpected status", -1,
+				CompileServer.compile(server.getPort(), server.getTokenFile(), arguments, new PrintWriter(new StringWriter()), new PrintWriter(err)));
+		assertTrue("Unexpected errors: " + err, err.toString().contains("my.pkg cannot be resolved to a type"));
+		server.close();
+		serving.join();
+		assertSame("Binary type cache not restored", binaryTypeCache, BinaryTypeCache.getInstance());
+	}
+}
+// requests without the token of the server, or with invalid lengths, are dropped and the server keeps serving
+public void testCompileServerMalformedRequests() throws Exception {
+	String sourcePath = OUTPUT_DIR + File.separator + "X.java";
+	Util.writeToFile(
+		"public class X {\n" +
+		"}\n",
+		sourcePath);
+	try (CompileServer server = new CompileServer(0)) {
+		Thread serving = new Thread(() -> {
+			try {
+				server.serve();
+			} catch (IOException e) {
+				// closed
+			}
+		});
+		serving.start();
+		byte[] token = HexFormat.of().parseHex(Files.readString(server.getTokenFile()).trim());
+		byte[] wrongToken = token.clone();
+		wrongToken[0]++;
+		assertDropped(server.getPort(), wrongToken, 1);
+		assertDropped(server.getPort(), token, -1);
+		assertDropped(server.getPort(), token, Integer.MAX_VALUE);
+		// each argument is accepted, but not all of them together
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream request = new DataOutputStream(bytes);
+		request.write(token);
+		request.writeInt(2);
+		request.writeInt(1 << 25);
+		request.write(new byte[1 << 25]);
+		request.writeInt((1 << 25) + 1);
+		assertDropped(server.getPort(), bytes.toByteArray());
+		StringWriter err = new StringWriter();
+		assertEquals("Unexpected status, errors: " + err, 0,
+				CompileServer.compile(server.getPort(), server.getTokenFile(), new String[] { sourcePath, "-1.8", "-proc:none", "-d", "none" },
+						new PrintWriter(new StringWriter()), new PrintWriter(err)));
+		server.close();
+		serving.join();
+		assertFalse("Token file not deleted", new File(server.getTokenFile().toString()).exists());
+	}
+}
+private static void assertDropped(int port, byte[] token, int argumentCount) throws IOException {
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	DataOutputStream request = new DataOutputStream(bytes);
+	request.write(token);
+	request.writeInt(argumentCount);
+	request.writeInt(0); // empty first argument
+	assertDropped(port, bytes.toByteArray());
+}
+private static void assertDropped(int port, byte[] request) throws IOException {
+	try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+		int answer;
+		try {
+			socket.getOutputStream().write(request);
+			answer = socket.getInputStream().read();
+		} catch (SocketException e) {
+			answer = -1; // reset by the server closing the connection before reading all the request
+		}
+		assertEquals("Unexpected answer", -1, answer);
+	}
+}
+// -time:json writes the statistics of the compilation, with the phase times of each unit
+public void testTimingJson() {
+	String jsonPath = OUTPUT_DIR + File.separator + "stats.json";
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"import java.util.List;\n" +
+			"public class X {\n" +
+			"	class Member {}\n" +
+			"	List<String> foo(List<String> l) {\n" +
+			"		return java.util.Collections.unmodifiableList(l);\n" +
+			"	}\n" +
+			"}",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " -1.8 -proc:none -time:json=\"" + jsonPath + "\""
+		+ " -d \"" + OUTPUT_DIR + "\"",
+		"",
+		"",
+		true);
+	String json = Util.fileContent(jsonPath);
+	assertTrue("Unexpected statistics: " + json, json.contains("\"classFileCount\":2,"));
+	assertTrue("Unexpected statistics: " + json, json.contains("\"sourceTypeCount\":2,"));
+	assertFalse("Unexpected statistics: " + json, json.contains("\"inferenceCount\":0,"));
+	assertTrue("Unexpected statistics: " + json, json.contains("\"units\":[{\"fileName\":"));
+	assertTrue("Unexpected statistics: " + json, json.contains("X.java\",\"sourceLength\":"));
+	assertTrue("Unexpected statistics: " + json, json.contains("\"readWaitTime\":"));
+}
+// -time:json with -repeat writes the statistics of each repetition
+public void testTimingJsonRepeat() {
+	String jsonPath = OUTPUT_DIR + File.separator + "stats.json";
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"}",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " -1.8 -proc:none -repeat 3 -time:json=\"" + jsonPath + "\""
+		+ " -d \"" + OUTPUT_DIR + "\"",
+		"[repetition 1/3]\n" +
+		"[repetition 2/3]\n" +
+		"[repetition 3/3]\n",
+		"",
+		true);
+	String json = Util.fileContent(jsonPath);
+	assertTrue("Unexpected statistics: " + json, json.startsWith("[{\"elapsedTime\":") && json.endsWith("]}]"));
+	assertEquals("Unexpected statistics: " + json, 3, json.split("\"units\":\\[\\{").length - 1);
+}
+// binary types shared across compilations are read again when their jar changes
+public void testBinaryTypeCache() throws IOException {
+	String libPath = OUTPUT_DIR + File.separator + "lib.jar";
+	String commandLine = "\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " -1.8 -proc:none -cp \"" + libPath + "\""
+		+ " -d \"" + OUTPUT_DIR + "\"";
+	String[] sources = new String[] {
+		"X.java",
+		"public class X {\n" +
+		"	int foo(p.Y y) {\n" +
+		"		return y.bar();\n" +
+		"	}\n" +
+		"}",
+	};
+	BinaryTypeCache.setMaximumSize(100);
+	try {
+		Util.createJar(new String[] {
+				"p/Y.java",
+				"package p;\n" +
+				"public class Y {\n" +
+				"	public int bar() { return 0; }\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		this.runConformTest(sources, commandLine, "", "", true);
+		Util.createJar(new String[] {
+				"p/Y.java",
+				"package p;\n" +
+				"public class Y {\n" +
+				"	public String bar() { return null; }\n" +
+				"	public void baz() {}\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		this.runNegativeTest(sources, commandLine,
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 3)\n" +
+			"	return y.bar();\n" +
+			"	       ^^^^^^^\n" +
+			"Type mismatch: cannot convert from String to int\n" +
+			"----------\n" +
+			"1 problem (1 error)\n",
+			true);
+	} finally {
+		BinaryTypeCache.setMaximumSize(0);
+	}
+}
+// class files are written into the jar named by the destination path
+public void testJarDestination() throws IOException {
+	String jarPath = OUTPUT_DIR + File.separator + "bin" + File.separator + "out.jar";
+	this.runConformTest(
+		new String[] {
+			"p/X.java",
+			"package p;\n" +
+			"public class X {\n" +
+			"	class Member {}\n" +
+			"}",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "X.java\""
+		+ " -1.8 -proc:none -d \"" + jarPath + "\"",
+		"",
+		"",
+		true);
+	File jarFile = new File(jarPath);
+	assertTrue("Missing jar file", jarFile.isFile());
+	try (ZipFile zipFile = new ZipFile(jarFile)) {
+		assertNotNull("Missing manifest", zipFile.getEntry("META-INF/MANIFEST.MF"));
+		assertNotNull("Missing class file", zipFile.getEntry("p/X.class"));
+		assertNotNull("Missing class file", zipFile.getEntry("p/X$Member.class"));
+		assertEquals("Unexpected entries", 3, zipFile.size());
+		// fixed time stamps, so that the jar does not change when compiled again
+		for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements();) {
+			ZipEntry entry = entries.nextElement();
+			assertEquals("Unexpected time of " + entry.getName(), LocalDateTime.of(1980, 1, 1, 0, 0), entry.getTimeLocal());
+		}
+	}
+}
+// the files created by the Filer are added to the jar file named by the destination path
+public void testJarDestinationWithAnnotationProcessing() throws IOException {
+	String processorPath = OUTPUT_DIR + File.separator + "processor";
+	this.runConformTest(
+		new String[] {
+			"q/Gen.java",
+			"package q;\n" +
+			"import java.io.IOException;\n" +
+			"import java.io.Writer;\n" +
+			"import java.util.Set;\n" +
+			"import javax.annotation.processing.*;\n" +
+			"import javax.lang.model.SourceVersion;\n" +
+			"import javax.lang.model.element.TypeElement;\n" +
+			"import javax.tools.StandardLocation;\n" +
+			"@SupportedAnnotationTypes(\"*\")\n" +
+			"public class Gen extends AbstractProcessor {\n" +
+			"	private boolean done;\n" +
+			"	public SourceVersion getSupportedSourceVersion() {\n" +
+			"		return SourceVersion.latestSupported();\n" +
+			"	}\n" +
+			"	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {\n" +
+			"		if (this.done)\n" +
+			"			return false;\n" +
+			"		this.done = true;\n" +
+			"		Filer filer = this.processingEnv.getFiler();\n" +
+			"		try (Writer writer = filer.createSourceFile(\"g.Generated\").openWriter()) {\n" +
+			"			writer.write(\"package g; public class Generated {}\");\n" +
+			"		} catch (IOException e) {\n" +
+			"			throw new RuntimeException(e);\n" +
+			"		}\n" +
+			"		try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, \"g\", \"res.txt\").openWriter()) {\n" +
+			"			writer.write(\"res\");\n" +
+			"		} catch (IOException e) {\n" +
+			"			throw new RuntimeException(e);\n" +
+			"		}\n" +
+			"		return false;\n" +
+			"	}\n" +
+			"}",
+			"p/X.java",
+			"package p;\n" +
+			"public class X {\n" +
+			"	g.Generated generated;\n" +
+			"}",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "q" + File.separator + "Gen.java\""
+		+ " -1.8 -proc:none -d \"" + processorPath + "\"",
+		"",
+		"",
+		true);
+	Util.writeToFile("q.Gen", processorPath + File.separator + "META-INF" + File.separator + "services"
+			+ File.separator + "javax.annotation.processing.Processor");
+	String jarPath = OUTPUT_DIR + File.separator + "bin" + File.separator + "out.jar";
+	this.runConformTest(
+		new String[0],
+		"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "X.java\""
+		+ " -1.8 -processorpath \"" + processorPath + "\" -d \"" + jarPath + "\"",
+		"",
+		"",
+		false);
+	File jarFile = new File(jarPath);
+	assertTrue("Missing jar file", jarFile.isFile());
+	try (ZipFile zipFile = new ZipFile(jarFile)) {
+		assertNotNull("Missing class file", zipFile.getEntry("p/X.class"));
+		assertNotNull("Missing generated class file", zipFile.getEntry("g/Generated.class"));
+		assertNotNull("Missing generated resource", zipFile.getEntry("g/res.txt"));
+		assertEquals("Unexpected entries", 4, zipFile.size());
+	}
+}
+// an existing directory named like a jar file keeps receiving the class files
+public void testJarDestinationExistingDirectory() {
+	String directoryPath = OUTPUT_DIR + File.separator + "bin" + File.separator + "out.jar";
+	Util.flushDirectoryContent(new File(OUTPUT_DIR));
+	new File(directoryPath).mkdirs();
+	this.runConformTest(
+		new String[] {
+			"p/X.java",
+			"package p;\n" +
+			"public class X {}",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "X.java\""
+		+ " -1.8 -d \"" + directoryPath + "\"",
+		"",
+		"",
+		false);
+	assertTrue("Missing class file", new File(directoryPath + File.separator + "p" + File.separator + "X.class").isFile());
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.compiler.regression;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
 //import junit.framework.AssertionFailedError;
 import junit.framework.Test;
 //import org.apache.tools.ant.types.selectors.SelectorUtils;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.util.Util;
 
 @SuppressWarnings({ "rawtypes" })
 public class UtilTest extends AbstractRegressionTest {
@@ -741,6 +745,33 @@ public void test73b() { // previous test cases but with 3.3 behavior
 	// Verify that there were no unexpected results
     assertTrue(this.camelCaseErrors.toString(), this.camelCaseErrors.length()==0);
 }
+// all bytes are read whether the expected length is right, unknown, too small or too large
+public void testInputStreamAsByteArray() throws IOException {
+	byte[] bytes = new byte[10000];
+	for (int i = 0; i < bytes.length; i++)
+		bytes[i] = (byte) i;
+	for (long expectedLength : new long[] { 10000, -1, 0, 1, 9999, 10001, 20000 }) {
+		byte[] contents = Util.getInputStreamAsByteArray(new ByteArrayInputStream(bytes), expectedLength);
+		assertTrue("Unexpected contents for expected length " + expectedLength, Arrays.equals(bytes, contents));
+	}
+}
+// a bogus expected length, e.g. from a corrupt archive, does not allocate more than the actual contents need
+public void testInputStreamAsByteArrayLargeExpectedLength() throws IOException {
+	byte[] bytes = new byte[10000];
+	for (int i = 0; i < bytes.length; i++)
+		bytes[i] = (byte) i;
+	for (long expectedLength : new long[] { Integer.MAX_VALUE - 8, Integer.MAX_VALUE, Long.MAX_VALUE }) {
+		byte[] contents = Util.getInputStreamAsByteArray(new ByteArrayInputStream(bytes), expectedLength);
+		assertTrue("Unexpected contents for expected length " + expectedLength, Arrays.equals(bytes, contents));
+	}
+	byte[] largeBytes = new byte[9 * 1024 * 1024]; // larger than the preallocated array
+	for (int i = 0; i < largeBytes.length; i++)
+		largeBytes[i] = (byte) (i / 7);
+	for (long expectedLength : new long[] { largeBytes.length, -1, 10000, Integer.MAX_VALUE }) {
+		byte[] contents = Util.getInputStreamAsByteArray(new ByteArrayInputStream(largeBytes), expectedLength);
+		assertTrue("Unexpected contents for expected length " + expectedLength, Arrays.equals(largeBytes, contents));
+	}
+}
 public static Class testClass() {
 	return UtilTest.class;
 }
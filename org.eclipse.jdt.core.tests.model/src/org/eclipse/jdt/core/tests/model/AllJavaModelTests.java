@@ -72,6 +72,9 @@ private static Class[] getAllTestClasses() {
 		RunJavaSearchTests.class,
 
 		IndexManagerTests.class,
+		IndexTests.class,
+		SharedIndexStoreTests.class,
+		JobManagerTests.class,
 
 		// Tests for the new index - disabled because the index is not used anymore
 		// See bug 572976 and bug 544898
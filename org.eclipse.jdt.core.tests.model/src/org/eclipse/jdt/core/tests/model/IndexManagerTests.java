@@ -18,6 +18,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +28,7 @@ import junit.framework.Test;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
@@ -48,6 +50,7 @@ import org.eclipse.jdt.internal.core.index.MetaIndex;
 import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
 import org.eclipse.jdt.internal.core.search.indexing.ReadWriteMonitor;
+import org.eclipse.jdt.internal.core.search.matching.MethodPattern;
 
 public class IndexManagerTests extends ModifyingResourceTests {
 	private static final boolean SKIP_TESTS = Boolean.parseBoolean(System.getProperty("org.eclipse.jdt.disableMetaIndex", "false"));
@@ -223,6 +226,85 @@ public class IndexManagerTests extends ModifyingResourceTests {
 		}
 	}
 
+	public void testReindexChangedJarByBatches() throws CoreException, IOException {
+		String compliance = CompilerOptions.getFirstSupportedJavaVersion();
+		// more classes than indexed by a batch of the indexing threads
+		addLibrary(this.project, "lib.jar", "libsrc.zip", classesDeclaring("before", 100), compliance);
+		waitUntilIndexesReady();
+		IPath jarPath = new Path("/IndexProject/lib.jar");
+		assertEquals("Unexpected documents declaring before()", 100, countDocumentsDeclaring(jarPath, "before"));
+
+		createLibrary(this.project, "lib.jar", "libsrc.zip", classesDeclaring("after", 100), null, compliance);
+		waitUntilIndexesReady();
+		assertEquals("Unexpected documents declaring before()", 0, countDocumentsDeclaring(jarPath, "before"));
+		assertEquals("Unexpected documents declaring after()", 100, countDocumentsDeclaring(jarPath, "after"));
+	}
+
+	public void testReindexChangedSourcesByBatches() throws CoreException, IOException {
+		// more changed sources than indexed by a batch of the indexing threads
+		createFolder("/IndexProject/src/p");
+		String[] sources = classesDeclaring("before", 100);
+		for (int i = 0; i < sources.length; i += 2)
+			createFile("/IndexProject/src/" + sources[i], sources[i + 1]);
+		waitUntilIndexesReady();
+		this.indexManager.saveIndexes();
+		IPath projectPath = this.project.getPath();
+		assertEquals("Unexpected documents declaring before()", 100, countDocumentsDeclaring(projectPath, "before"));
+
+		// entries not saved yet, which the entries of the sources indexed again replace
+		Index index = this.indexManager.getIndex(projectPath, true /*reuse index file*/, false /*do not create if none*/);
+		ReadWriteMonitor monitor = index.monitor;
+		monitor.enterWrite();
+		try {
+			for (int i = 0; i < sources.length; i += 2)
+				index.addIndexEntry(IIndexConstants.METHOD_DECL, MethodPattern.createIndexKey("stale".toCharArray(), 0), "src/" + sources[i]);
+		} finally {
+			monitor.exitWrite();
+		}
+		assertEquals("Unexpected documents declaring stale()", 100, countDocumentsDeclaring(projectPath, "stale"));
+
+		// the sources are more recent than the index file, as when they were changed while the workspace was closed
+		assertTrue("Index file not changed", index.getIndexFile().setLastModified(System.currentTimeMillis() - 3600 * 1000));
+		this.indexManager.indexAll(this.project.getProject());
+		waitUntilIndexesReady();
+		assertEquals("Unexpected documents declaring stale()", 0, countDocumentsDeclaring(projectPath, "stale"));
+		assertEquals("Unexpected documents declaring before()", 100, countDocumentsDeclaring(projectPath, "before"));
+	}
+
+	private static String[] classesDeclaring(String selector, int count) {
+		String[] pathsAndContents = new String[2 * count];
+		for (int i = 0; i < count; i++) {
+			pathsAndContents[2 * i] = "p/X" + i + ".java";
+			pathsAndContents[2 * i + 1] = "package p;\npublic class X" + i + " {\n	public void " + selector + "() {}\n}";
+		}
+		return pathsAndContents;
+	}
+
+	/**
+	 * Answers the number of documents of the index of the given container declaring a method with the given selector
+	 * and no parameters.
+	 */
+	private int countDocumentsDeclaring(IPath containerPath, String selector) throws IOException {
+		Index index = this.indexManager.getIndex(containerPath, true /*reuse index file*/, false /*do not create if none*/);
+		assertNotNull("No index for " + containerPath, index);
+		ReadWriteMonitor monitor = index.monitor;
+		assertNotNull("Index deleted for " + containerPath, monitor);
+		monitor.enterRead();
+		index.startQuery();
+		try {
+			EntryResult[] results = index.query(new char[][] {IIndexConstants.METHOD_DECL},
+					MethodPattern.createIndexKey(selector.toCharArray(), 0),
+					SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+			Set<String> documentNames = new HashSet<>();
+			for (EntryResult result : safeList(results))
+				documentNames.addAll(Arrays.asList(result.getDocumentNames(index)));
+			return documentNames.size();
+		} finally {
+			index.stopQuery();
+			monitor.exitRead();
+		}
+	}
+
 	private void changeFile(String path, String content) {
 		IFile file = getFile(path);
 		if (!file.exists()) {
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import junit.framework.Test;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
+import org.eclipse.jdt.internal.core.index.Index;
+
+/**
+ * Tests the index files written and read by {@link Index}, without indexing any Java document.
+ */
+public class IndexTests extends AbstractJavaModelTests {
+
+	private static final char[] DECL = "decl".toCharArray();
+	private static final char[] REF = "ref".toCharArray();
+	private static final int EXACT = SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
+
+	private static final char[] CHANGED = "Changed".toCharArray();
+
+	private File indexFile;
+
+	public IndexTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(IndexTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.indexFile = new File(getExternalPath(), "IndexTests.index");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		this.indexFile.delete();
+		deltaFile().delete();
+		super.tearDown();
+	}
+
+	private Index newIndex(boolean reuseExistingFile) throws IOException {
+		return new Index(new FileIndexLocation(this.indexFile), "container", reuseExistingFile);
+	}
+
+	private static String documentName(int i) {
+		return "p/X" + i + ".java";
+	}
+
+	/**
+	 * Adds the entries of the given document: its declaration, references shared by all the documents or by some of
+	 * them, so that the document numbers are stored as one number, in-lined or as a separate array, and non-ASCII
+	 * references.
+	 */
+	private static void addDocument(Index index, int i) {
+		String documentName = documentName(i);
+		index.addIndexEntry(DECL, ("X" + i).toCharArray(), documentName);
+		index.addIndexEntry(REF, "Object".toCharArray(), documentName);
+		index.addIndexEntry(REF, ("Map" + (i % 3)).toCharArray(), documentName);
+		if (i % 10 == 0)
+			index.addIndexEntry(REF, "List".toCharArray(), documentName);
+		if (i % 7 == 0)
+			index.addIndexEntry(REF, "Gr\u00f6\u00dfe".toCharArray(), documentName);
+		if (i % 11 == 0)
+			index.addIndexEntry(REF, ("\u00dcn\u00efc\u00f6d\u00e9" + i).toCharArray(), documentName);
+	}
+
+	private File deltaFile() {
+		return new File(this.indexFile.getPath() + DiskIndex.DELTA_EXT);
+	}
+
+	/**
+	 * Indexes the given document again, with an additional reference.
+	 */
+	private static void changeDocument(Index index, int i) {
+		index.remove(documentName(i));
+		addDocument(index, i);
+		index.addIndexEntry(REF, CHANGED, documentName(i));
+	}
+
+	private Index newIndex(int documents) throws IOException {
+		Index index = newIndex(false);
+		for (int i = 0; i < documents; i++)
+			addDocument(index, i);
+		return index;
+	}
+
+	/**
+	 * Answers the words matching the given key with their documents, sorted.
+	 */
+	private static String query(Index index, char[][] categories, String key, int matchRule) throws IOException {
+		index.startQuery();
+		try {
+			EntryResult[] results = index.query(categories, key == null ? null : key.toCharArray(), matchRule);
+			if (results == null)
+				return "";
+			List<String> lines = new ArrayList<>();
+			for (EntryResult result : results) {
+				String[] documentNames = result.getDocumentNames(index);
+				Arrays.sort(documentNames);
+				lines.add(new String(result.getWord()) + " " + Arrays.toString(documentNames));
+			}
+			lines.sort(null);
+			return String.join("\n", lines);
+		} finally {
+			index.stopQuery();
+		}
+	}
+
+	private static String queryDocumentNames(Index index, String substring) throws IOException {
+		String[] documentNames = index.queryDocumentNames(substring);
+		if (documentNames == null)
+			return "";
+		Arrays.sort(documentNames);
+		return String.join("\n", documentNames);
+	}
+
+	/**
+	 * Answers the results of queries with every match rule, in the given categories.
+	 */
+	private static String queryAll(Index index) throws IOException {
+		char[][] refs = new char[][] {REF};
+		char[][] all = new char[][] {DECL, REF};
+		StringBuilder results = new StringBuilder();
+		results.append(query(index, new char[][] {DECL}, "X42", EXACT)).append("\n---\n");
+		results.append(query(index, new char[][] {DECL}, "x42", SearchPattern.R_EXACT_MATCH)).append("\n---\n");
+		results.append(query(index, refs, "Object", EXACT)).append("\n---\n");
+		results.append(query(index, refs, "List", EXACT)).append("\n---\n");
+		results.append(query(index, refs, "Gr\u00f6\u00dfe", EXACT)).append("\n---\n");
+		results.append(query(index, refs, "gR\u00d6\u00dfE", SearchPattern.R_EXACT_MATCH)).append("\n---\n");
+		results.append(query(index, refs, "Missing", EXACT)).append("\n---\n");
+		results.append(query(index, all, "X4", SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE)).append("\n---\n");
+		results.append(query(index, refs, "map", SearchPattern.R_PREFIX_MATCH)).append("\n---\n");
+		results.append(query(index, refs, "\u00dcn", SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE)).append("\n---\n");
+		results.append(query(index, all, "*1?", SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE)).append("\n---\n");
+		results.append(query(index, refs, "M", SearchPattern.R_CAMELCASE_MATCH)).append("\n---\n");
+		results.append(query(index, all, null, EXACT)).append("\n---\n");
+		results.append(queryDocumentNames(index, null)).append("\n---\n");
+		results.append(queryDocumentNames(index, "p/X1"));
+		return results.toString();
+	}
+
+	/**
+	 * Answers the results of {@link #queryAll(Index)} on the saved index file, read with or without mapping it.
+	 */
+	private String queryAllSaved(boolean mapIndexFiles) throws IOException {
+		boolean previous = DiskIndex.MAP_INDEX_FILES;
+		DiskIndex.MAP_INDEX_FILES = mapIndexFiles;
+		try {
+			return queryAll(newIndex(true));
+		} finally {
+			DiskIndex.MAP_INDEX_FILES = previous;
+		}
+	}
+
+	public void testMappedIndexFile() throws IOException {
+		if (!DiskIndex.MAP_INDEX_FILES)
+			return; // a mapped file could not be deleted by the test on Windows
+		Index index = newIndex(300);
+		String expected = queryAll(index); // answered by the memory index
+		assertTrue("Missing declaration", expected.contains("X299 [p/X299.java]"));
+		index.save();
+		assertEquals("Unexpected results with streams", expected, queryAllSaved(false));
+		assertEquals("Unexpected results with a mapped file", expected, queryAllSaved(true));
+	}
+
+	public void testMappedIndexFileWithChanges() throws IOException {
+		if (!DiskIndex.MAP_INDEX_FILES)
+			return; // a mapped file could not be deleted by the test on Windows
+		newIndex(300).save();
+		// documents removed and changed in the memory index hide their entries in the index file
+		String[] results = new String[2];
+		boolean previous = DiskIndex.MAP_INDEX_FILES;
+		try {
+			for (int i = 0; i < results.length; i++) {
+				DiskIndex.MAP_INDEX_FILES = i == 0;
+				Index index = newIndex(true);
+				index.remove(documentName(42));
+				index.remove(documentName(70));
+				addDocument(index, 70);
+				index.addIndexEntry(REF, "List".toCharArray(), documentName(71));
+				results[i] = queryAll(index);
+			}
+		} finally {
+			DiskIndex.MAP_INDEX_FILES = previous;
+		}
+		assertEquals("Unexpected results with a mapped file", results[1], results[0]);
+		assertFalse("Unexpected removed document", results[0].contains(documentName(42)));
+	}
+
+	public void testTruncatedMappedIndexFile() throws IOException {
+		if (!DiskIndex.MAP_INDEX_FILES)
+			return; // a mapped file could not be truncated on Windows
+		newIndex(300).save();
+		Index index = newIndex(true);
+		assertEquals("Unexpected results", "X42 [p/X42.java]", query(index, new char[][] {DECL}, "X42", EXACT));
+		// the index file is only ever replaced by JDT, but another process could truncate it
+		try (RandomAccessFile file = new RandomAccessFile(this.indexFile, "rw")) {
+			file.setLength(0);
+		}
+		try {
+			query(index, new char[][] {REF}, "Object", EXACT);
+			fail("Should fail to read the truncated index file");
+		} catch (IOException e) {
+			// expected, rather than an InternalError raised by the access to the mapping
+		}
+	}
+
+	public void testAddIndexEntries() throws IOException {
+		// the expected entries, with document 200 removed
+		Index index = newIndex(300);
+		index.remove(documentName(200));
+		String expected = queryAll(index);
+
+		index = newIndex(300);
+		index.save();
+		// changes not saved yet, which the entries of the batch replace
+		for (int i = 0; i < 100; i++)
+			index.addIndexEntry(REF, "Stale".toCharArray(), documentName(i));
+		index.addIndexEntry(REF, "Stale".toCharArray(), documentName(200));
+		// a batch larger than the batches of the indexing threads, indexing documents again as JavaSearchParticipant does
+		Index batch = new Index("container");
+		for (int i = 0; i < 100; i++) {
+			batch.remove(documentName(i));
+			addDocument(batch, i);
+		}
+		batch.remove(documentName(200)); // removed, without entries
+		index.addIndexEntries(batch);
+		assertTrue("Missing changes", index.hasChanged());
+		assertEquals("Unexpected results", expected, queryAll(index));
+		assertEquals("Unexpected stale entries", "", query(index, new char[][] {REF}, "Stale", EXACT));
+		index.save();
+		assertEquals("Unexpected saved results", expected, queryAll(newIndex(true)));
+	}
+
+	public void testSaveDelta() throws IOException {
+		newIndex(2000).save();
+		long length = this.indexFile.length();
+		long lastModified = this.indexFile.lastModified();
+		Index index = newIndex(true);
+		index.remove(documentName(42));
+		changeDocument(index, 70);
+		changeDocument(index, 1999);
+		addDocument(index, 2000);
+		String expected = queryAll(index);
+		String expectedChanged = query(index, new char[][] {REF}, "Changed", EXACT);
+		assertEquals("Unexpected changed documents", "Changed [p/X1999.java, p/X70.java]", expectedChanged);
+		assertFalse("Unexpected removed document", expected.contains(documentName(42)));
+		assertTrue("Missing added document", expected.contains("X2000 [p/X2000.java]"));
+
+		assertTrue("Index not saved", index.save(true));
+		assertFalse("Unexpected unsaved changes", index.hasChanged());
+		assertTrue("Missing delta file", deltaFile().isFile());
+		assertEquals("Unexpected index file length", length, this.indexFile.length());
+		assertEquals("Unexpected index file change", lastModified, this.indexFile.lastModified());
+		assertEquals("Unexpected results", expected, queryAll(index));
+
+		// the delta is read back when the index is reused
+		Index reopened = newIndex(true);
+		assertFalse("Unexpected unsaved changes", reopened.hasChanged());
+		assertEquals("Unexpected results with streams", expected, queryAllSaved(false));
+		assertEquals("Unexpected results with a mapped file", expected, queryAllSaved(true));
+		assertEquals("Unexpected changed documents", expectedChanged, query(reopened, new char[][] {REF}, "Changed", EXACT));
+
+		// further changes are saved with the previous ones
+		reopened.remove(documentName(70));
+		assertTrue("Missing unsaved changes", reopened.hasChanged());
+		expected = queryAll(reopened);
+		assertTrue("Index not saved", reopened.save(true));
+		assertTrue("Missing delta file", deltaFile().isFile());
+		assertEquals("Unexpected index file change", lastModified, this.indexFile.lastModified());
+		reopened = newIndex(true);
+		assertEquals("Unexpected results", expected, queryAll(reopened));
+		assertEquals("Unexpected changed documents", "Changed [p/X1999.java]", query(reopened, new char[][] {REF}, "Changed", EXACT));
+		assertEquals("Unexpected removed document", "", queryDocumentNames(reopened, "p/X70.java"));
+	}
+
+	public void testCompactDelta() throws IOException {
+		// a small index is always rewritten
+		newIndex(300).save();
+		Index index = newIndex(true);
+		changeDocument(index, 42);
+		assertTrue("Index not saved", index.save(true));
+		assertFalse("Unexpected delta file of a small index", deltaFile().exists());
+
+		newIndex(2000).save();
+		index = newIndex(true);
+		for (int i = 0; i < 2000 / 8; i++)
+			changeDocument(index, i);
+		assertTrue("Index not saved", index.save(true));
+		assertTrue("Missing delta file", deltaFile().isFile());
+		long length = this.indexFile.length();
+
+		// once the delta exceeds an eighth of the documents, it is merged into the index file
+		index = newIndex(true);
+		index.remove(documentName(1000));
+		String expected = queryAll(index);
+		assertTrue("Index not saved", index.save(true));
+		assertFalse("Unexpected delta file", deltaFile().exists());
+		assertFalse("Index file not rewritten", length == this.indexFile.length());
+		assertEquals("Unexpected results", expected, queryAll(index));
+		Index reopened = newIndex(true);
+		assertEquals("Unexpected results with the compacted index", expected, queryAll(reopened));
+		assertEquals("Unexpected number of changed documents", 2000 / 8,
+				query(reopened, new char[][] {REF}, "Changed", EXACT).split(",").length);
+
+		// later changes are saved in a new delta file
+		changeDocument(reopened, 1000);
+		assertTrue("Index not saved", reopened.save(true));
+		assertTrue("Missing delta file", deltaFile().isFile());
+	}
+
+	public void testStaleDelta() throws IOException {
+		newIndex(2000).save();
+		Index index = newIndex(true);
+		changeDocument(index, 42);
+		assertTrue("Index not saved", index.save(true));
+		File staleDelta = new File(this.indexFile.getPath() + ".stale");
+		try {
+			Files.copy(deltaFile().toPath(), staleDelta.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+			// the index file is rewritten, and the delta saved for the previous file is left behind
+			Index rewritten = newIndex(1500);
+			rewritten.save();
+			String expected = queryAll(rewritten);
+			assertFalse("Unexpected delta file", deltaFile().exists());
+			Files.copy(staleDelta.toPath(), deltaFile().toPath());
+
+			Index reopened = newIndex(true);
+			assertFalse("Stale delta file not deleted", deltaFile().exists());
+			assertEquals("Unexpected results", expected, queryAll(reopened));
+			assertEquals("Unexpected changed documents", "", query(reopened, new char[][] {REF}, "Changed", EXACT));
+		} finally {
+			staleDelta.delete();
+		}
+	}
+
+	/**
+	 * Queries exact keys, which are screened by the filter of the words of the index file, in an index file
+	 * merged with changes.
+	 */
+	public void testExactQueriesAfterMerge() throws IOException {
+		newIndex(300).save();
+		Index index = newIndex(true);
+		for (int i = 0; i < 300; i += 5)
+			index.remove(documentName(i));
+		for (int i = 1; i < 300; i += 5)
+			changeDocument(index, i);
+		for (int i = 300; i < 400; i++)
+			addDocument(index, i);
+		index.save();
+
+		Index merged = newIndex(true);
+		char[][] decls = new char[][] {DECL};
+		char[][] refs = new char[][] {REF};
+		for (int i = 0; i < 400; i++) {
+			boolean removed = i < 300 && i % 5 == 0;
+			String expected = removed ? "" : "X" + i + " [" + documentName(i) + "]";
+			assertEquals("Unexpected results", expected, query(merged, decls, "X" + i, EXACT));
+			assertEquals("Unexpected results ignoring case", expected, query(merged, decls, "x" + i, SearchPattern.R_EXACT_MATCH));
+			assertEquals("Unexpected results in another category", "", query(merged, refs, "X" + i, SearchPattern.R_EXACT_MATCH));
+			if (i % 11 == 0) {
+				String word = "\u00dcn\u00efc\u00f6d\u00e9" + i;
+				expected = removed ? "" : word + " [" + documentName(i) + "]";
+				assertEquals("Unexpected results", expected, query(merged, refs, word, EXACT));
+				assertEquals("Unexpected results ignoring case", expected, query(merged, refs, "\u00fcN\u00cfC\u00d6D\u00c9" + i, SearchPattern.R_EXACT_MATCH));
+				assertEquals("Unexpected results with another case", "", query(merged, refs, "\u00fcN\u00cfC\u00d6D\u00c9" + i, EXACT));
+			}
+		}
+		// a prefix query is not screened
+		String expected = query(merged, refs, "Gr\u00f6\u00dfe", SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE);
+		assertTrue("Missing document", expected.contains(documentName(399)));
+		assertFalse("Unexpected removed document", expected.contains(documentName(35)));
+		assertEquals("Unexpected results", expected, query(merged, refs, "Gr\u00f6\u00dfe", EXACT));
+		assertEquals("Unexpected results ignoring case", expected, query(merged, refs, "gR\u00d6\u00dfE", SearchPattern.R_EXACT_MATCH));
+		assertEquals("Unexpected number of changed documents", 300 / 5,
+				query(merged, refs, "Changed", EXACT).split(",").length);
+		assertEquals("Unexpected results", "", query(merged, refs, "Missing", SearchPattern.R_EXACT_MATCH));
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import junit.framework.Test;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.core.search.PatternSearchJob;
+import org.eclipse.jdt.internal.core.search.matching.MatchLocator;
+
+/**
+ * Searches a project whose possible matches are located by several chunks, and checks that the matches located in
+ * parallel are the matches of the sequential search, reported in the same order.
+ */
+public class JavaSearchParallelTests extends AbstractJavaSearchTests {
+
+	private static final int UNITS = 30;
+	private static final int CHUNK_SIZE = 4;
+
+	public JavaSearchParallelTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(JavaSearchParallelTests.class, BYTECODE_DECLARATION_ORDER);
+	}
+
+	public String getProjectName() {
+		return "JavaSearchParallel";
+	}
+
+	@Override
+	public void setUpSuite() throws Exception {
+		super.setUpSuite();
+		JAVA_PROJECT = createJavaProject(getProjectName(), new String[] {"src"}, new String[] {"JCL18_LIB"}, "bin", "1.8");
+		createFolder("/JavaSearchParallel/src/p");
+		createFile("/JavaSearchParallel/src/p/Base.java",
+			"package p;\n" +
+			"public class Base {\n" +
+			"	public void run() {}\n" +
+			"}");
+		for (int i = 0; i < UNITS; i++) {
+			createFile("/JavaSearchParallel/src/p/Sub" + i + ".java",
+				"package p;\n" +
+				"public class Sub" + i + " extends Base {\n" +
+				"	public void run() {}\n" +
+				"	void call(Base base) {\n" +
+				"		base.run();\n" +
+				"	}\n" +
+				"}");
+			createFile("/JavaSearchParallel/src/p/User" + i + ".java",
+				"package p;\n" +
+				"public class User" + i + " {\n" +
+				"	void use(Sub" + i + " sub) {\n" +
+				"		sub.run();\n" +
+				"		new Sub" + (UNITS - 1 - i) + "().run();\n" +
+				"	}\n" +
+				"}");
+		}
+		waitUntilIndexesReady();
+	}
+
+	@Override
+	public void tearDownSuite() throws Exception {
+		deleteProject(getProjectName());
+		JAVA_PROJECT = null;
+		super.tearDownSuite();
+	}
+
+	@Override
+	IJavaSearchScope getJavaSearchScope() {
+		return SearchEngine.createJavaSearchScope(new IJavaElement[] {getJavaProject(getProjectName())});
+	}
+
+	/**
+	 * Searches with chunks of {@link #CHUNK_SIZE} possible matches, in parallel or not, and answers the matches in
+	 * the order they were reported.
+	 */
+	private String searchByChunks(SearchPattern pattern, boolean parallel) throws CoreException {
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(JavaCore.PLUGIN_ID);
+		int maxAtOnce = MatchLocator.MAX_AT_ONCE;
+		preferences.putBoolean(PatternSearchJob.ENABLE_PARALLEL_SEARCH, parallel);
+		MatchLocator.MAX_AT_ONCE = CHUNK_SIZE;
+		try {
+			JavaSearchResultCollector collector = new JavaSearchResultCollector();
+			collector.showAccuracy(true);
+			search(pattern, getJavaSearchScope(), collector);
+			return collector.toString();
+		} finally {
+			MatchLocator.MAX_AT_ONCE = maxAtOnce;
+			preferences.remove(PatternSearchJob.ENABLE_PARALLEL_SEARCH);
+		}
+	}
+
+	private void assertSameMatches(SearchPattern pattern, int expectedCount) throws CoreException {
+		String sequential = searchByChunks(pattern, false);
+		String parallel = searchByChunks(pattern, true);
+		assertEquals("Unexpected number of matches:\n" + sequential, expectedCount, sequential.split("\n").length);
+		assertEquals("Unexpected parallel matches", sequential, parallel);
+	}
+
+	public void testTypeReferences() throws CoreException {
+		IType type = getCompilationUnit("/JavaSearchParallel/src/p/Base.java").getType("Base");
+		assertSameMatches(SearchPattern.createPattern(type, IJavaSearchConstants.REFERENCES), 2 * UNITS);
+	}
+
+	public void testMethodReferences() throws CoreException {
+		IMethod method = getCompilationUnit("/JavaSearchParallel/src/p/Base.java").getType("Base").getMethod("run", new String[0]);
+		// every call is a call of Base#run, through the receiver or an override
+		assertSameMatches(SearchPattern.createPattern(method, IJavaSearchConstants.REFERENCES), 3 * UNITS);
+	}
+
+	public void testPolymorphicMethodReferences() throws CoreException {
+		// the calls on a Base receiver are potential matches, found through the super declaring types of Sub0
+		IMethod method = getCompilationUnit("/JavaSearchParallel/src/p/Sub0.java").getType("Sub0").getMethod("run", new String[0]);
+		assertSameMatches(SearchPattern.createPattern(method, IJavaSearchConstants.REFERENCES), UNITS + 2);
+	}
+
+	public void testMethodDeclarations() throws CoreException {
+		SearchPattern pattern = SearchPattern.createPattern("run", IJavaSearchConstants.METHOD, IJavaSearchConstants.DECLARATIONS, EXACT_RULE);
+		assertSameMatches(pattern, 1 + UNITS);
+	}
+}
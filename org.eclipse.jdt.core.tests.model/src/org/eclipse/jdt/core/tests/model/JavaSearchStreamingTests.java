@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.util.Arrays;
+import junit.framework.Test;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.core.search.BasicSearchEngine;
+
+/**
+ * Searches two projects with the streaming search, which locates the matches of the documents found in the first
+ * indexes while the next ones are queried, and checks that it reports the matches of the search which locates
+ * them once all the indexes are queried, with working copies which are index matches or not.
+ */
+public class JavaSearchStreamingTests extends AbstractJavaSearchTests {
+
+	private static final int UNITS = 10;
+
+	public JavaSearchStreamingTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(JavaSearchStreamingTests.class, BYTECODE_DECLARATION_ORDER);
+	}
+
+	@Override
+	public void setUpSuite() throws Exception {
+		super.setUpSuite();
+		createJavaProject("JavaSearchStreaming1", new String[] {"src"}, new String[] {"JCL18_LIB"}, "bin", "1.8");
+		createFolder("/JavaSearchStreaming1/src/p");
+		createFile("/JavaSearchStreaming1/src/p/Base.java",
+			"package p;\n" +
+			"public class Base {\n" +
+			"	public void run() {}\n" +
+			"}");
+		for (int i = 0; i < UNITS; i++) {
+			createFile("/JavaSearchStreaming1/src/p/Sub" + i + ".java",
+				"package p;\n" +
+				"public class Sub" + i + " extends Base {\n" +
+				"	void call(Base base) {\n" +
+				"		base.run();\n" +
+				"	}\n" +
+				"}");
+		}
+		createJavaProject("JavaSearchStreaming2", new String[] {"src"}, new String[] {"JCL18_LIB"}, new String[] {"/JavaSearchStreaming1"}, "bin", "1.8");
+		createFolder("/JavaSearchStreaming2/src/q");
+		for (int i = 0; i < UNITS; i++) {
+			createFile("/JavaSearchStreaming2/src/q/User" + i + ".java",
+				"package q;\n" +
+				"public class User" + i + " {\n" +
+				"	void use(p.Base base) {\n" +
+				"		base.run();\n" +
+				"	}\n" +
+				"}");
+		}
+		createFile("/JavaSearchStreaming2/src/q/Plain.java",
+			"package q;\n" +
+			"public class Plain {\n" +
+			"}");
+		waitUntilIndexesReady();
+	}
+
+	@Override
+	public void tearDownSuite() throws Exception {
+		deleteProject("JavaSearchStreaming1");
+		deleteProject("JavaSearchStreaming2");
+		super.tearDownSuite();
+	}
+
+	@Override
+	IJavaSearchScope getJavaSearchScope() {
+		return SearchEngine.createJavaSearchScope(new IJavaElement[] {
+			getJavaProject("JavaSearchStreaming1"),
+			getJavaProject("JavaSearchStreaming2")
+		});
+	}
+
+	/**
+	 * Creates working copies which are index matches or not, and which are matches or not.
+	 */
+	private void createWorkingCopies() throws CoreException {
+		this.workingCopies = new ICompilationUnit[] {
+			// an index match which is not a match anymore
+			getWorkingCopy("/JavaSearchStreaming1/src/p/Sub3.java",
+				"package p;\n" +
+				"public class Sub3 {\n" +
+				"}"),
+			// an index match with other matches
+			getWorkingCopy("/JavaSearchStreaming2/src/q/User4.java",
+				"package q;\n" +
+				"public class User4 {\n" +
+				"	void use(p.Base base, p.Base other) {\n" +
+				"		other.run();\n" +
+				"	}\n" +
+				"}"),
+			// not an index match, in the index
+			getWorkingCopy("/JavaSearchStreaming2/src/q/Plain.java",
+				"package q;\n" +
+				"public class Plain {\n" +
+				"	void use(p.Base base) {\n" +
+				"		base.run();\n" +
+				"	}\n" +
+				"}"),
+			// not an index match, not in the index
+			getWorkingCopy("/JavaSearchStreaming1/src/p/Added.java",
+				"package p;\n" +
+				"public class Added extends Base {\n" +
+				"	void call(Base base) {\n" +
+				"		base.run();\n" +
+				"	}\n" +
+				"}")
+		};
+	}
+
+	/**
+	 * Answers the matches reported by the search with the streaming search enabled or not, sorted since the
+	 * streaming search reports them in another order.
+	 */
+	private String search(SearchPattern pattern, boolean streaming) throws CoreException {
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(JavaCore.PLUGIN_ID);
+		preferences.putBoolean(BasicSearchEngine.ENABLE_STREAMING_SEARCH, streaming);
+		try {
+			assertEquals("Unexpected streaming search", streaming, BasicSearchEngine.isStreamingSearchEnabled());
+			JavaSearchResultCollector collector = new JavaSearchResultCollector();
+			collector.showAccuracy(true);
+			search(pattern, getJavaSearchScope(), collector);
+			String[] matches = collector.toString().split("\n");
+			Arrays.sort(matches);
+			return String.join("\n", matches);
+		} finally {
+			preferences.remove(BasicSearchEngine.ENABLE_STREAMING_SEARCH);
+		}
+	}
+
+	private String assertSameMatches(SearchPattern pattern) throws CoreException {
+		String matches = search(pattern, false);
+		assertEquals("Unexpected streaming matches", matches, search(pattern, true));
+		return matches;
+	}
+
+	private static int count(String matches, String path) {
+		int count = 0;
+		for (String match : matches.split("\n")) {
+			if (match.startsWith(path))
+				count++;
+		}
+		return count;
+	}
+
+	private IType getBase() {
+		return getCompilationUnit("/JavaSearchStreaming1/src/p/Base.java").getType("Base");
+	}
+
+	public void testTypeReferences() throws CoreException {
+		String matches = assertSameMatches(SearchPattern.createPattern(getBase(), IJavaSearchConstants.REFERENCES));
+		assertEquals("Unexpected number of matches:\n" + matches, 2 * UNITS + UNITS, matches.split("\n").length);
+	}
+
+	public void testTypeReferencesWithWorkingCopies() throws CoreException {
+		createWorkingCopies();
+		String matches = assertSameMatches(SearchPattern.createPattern(getBase(), IJavaSearchConstants.REFERENCES));
+		assertEquals("Unexpected number of matches:\n" + matches, 2 * UNITS - 2 + UNITS + 1 + 1 + 2, matches.split("\n").length);
+		assertEquals("Unexpected match of a changed index match:\n" + matches, 0, count(matches, "src/p/Sub3.java"));
+		assertEquals("Unexpected matches of a changed index match:\n" + matches, 2, count(matches, "src/q/User4.java"));
+		assertTrue("Missing match of an indexed working copy:\n" + matches, matches.contains("src/q/Plain.java"));
+		assertTrue("Missing match of a new working copy:\n" + matches, matches.contains("src/p/Added.java"));
+	}
+
+	public void testMethodReferencesWithWorkingCopies() throws CoreException {
+		createWorkingCopies();
+		String matches = assertSameMatches(SearchPattern.createPattern(getBase().getMethod("run", new String[0]), IJavaSearchConstants.REFERENCES));
+		assertEquals("Unexpected number of matches:\n" + matches, UNITS - 1 + UNITS + 1 + 1, matches.split("\n").length);
+		assertTrue("Missing match of an indexed working copy:\n" + matches, matches.contains("src/q/Plain.java"));
+		assertTrue("Missing match of a new working copy:\n" + matches, matches.contains("src/p/Added.java"));
+	}
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import junit.framework.Test;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.internal.core.search.processing.IJob;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+
+/**
+ * Tests the scheduling of the jobs of a {@link JobManager} executing several jobs at the same time.
+ */
+public class JobManagerTests extends AbstractJavaModelTests {
+
+	private static final long TIMEOUT = 10000; // ms
+	private static final long JOB_TIMEOUT = 6 * TIMEOUT; // ms, a blocked job outlives the checks of the test
+	private static final long DELAY = 200; // ms, to check that a job does not start
+
+	static class TestJobManager extends JobManager {
+		TestJobManager(int concurrentJobs) {
+			super(concurrentJobs);
+		}
+		@Override
+		protected void notifyIdle(long idlingMilliSeconds) {
+			// nothing to do
+		}
+		@Override
+		public String processName() {
+			return "Test job manager";
+		}
+	}
+
+	/**
+	 * A job which logs its start and its end, and is executed until it is released or cancelled.
+	 */
+	class TestJob implements IJob {
+		final String name;
+		final String family;
+		final Object key;
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch released = new CountDownLatch(1);
+		volatile boolean cancelled;
+
+		TestJob(String name, String family, Object key, boolean blocked) {
+			this.name = name;
+			this.family = family;
+			this.key = key;
+			if (!blocked)
+				this.released.countDown();
+		}
+		@Override
+		public boolean belongsTo(String jobFamily) {
+			return this.family.equals(jobFamily);
+		}
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			this.released.countDown();
+		}
+		@Override
+		public void ensureReadyToRun() {
+			// always ready
+		}
+		@Override
+		public boolean execute(IProgressMonitor progress) {
+			JobManagerTests.this.events.add("start " + this.name);
+			this.started.countDown();
+			try {
+				this.released.await(JOB_TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				// end
+			}
+			JobManagerTests.this.events.add("end " + this.name);
+			return COMPLETE;
+		}
+		@Override
+		public String getJobFamily() {
+			return this.family;
+		}
+		@Override
+		public Object getSchedulingKey() {
+			return this.key;
+		}
+		void release() {
+			this.released.countDown();
+		}
+		boolean hasStarted(long timeout) throws InterruptedException {
+			return this.started.await(timeout, TimeUnit.MILLISECONDS);
+		}
+		@Override
+		public String toString() {
+			return this.name;
+		}
+	}
+
+	final List<String> events = Collections.synchronizedList(new ArrayList<>());
+	private TestJobManager manager;
+
+	public JobManagerTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(JobManagerTests.class);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (this.manager != null)
+			this.manager.shutdown();
+		this.events.clear();
+		super.tearDown();
+	}
+
+	private TestJobManager startManager(int concurrentJobs) {
+		this.manager = new TestJobManager(concurrentJobs);
+		this.manager.reset(); // starts the processing thread
+		return this.manager;
+	}
+
+	private void assertStarted(TestJob job) throws InterruptedException {
+		assertTrue("Job not started: " + job + " " + this.events, job.hasStarted(TIMEOUT));
+	}
+
+	private void assertNotStarted(TestJob job) throws InterruptedException {
+		assertFalse("Unexpected start of " + job + " " + this.events, job.hasStarted(DELAY));
+	}
+
+	private void waitUntilDone() throws InterruptedException {
+		long end = System.currentTimeMillis() + TIMEOUT;
+		while (this.manager.awaitingJobsCount() > 0) {
+			assertTrue("Jobs not done: " + this.manager, System.currentTimeMillis() < end);
+			Thread.sleep(10);
+		}
+	}
+
+	private String events() {
+		synchronized (this.events) {
+			return String.join("\n", this.events);
+		}
+	}
+
+	public void testSameKeyOrdering() throws InterruptedException {
+		JobManager jobManager = startManager(4);
+		TestJob first = new TestJob("first", "family", "key", true);
+		TestJob second = new TestJob("second", "family", "key", false);
+		TestJob other = new TestJob("other", "family", "other key", true);
+		jobManager.request(first);
+		jobManager.request(second);
+		jobManager.request(other);
+		// a job with another key is executed at the same time, a job with the same key waits
+		assertStarted(first);
+		assertStarted(other);
+		assertNotStarted(second);
+		other.release();
+		assertNotStarted(second);
+		first.release();
+		waitUntilDone();
+		assertTrue("Unexpected order:\n" + events(), this.events.indexOf("end first") < this.events.indexOf("start second"));
+	}
+
+	public void testNullKeyBarrier() throws InterruptedException {
+		JobManager jobManager = startManager(4);
+		TestJob before = new TestJob("before", "family", "key", true);
+		TestJob barrier = new TestJob("barrier", "family", null, true);
+		TestJob after = new TestJob("after", "family", "other key", false);
+		jobManager.request(before);
+		jobManager.request(barrier);
+		jobManager.request(after);
+		// the job without key waits for the previous jobs, and the next jobs wait for it, whatever their keys
+		assertStarted(before);
+		assertNotStarted(barrier);
+		assertNotStarted(after);
+		before.release();
+		assertStarted(barrier);
+		assertNotStarted(after);
+		barrier.release();
+		waitUntilDone();
+		assertEquals("Unexpected events",
+				"start before\n" +
+				"end before\n" +
+				"start barrier\n" +
+				"end barrier\n" +
+				"start after\n" +
+				"end after",
+				events());
+	}
+
+	public void testDiscardRunningFamily() throws InterruptedException {
+		JobManager jobManager = startManager(2);
+		TestJob discarded = new TestJob("discarded", "discarded family", "key1", true);
+		TestJob kept = new TestJob("kept", "kept family", "key2", true);
+		TestJob waitingDiscarded = new TestJob("waiting discarded", "discarded family", "key3", false);
+		TestJob waitingKept = new TestJob("waiting kept", "kept family", "key4", false);
+		jobManager.request(discarded);
+		jobManager.request(kept);
+		jobManager.request(waitingDiscarded);
+		jobManager.request(waitingKept);
+		assertStarted(discarded);
+		assertStarted(kept);
+
+		// the running job of the family is cancelled and awaited, the running job of the other family is not
+		Thread discarding = new Thread(() -> jobManager.discardJobs("discarded family"));
+		discarding.start();
+		discarding.join(TIMEOUT);
+		assertFalse("Discarding waits for the jobs of another family", discarding.isAlive());
+		assertTrue("Running job not cancelled", discarded.cancelled);
+		assertTrue("Waiting job not cancelled", waitingDiscarded.cancelled);
+		assertFalse("Unexpected cancelled job", kept.cancelled);
+		assertTrue("Missing end of the cancelled job:\n" + events(), this.events.contains("end discarded"));
+
+		kept.release();
+		waitUntilDone();
+		assertFalse("Unexpected discarded job:\n" + events(), this.events.contains("start waiting discarded"));
+		assertTrue("Missing job:\n" + events(), this.events.contains("end waiting kept"));
+	}
+
+	public void testWaitingSearch() throws InterruptedException {
+		JobManager jobManager = startManager(2);
+		TestJob indexing = new TestJob("indexing", "family", "key", true);
+		TestJob search = new TestJob("search", "family", null, false);
+		jobManager.request(indexing);
+		assertStarted(indexing);
+		boolean[] status = new boolean[1];
+		Thread searching = new Thread(() -> status[0] = jobManager.performConcurrentJob(search, IJob.WaitUntilReady, null));
+		searching.start();
+		// the search waits until the index is ready, and is woken when the indexing job completes
+		assertNotStarted(search);
+		indexing.release();
+		searching.join(TIMEOUT);
+		assertFalse("Search still waiting", searching.isAlive());
+		assertTrue("Unexpected status", status[0]);
+		assertEquals("Unexpected events",
+				"start indexing\n" +
+				"end indexing\n" +
+				"start search\n" +
+				"end search",
+				events());
+	}
+}
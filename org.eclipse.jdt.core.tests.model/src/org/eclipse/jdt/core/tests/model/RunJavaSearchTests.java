@@ -85,6 +85,8 @@ public class RunJavaSearchTests extends junit.framework.TestCase {
 		allClasses.add(JavaSearchIssue190Test.class);
 		allClasses.add(JavaSearchImplicitTypeDeclarationTests.class);
 		allClasses.add(JavaSearchExtensionTest.class);
+		allClasses.add(JavaSearchParallelTests.class);
+		allClasses.add(JavaSearchStreamingTests.class);
 
 		// Reset forgotten subsets of tests
 		TestCase.TESTS_PREFIX = null;
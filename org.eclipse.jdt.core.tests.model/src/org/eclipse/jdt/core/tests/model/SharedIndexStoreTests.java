@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import junit.framework.Test;
+import org.eclipse.jdt.internal.core.search.indexing.SharedIndexStore;
+
+/**
+ * Tests the store of index files shared by the workspaces of a machine.
+ */
+public class SharedIndexStoreTests extends AbstractJavaModelTests {
+
+	private File root;
+	private File directory;
+
+	public SharedIndexStoreTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(SharedIndexStoreTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.root = new File(getExternalPath(), "SharedIndexStoreTests");
+		this.directory = new File(this.root, "store");
+		this.root.mkdirs();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		deleteFile(this.root);
+		super.tearDown();
+	}
+
+	private static void deleteFile(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children)
+				deleteFile(child);
+		}
+		file.delete();
+	}
+
+	private File newFile(String path, String contents) throws IOException {
+		File file = new File(this.root, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), contents.getBytes("UTF-8"));
+		return file;
+	}
+
+	private static String contents(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), "UTF-8");
+	}
+
+	private String[] sharedFiles() {
+		String[] names = this.directory.list();
+		if (names == null)
+			return new String[0];
+		Arrays.sort(names);
+		return names;
+	}
+
+	public void testDisabledByDefault() {
+		if (System.getProperty(SharedIndexStore.DIRECTORY_PROPERTY) != null)
+			return; // enabled for this run
+		assertNull("Unexpected store", SharedIndexStore.getInstance());
+	}
+
+	public void testKeyOf() throws IOException {
+		SharedIndexStore store = new SharedIndexStore(this.directory, 1024 * 1024);
+		String key = store.keyOf(newFile("a/lib.jar", "contents"));
+		assertNotNull("Missing key", key);
+		assertEquals("Unexpected key of an identical jar", key, store.keyOf(newFile("b/lib.jar", "contents")));
+		assertFalse("Unexpected key of other contents", key.equals(store.keyOf(newFile("c/lib.jar", "other contents"))));
+		// the name of a jar gives the name of its automatic module
+		assertFalse("Unexpected key of another name", key.equals(store.keyOf(newFile("a/other.jar", "contents"))));
+		assertNull("Unexpected key of a missing jar", store.keyOf(new File(this.root, "missing.jar")));
+		assertFalse("Unexpected store directory", this.directory.exists());
+	}
+
+	public void testPublishAndFetch() throws IOException {
+		SharedIndexStore store = new SharedIndexStore(this.directory, 1024 * 1024);
+		String key = store.keyOf(newFile("lib.jar", "contents"));
+		File indexFile = new File(this.root, "workspace2/lib.index");
+		indexFile.getParentFile().mkdirs();
+		assertFalse("Unexpected shared index", store.fetch(key, indexFile));
+		assertFalse("Unexpected index file", indexFile.exists());
+
+		store.publish(key, newFile("workspace1/lib.index", "index"));
+		assertEquals("Unexpected shared files", "[" + key + ".index]", Arrays.toString(sharedFiles()));
+		// the shared index file is not replaced by the index of another workspace
+		store.publish(key, newFile("workspace3/lib.index", "other index"));
+		assertTrue("Missing shared index", store.fetch(key, indexFile));
+		assertEquals("Unexpected index file", "index", contents(indexFile));
+		assertEquals("Unexpected shared files", "[" + key + ".index]", Arrays.toString(sharedFiles()));
+
+		store.publish(key, new File(this.root, "missing.index"));
+		assertEquals("Unexpected shared files", "[" + key + ".index]", Arrays.toString(sharedFiles()));
+	}
+
+	public void testTrim() throws IOException {
+		// room for two index files of 5 bytes
+		SharedIndexStore store = new SharedIndexStore(this.directory, 10);
+		long now = System.currentTimeMillis();
+		store.publish("keya", newFile("a.index", "index"));
+		new File(this.directory, "keya.index").setLastModified(now - 20000);
+		store.publish("keyb", newFile("b.index", "index"));
+		new File(this.directory, "keyb.index").setLastModified(now - 10000);
+		assertEquals("Unexpected shared files", "[keya.index, keyb.index]", Arrays.toString(sharedFiles()));
+
+		// a fetched index file is recently used, the least recently used one is deleted
+		assertTrue("Missing shared index", store.fetch("keya", new File(this.root, "fetched.index")));
+		store.publish("keyc", newFile("c.index", "index"));
+		assertEquals("Unexpected shared files", "[keya.index, keyc.index]", Arrays.toString(sharedFiles()));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import junit.framework.Test;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -49,6 +50,7 @@ import org.eclipse.jdt.internal.compiler.parser.TerminalToken;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
 import org.eclipse.jdt.internal.compiler.util.Util;
+import org.eclipse.jdt.internal.core.builder.JavaBuilder;
 
 /**
  * Class to test compiler performance.
@@ -761,4 +763,48 @@ public class FullSourceWorkspaceBuildTests extends FullSourceWorkspaceTests {
 		tagAsSummary("Build with Generic Types ", false); // do NOT put in fingerprint
 		compile("GenericsTest.java", 12_629_541, "", "1.8", false /*no log*/ );
 	}
+
+	/**
+	 * Full build with JavaCore default options, where the projects which do not depend on each other are built
+	 * concurrently on all the processors.
+	 * The workspace is first built and timed sequentially, so that the test does not depend on the tests run before
+	 * it, and both times are logged for the scaling of the build. The options, the parallel build flag and the
+	 * maximum of concurrent builds of the workspace are restored, not to change the results of the other tests.
+	 */
+	public void testFullBuildParallel() throws CoreException, IOException {
+		tagAsSummary("Build entire workspace in parallel", false); // do NOT put in fingerprint
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription description = workspace.getDescription();
+		int maxConcurrentBuilds = description.getMaxConcurrentBuilds();
+		boolean parallelBuild = JavaBuilder.PARALLEL_BUILD;
+		Hashtable options = JavaCore.getOptions();
+		try {
+			Hashtable buildOptions = warningOptions(0/*default warnings*/);
+			JavaCore.setOptions(buildOptions);
+
+			// warm-up and sequential build, as the builds of the other tests
+			JavaBuilder.PARALLEL_BUILD = false;
+			ENV.fullBuild();
+			long startNanos = System.nanoTime();
+			runGc(); // as build() does in the time of the parallel build
+			ENV.fullBuild();
+			long sequentialTimeMs = (System.nanoTime() - startNanos) / 1_000_000L;
+
+			description.setMaxConcurrentBuilds(Runtime.getRuntime().availableProcessors());
+			workspace.setDescription(description);
+			JavaBuilder.PARALLEL_BUILD = true;
+			startNanos = System.nanoTime();
+			build(null, buildOptions, false);
+			long parallelTimeMs = (System.nanoTime() - startNanos) / 1_000_000L;
+
+			System.out.println("\t- sequential full build: " + sequentialTimeMs + "ms, parallel full build on "
+					+ description.getMaxConcurrentBuilds() + " processors: " + parallelTimeMs + "ms");
+			this.scenarioComment.append(" sequential=").append(sequentialTimeMs).append("ms parallel=").append(parallelTimeMs).append("ms");
+		} finally {
+			JavaCore.setOptions(options);
+			JavaBuilder.PARALLEL_BUILD = parallelBuild;
+			description.setMaxConcurrentBuilds(maxConcurrentBuilds);
+			workspace.setDescription(description);
+		}
+	}
 }
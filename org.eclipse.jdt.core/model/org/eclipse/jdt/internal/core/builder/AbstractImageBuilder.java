@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,8 @@ import org.eclipse.jdt.internal.compiler.DefaultCompilerFactory;
 import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
 import org.eclipse.jdt.internal.compiler.ICompilerFactory;
 import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
 import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
@@ -102,6 +104,7 @@ private boolean inCompiler;
 
 protected boolean keepStoringProblemMarkers;
 protected Map<SourceFile, AnnotationBinding[]> filesWithAnnotations = null;
+BuildCache buildCache; // where the results of compiling source files are stored during a full build, or null
 
 //2000 is best compromise between space used and speed
 public static int MAX_AT_ONCE = Integer.getInteger(JavaModelManager.MAX_COMPILED_UNITS_AT_ONCE, 2000).intValue();
@@ -184,6 +187,7 @@ public void acceptResult(CompilationResult result) {
 		if (result.hasInconsistentToplevelHierarchies)
 			// ensure that this file is always retrieved from source for the rest of the build
 			this.problemSourceFiles.add(compilationUnit);
+		boolean isCacheable = !result.hasInconsistentToplevelHierarchies; // unless problems are created on the side
 
 		IType mainType = null;
 		String mainTypeName = null;
@@ -201,14 +205,17 @@ public void acceptResult(CompilationResult result) {
 			// Look for a possible collision, if one exists, report an error but do not write the class file
 			if (isNestedType) {
 				String qualifiedTypeName = new String(classFile.outerMostEnclosingClassFile().fileName());
-				if (this.newState.isDuplicateLocator(qualifiedTypeName, typeLocator, compilationUnit.sourceLocation.release))
+				if (this.newState.isDuplicateLocator(qualifiedTypeName, typeLocator, compilationUnit.sourceLocation.release)) {
+					isCacheable = false;
 					continue;
+				}
 			} else {
 				String qualifiedTypeName = new String(classFile.fileName()); // the qualified type name "p1/p2/A"
 				if (this.newState.isDuplicateLocator(qualifiedTypeName, typeLocator, compilationUnit.sourceLocation.release)) {
 					if (duplicateTypeNames == null)
 						duplicateTypeNames = new ArrayList();
 					duplicateTypeNames.add(compoundName);
+					isCacheable = false;
 					if (mainType == null) {
 						try {
 							mainTypeName = compilationUnit.initialTypeName; // slash separated qualified name "p1/p1/A"
@@ -248,10 +255,12 @@ public void acceptResult(CompilationResult result) {
 				if (postProcessingResult.isPresent()) {
 					classFile.internalSetBytes(postProcessingResult.get());
 				}
+				isCacheable = false;
 			}
 			try {
 				definedTypeNames.add(writeClassFile(classFile, compilationUnit, !isNestedType));
 			} catch (CoreException e) {
+				isCacheable = false;
 				Util.log(e, "JavaBuilder handling CoreException"); //$NON-NLS-1$
 				if (e.getStatus().getCode() == IResourceStatus.CASE_VARIANT_EXISTS)
 					createProblemFor(compilationUnit.resource, null, Messages.bind(Messages.build_classFileCollision, e.getMessage()), JavaCore.ERROR);
@@ -265,6 +274,12 @@ public void acceptResult(CompilationResult result) {
 			this.filesWithAnnotations.put(compilationUnit, bindings);
 		}
 
+		if (this.buildCache != null) {
+			if (isCacheable)
+				this.buildCache.put(compilationUnit, result, this.newState);
+			else
+				this.buildCache.remove(compilationUnit);
+		}
 		this.compiler.lookupEnvironment.releaseClassFiles(classFiles);
 		finishedWith(typeLocator, result, compilationUnit.getMainTypeName(), definedTypeNames, duplicateTypeNames);
 		for (CompilationParticipantResult postProcessingResult : postProcessingResults) {
@@ -347,6 +362,7 @@ protected void cleanUp() {
 	this.compiler = null;
 	this.workQueue = null;
 	this.problemSourceFiles = null;
+	this.buildCache = null;
 }
 
 /* Compile the given elements, adding more elements to the work queue
@@ -738,6 +754,7 @@ protected Compiler newCompiler() {
 	// temporary code to allow the compiler to revert to a single thread
 	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 	newCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	newCompiler.parsingThreads = Integer.getInteger("jdt.compiler.parsingThreads", 1).intValue(); //$NON-NLS-1$
 
 	// enable the compiler reference info support
 	options.produceReferenceInfo = true;
@@ -938,11 +955,8 @@ protected void recordParticipantResult(CompilationParticipantResult result) {
 	}
 
 	String[] dependencies = result.dependencies;
-	if (dependencies != null) {
-		ReferenceCollection refs = this.newState.references.get(result.sourceFile.typeLocator());
-		if (refs != null)
-			refs.addDependencies(dependencies);
-	}
+	if (dependencies != null)
+		this.newState.addDependencies(result.sourceFile.typeLocator(), dependencies);
 }
 
 /**
@@ -1139,18 +1153,40 @@ protected void updateTasksFor(SourceFile sourceFile, CompilationResult result) t
 
 protected char[] writeClassFile(ClassFile classFile, SourceFile compilationUnit, boolean isTopLevelType) throws CoreException {
 	String fileName = new String(classFile.fileName()); // the qualified type name "p1/p2/A"
-	IPath filePath = new Path(fileName);
+	IFile file = getClassFile(fileName, compilationUnit);
+	writeClassFileContents(classFile, file, fileName, isTopLevelType, compilationUnit);
+	// answer the name of the class file as in Y or Y$M
+	return file.getFullPath().removeFileExtension().lastSegment().toCharArray();
+}
+
+/**
+ * Answers the class file of the given type in the output folder of the given source file, creating its package
+ * folder if needed.
+ */
+protected IFile getClassFile(String qualifiedFileName, SourceFile compilationUnit) throws CoreException {
+	IPath filePath = new Path(qualifiedFileName);
 	IContainer outputFolder = compilationUnit.sourceLocation.binaryFolder;
 	IContainer container = outputFolder;
 	if (filePath.segmentCount() > 1) {
 		container = createFolder(filePath.removeLastSegments(1), outputFolder);
 		filePath = new Path(filePath.lastSegment());
 	}
+	return container.getFile(filePath.addFileExtension(SuffixConstants.EXTENSION_class));
+}
 
-	IFile file = container.getFile(filePath.addFileExtension(SuffixConstants.EXTENSION_class));
-	writeClassFileContents(classFile, file, fileName, isTopLevelType, compilationUnit);
-	// answer the name of the class file as in Y or Y$M
-	return filePath.lastSegment().toCharArray();
+/**
+ * Records the fingerprint of the API of the given class file, unless it defines a local or anonymous type, keeping its
+ * last change from the given state if the fingerprint is unchanged.
+ */
+protected void recordApiFingerprint(ClassFile classFile, String qualifiedFileName, byte[] bytes, State lastState) {
+	if (classFile.referenceBinding != null && classFile.referenceBinding.isLocalType())
+		return; // local types are only visible inside a single method
+	try {
+		ClassFileReader reader = new ClassFileReader(bytes, qualifiedFileName.toCharArray());
+		this.newState.recordApiFingerprint(qualifiedFileName, ApiFingerprint.of(reader), lastState);
+	} catch (ClassFormatException e) {
+		this.newState.apiFingerprints.remove(qualifiedFileName); // its dependents are affected by any change
+	}
 }
 
 abstract protected void writeClassFileContents(ClassFile classFile, IFile file, String qualifiedFileName, boolean isTopLevelType, SourceFile compilationUnit) throws CoreException;
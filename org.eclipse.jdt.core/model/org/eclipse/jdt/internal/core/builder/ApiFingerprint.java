@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.env.IBinaryAnnotation;
+import org.eclipse.jdt.internal.compiler.env.IBinaryElementValuePair;
+import org.eclipse.jdt.internal.compiler.env.IBinaryField;
+import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
+import org.eclipse.jdt.internal.compiler.env.IBinaryNestedType;
+import org.eclipse.jdt.internal.compiler.env.IBinaryTypeAnnotation;
+import org.eclipse.jdt.internal.compiler.impl.Constant;
+import org.eclipse.jdt.internal.compiler.lookup.TagBits;
+
+/**
+ * A hash of the API of a type, as seen by the types of other projects: its modifiers, annotations, signature, super
+ * types, permitted subtypes and member types, and its fields and methods which are neither private nor synthetic,
+ * with their constants, annotations and thrown exceptions.
+ * <p>
+ * Two class files with the same API have the same fingerprint whatever the order of their members. The elements
+ * hashed are those compared by {@link ClassFileReader#hasStructuralChanges(byte[])}, except the private and
+ * synthetic members and the static initializer, which the types of other projects cannot reference.
+ * </p>
+ */
+final class ApiFingerprint {
+
+private static final long OnlyStructuralTagBits = TagBits.AnnotationTargetMASK
+	| TagBits.AnnotationDeprecated
+	| TagBits.AnnotationRetentionMASK
+	| TagBits.HierarchyHasProblems;
+
+private long hash = 0xcbf29ce484222325L; // FNV-1a
+
+private ApiFingerprint() {
+	// use of(ClassFileReader)
+}
+
+/**
+ * Answers the fingerprint of the API of the type read by the given reader.
+ */
+static long of(ClassFileReader reader) {
+	ApiFingerprint fingerprint = new ApiFingerprint();
+	fingerprint.add(reader.getModifiers());
+	fingerprint.add(reader.getTagBits() & OnlyStructuralTagBits);
+	fingerprint.add(reader.getAnnotations());
+	fingerprint.add(reader.getTypeAnnotations());
+	fingerprint.add(reader.getGenericSignature());
+	fingerprint.add(reader.getSuperclassName());
+	fingerprint.add(reader.getInterfaceNames());
+	fingerprint.add(reader.getPermittedSubtypesNames());
+
+	IBinaryNestedType[] memberTypes = reader.getMemberTypes();
+	fingerprint.add(memberTypes == null ? 0 : memberTypes.length);
+	if (memberTypes != null) {
+		for (IBinaryNestedType memberType : memberTypes) {
+			fingerprint.add(memberType.getName());
+			fingerprint.add(memberType.getModifiers());
+		}
+	}
+
+	IBinaryField[] fields = reader.getFields();
+	if (fields != null) {
+		fields = fields.clone(); // the reader answers its own array
+		Arrays.sort(fields, Comparator.comparing(IBinaryField::getName, CharOperation::compareTo));
+		for (IBinaryField field : fields) {
+			int modifiers = field.getModifiers();
+			if ((modifiers & (ClassFileConstants.AccPrivate | ClassFileConstants.AccSynthetic)) != 0)
+				continue;
+			fingerprint.add(field.getName());
+			fingerprint.add(modifiers);
+			fingerprint.add(field.getTagBits() & TagBits.AnnotationDeprecated);
+			fingerprint.add(field.getTypeName());
+			fingerprint.add(field.getGenericSignature());
+			fingerprint.add(field.getAnnotations());
+			fingerprint.add(field.getTypeAnnotations());
+			Constant constant = field.getConstant();
+			if (constant != null && constant != Constant.NotAConstant)
+				fingerprint.add(constant);
+		}
+	}
+
+	IBinaryMethod[] methods = reader.getMethods();
+	if (methods != null) {
+		methods = methods.clone();
+		Arrays.sort(methods, Comparator.comparing(IBinaryMethod::getSelector, CharOperation::compareTo)
+				.thenComparing(IBinaryMethod::getMethodDescriptor, CharOperation::compareTo));
+		for (IBinaryMethod method : methods) {
+			int modifiers = method.getModifiers();
+			if ((modifiers & (ClassFileConstants.AccPrivate | ClassFileConstants.AccSynthetic)) != 0 || method.isClinit())
+				continue;
+			fingerprint.add(method.getSelector());
+			fingerprint.add(method.getMethodDescriptor());
+			fingerprint.add(modifiers);
+			fingerprint.add(method.getTagBits() & TagBits.AnnotationDeprecated);
+			fingerprint.add(method.getGenericSignature());
+			fingerprint.add(method.getExceptionTypeNames());
+			fingerprint.add(method.getAnnotations());
+			int annotatedParametersCount = method.getAnnotatedParametersCount();
+			fingerprint.add(annotatedParametersCount);
+			for (int i = 0; i < annotatedParametersCount; i++)
+				fingerprint.add(method.getParameterAnnotations(i, reader.getFileName()));
+			fingerprint.add(method.getTypeAnnotations());
+			Object defaultValue = method.getDefaultValue();
+			if (defaultValue != null)
+				fingerprint.addValue(defaultValue);
+		}
+	}
+
+	char[][][] missingTypeNames = reader.getMissingTypeNames();
+	fingerprint.add(missingTypeNames == null ? 0 : missingTypeNames.length);
+	if (missingTypeNames != null) {
+		for (char[][] missingTypeName : missingTypeNames)
+			fingerprint.add(missingTypeName);
+	}
+	return fingerprint.hash;
+}
+
+private void add(long value) {
+	for (int i = 0; i < 64; i += 16)
+		add((char) (value >>> i));
+}
+
+private void add(char c) {
+	this.hash = (this.hash ^ c) * 0x100000001b3L;
+}
+
+private void add(char[] name) {
+	if (name == null) {
+		add(-1L);
+		return;
+	}
+	add(name.length);
+	for (char c : name)
+		add(c);
+}
+
+private void add(char[][] names) {
+	add(names == null ? 0 : names.length);
+	if (names != null) {
+		for (char[] name : names)
+			add(name);
+	}
+}
+
+private void add(Constant constant) {
+	add(constant.typeID());
+	add(constant.stringValue().toCharArray());
+}
+
+private void add(IBinaryAnnotation[] annotations) {
+	add(annotations == null ? 0 : annotations.length);
+	if (annotations != null) {
+		for (IBinaryAnnotation annotation : annotations)
+			add(annotation);
+	}
+}
+
+private void add(IBinaryAnnotation annotation) {
+	add(annotation.getTypeName());
+	IBinaryElementValuePair[] pairs = annotation.getElementValuePairs();
+	add(pairs == null ? 0 : pairs.length);
+	if (pairs != null) {
+		for (IBinaryElementValuePair pair : pairs) {
+			add(pair.getName());
+			addValue(pair.getValue());
+		}
+	}
+}
+
+private void add(IBinaryTypeAnnotation[] typeAnnotations) {
+	add(typeAnnotations == null ? 0 : typeAnnotations.length);
+	if (typeAnnotations != null) {
+		for (IBinaryTypeAnnotation typeAnnotation : typeAnnotations)
+			add(typeAnnotation.toString().toCharArray()); // the target and the annotation
+	}
+}
+
+private void addValue(Object value) {
+	if (value instanceof Constant) {
+		add((Constant) value);
+	} else if (value instanceof IBinaryAnnotation) {
+		add((IBinaryAnnotation) value);
+	} else if (value instanceof Object[]) {
+		Object[] values = (Object[]) value;
+		add(values.length);
+		for (Object element : values)
+			addValue(element);
+	} else {
+		add(String.valueOf(value).toCharArray()); // a class or an enum constant
+	}
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -114,14 +115,24 @@ public void build() {
 			sourceFiles.toArray(allSourceFiles);
 
 			this.notifier.setProgressPerCompilationUnit(0.75f / allSourceFiles.length);
-			this.workQueue.addAll(allSourceFiles);
-			compile(allSourceFiles);
-
+			if (JavaBuilder.BUILD_CACHE_STORE != null && this.javaBuilder.participants == null)
+				// participants may generate files or report problems which are not cached
+				this.buildCache = BuildCache.newBuildCache(JavaBuilder.BUILD_CACHE_STORE, this);
+			SourceFile[] sourceFilesToCompile = this.buildCache == null
+				? allSourceFiles
+				: restoreFromBuildCache(allSourceFiles);
+			this.workQueue.addAll(sourceFilesToCompile);
+			compile(sourceFilesToCompile);
+
+			if (this.buildCache != null)
+				recompileInvalidRestoredSourceFiles();
 			if (this.typeLocatorsWithUndefinedTypes != null)
 				if (this.secondaryTypes != null && !this.secondaryTypes.isEmpty())
 					rebuildTypesAffectedBySecondaryTypes();
 			if (this.incrementalBuilder != null)
 				this.incrementalBuilder.buildAfterBatchBuild();
+			if (this.buildCache != null)
+				this.buildCache.storeDependencies(this.newState);
 		}
 
 		if (this.javaBuilder.javaProject.hasCycleMarker())
@@ -346,6 +357,20 @@ protected void processAnnotationResults(CompilationParticipantResult[] results)
 	this.incrementalBuilder.processAnnotationResults(results);
 }
 
+/**
+ * Compiles again the source files restored from the build cache which depend on types whose API is not the one they
+ * were compiled with, once all the source files are restored or compiled.
+ */
+protected void recompileInvalidRestoredSourceFiles() {
+	List<SourceFile> invalidSourceFiles = this.buildCache.invalidRestoredSourceFiles(this.newState);
+	if (invalidSourceFiles.isEmpty()) return;
+
+	if (this.incrementalBuilder == null)
+		this.incrementalBuilder = new IncrementalImageBuilder(this, this.compilationGroup);
+	// their class files are compared with the restored ones, to compile their dependents again if their API changes
+	this.incrementalBuilder.sourceFiles.addAll(invalidSourceFiles);
+}
+
 protected void rebuildTypesAffectedBySecondaryTypes() {
 	// to compile types that could not find 'missing' secondary types because of multiple
 	// compile groups, we need to incrementally recompile all affected types as if the missing
@@ -369,6 +394,65 @@ protected void rebuildTypesAffectedBySecondaryTypes() {
 		this.typeLocatorsWithUndefinedTypes);
 }
 
+/**
+ * Restores the class files, problems, tasks and references of the given source files which are found in the build
+ * cache, and answers the other source files, which must be compiled.
+ */
+protected SourceFile[] restoreFromBuildCache(SourceFile[] sourceFiles) throws CoreException {
+	Map<SourceFile, BuildCache.CachedResult> results = this.buildCache.lookUp(sourceFiles);
+	if (results.isEmpty()) return sourceFiles;
+
+	ArrayList<SourceFile> sourceFilesToCompile = new ArrayList<>(sourceFiles.length - results.size());
+	startBatch();
+	try {
+		for (SourceFile sourceFile : sourceFiles) {
+			BuildCache.CachedResult result = results.get(sourceFile);
+			if (result != null && restore(sourceFile, result)) {
+				this.buildCache.restored(sourceFile, result);
+				this.notifier.updateProgressDelta(0.75f / sourceFiles.length);
+				this.notifier.checkCancel();
+			} else {
+				sourceFilesToCompile.add(sourceFile);
+			}
+		}
+	} finally {
+		endBatch(); // the restored class files must be found by the compiler
+	}
+	return sourceFilesToCompile.toArray(new SourceFile[sourceFilesToCompile.size()]);
+}
+
+/**
+ * Records the given result of compiling the given source file as acceptResult() does, or answers false if one of its
+ * types is already defined by another source file, which is then reported when the source file is compiled.
+ */
+private boolean restore(SourceFile sourceFile, BuildCache.CachedResult result) throws CoreException {
+	String typeLocator = sourceFile.typeLocator();
+	int release = sourceFile.sourceLocation.release;
+	for (int i = 0, l = result.classFileNames.length; i < l; i++)
+		if (!result.nestedTypes[i] && this.newState.isDuplicateLocator(result.classFileNames[i], typeLocator, release))
+			return false;
+
+	if (result.problems.length > 0) {
+		this.notifier.updateProblemCounts(result.problems);
+		storeProblemsFor(sourceFile, result.problems);
+	}
+	storeTasksFor(sourceFile, result.tasks);
+	ArrayList definedTypeNames = new ArrayList(result.classFileNames.length);
+	for (int i = 0, l = result.classFileNames.length; i < l; i++) {
+		String qualifiedFileName = result.classFileNames[i];
+		if (!result.nestedTypes[i])
+			this.newState.recordLocatorForType(qualifiedFileName, typeLocator, release);
+		if (result.fingerprints[i] != null)
+			this.newState.recordApiFingerprint(qualifiedFileName, result.fingerprints[i].longValue(), this.javaBuilder.lastState);
+		IFile file = getClassFile(qualifiedFileName, sourceFile);
+		writeClassFileContents(file, result.classFileContents[i]);
+		definedTypeNames.add(file.getFullPath().removeFileExtension().lastSegment().toCharArray());
+	}
+	this.newState.record(typeLocator, result.qualifiedReferences, result.simpleNameReferences, result.rootReferences,
+			sourceFile.getMainTypeName(), definedTypeNames);
+	return true;
+}
+
 @Override
 protected void storeProblemsFor(SourceFile sourceFile, CategorizedProblem[] problems) throws CoreException {
 	if (sourceFile == null || problems == null || problems.length == 0) return;
@@ -400,6 +484,11 @@ public void startBatch() {
 protected void writeClassFileContents(ClassFile classFile, IFile file, String qualifiedFileName, boolean isTopLevelType,
 		SourceFile compilationUnit) throws CoreException {
 	byte[] content = classFile.getBytes();
+	recordApiFingerprint(classFile, qualifiedFileName, content, this.javaBuilder.lastState);
+	writeClassFileContents(file, content);
+}
+
+private void writeClassFileContents(IFile file, byte[] content) throws CoreException {
 	if (this.batchMode) {
 		if (JavaBuilder.DEBUG) {
 			trace("Batching changed class file " + file.getName());//$NON-NLS-1$
@@ -0,0 +1,680 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
+import org.eclipse.jdt.internal.compiler.problem.ProblemSeverities;
+import org.eclipse.jdt.internal.core.util.Util;
+
+/**
+ * A cache of the results of compiling the source files of a project during a full build, from which the
+ * {@link BatchImageBuilder} restores the class files, problems, tasks and references of the source files which were
+ * compiled before, e.g. in another checkout or before switching branches, instead of compiling them again.
+ * <p>
+ * A source file is looked up by a key which digests its contents, its location, the compiler options and the API of
+ * the classpath of the project. The results found under this key are only valid if the types of the project which the
+ * source file may reference have the same API fingerprint as when it was compiled, so each result is recorded with the
+ * fingerprints of these types, see {@link #dependencies(State, Map)}. The restored source files whose dependencies are
+ * different once the other source files are compiled must be compiled again.
+ * </p>
+ * <p>
+ * Results are stored under the digest of their contents: the key of a source file maps to the keys of its last
+ * results, one per set of dependencies, so that each branch finds its own results.
+ * </p>
+ */
+final class BuildCache {
+
+private static final int FORMAT_VERSION = 1;
+private static final int MAX_RESULTS_PER_SOURCE_FILE = 4;
+
+/** digests of the contents of the jar files, by path, see {@link #digestContents(String)} **/
+private static final Map<String, ContentDigest> contentDigests = new ConcurrentHashMap<>();
+
+private final IBuildCacheStore store;
+private final byte[] configurationDigest;
+private boolean failed; // once the store failed, the cache is no longer used during this build
+private final Map<String, String> sourceKeys = new HashMap<>(); // type locator -> key of the source file
+private final Map<SourceFile, CachedResult> restoredResults = new LinkedHashMap<>(); // not yet validated
+private final Map<String, String> compiledResults = new LinkedHashMap<>(); // type locator -> key of its result
+
+/**
+ * The key of a result of compiling a source file, with the fingerprints of the types it depends on.
+ */
+private static final class ResultKey {
+
+final String key;
+final TreeMap<String, Long> dependencies;
+
+ResultKey(String key, TreeMap<String, Long> dependencies) {
+	this.key = key;
+	this.dependencies = dependencies;
+}
+}
+
+/**
+ * The digest of the contents of a file, valid as long as its time stamp and size do not change.
+ */
+private static final class ContentDigest {
+
+final long lastModified;
+final long length;
+final byte[] digest;
+
+ContentDigest(long lastModified, long length, byte[] digest) {
+	this.lastModified = lastModified;
+	this.length = length;
+	this.digest = digest;
+}
+}
+
+/**
+ * The result of compiling a source file, as read from the store.
+ */
+static final class CachedResult {
+
+final TreeMap<String, Long> dependencies;
+final String[] classFileNames; // the qualified type names "p1/p2/A$M"
+final boolean[] nestedTypes;
+final Long[] fingerprints; // null for the local types
+final byte[][] classFileContents;
+final char[][][] qualifiedReferences;
+final char[][] simpleNameReferences;
+final char[][] rootReferences;
+final CategorizedProblem[] problems;
+final CategorizedProblem[] tasks;
+
+CachedResult(TreeMap<String, Long> dependencies, DataInputStream in, char[] fileName) throws IOException {
+	this.dependencies = dependencies;
+	int length = in.readInt();
+	this.classFileNames = new String[length];
+	this.nestedTypes = new boolean[length];
+	this.fingerprints = new Long[length];
+	this.classFileContents = new byte[length][];
+	for (int i = 0; i < length; i++) {
+		this.classFileNames[i] = in.readUTF();
+		this.nestedTypes[i] = in.readBoolean();
+		if (in.readBoolean())
+			this.fingerprints[i] = Long.valueOf(in.readLong());
+		in.readFully(this.classFileContents[i] = new byte[in.readInt()]);
+	}
+	this.qualifiedReferences = new char[in.readInt()][][];
+	for (int i = 0; i < this.qualifiedReferences.length; i++)
+		this.qualifiedReferences[i] = readNames(in);
+	this.simpleNameReferences = readNames(in);
+	this.rootReferences = readNames(in);
+	this.problems = readProblems(in, fileName);
+	this.tasks = readProblems(in, fileName);
+}
+}
+
+/**
+ * A problem read from the store, whose category is kept as it cannot be computed from its severity.
+ */
+private static final class CachedProblem extends DefaultProblem {
+
+private final int categoryID;
+
+CachedProblem(char[] fileName, String message, int id, String[] arguments, int severity, int startPosition,
+		int endPosition, int line, int column, int categoryID) {
+	super(fileName, message, id, arguments, severity, startPosition, endPosition, line, column);
+	this.categoryID = categoryID;
+}
+
+@Override
+public int getCategoryID() {
+	return this.categoryID;
+}
+}
+
+private BuildCache(IBuildCacheStore store, byte[] configurationDigest) {
+	this.store = store;
+	this.configurationDigest = configurationDigest;
+}
+
+/**
+ * Answers a cache of the results of the given builder, or null if its results cannot be cached, i.e. when they
+ * depend on class folders or external annotations, which are not digested, or on a project which was not built.
+ */
+static BuildCache newBuildCache(IBuildCacheStore store, AbstractImageBuilder builder) {
+	JavaBuilder javaBuilder = builder.javaBuilder;
+	MessageDigest digest = newDigest();
+	update(digest, "build cache " + FORMAT_VERSION); //$NON-NLS-1$
+	Plugin plugin = JavaCore.getPlugin();
+	update(digest, plugin == null ? "" : plugin.getBundle().getVersion().toString()); //$NON-NLS-1$
+	update(digest, Locale.getDefault().toString()); // the messages of the problems
+	for (Entry<String, String> option : new TreeMap<>(builder.compiler.options.getMap()).entrySet()) {
+		update(digest, option.getKey());
+		update(digest, String.valueOf(option.getValue()));
+	}
+	try {
+		for (IClasspathEntry entry : javaBuilder.javaProject.getRawClasspath())
+			update(digest, entry.toString()); // the access rules and the attributes of the entries
+	} catch (JavaModelException e) {
+		return null;
+	}
+	for (ClasspathLocation location : builder.nameEnvironment.binaryLocations) {
+		if (location.externalAnnotationPath != null)
+			return null;
+		update(digest, location.toString());
+		if (location instanceof ClasspathDirectory) {
+			ClasspathDirectory directory = (ClasspathDirectory) location;
+			if (!directory.isOutputFolder())
+				return null;
+			IProject project = directory.binaryFolder.getProject();
+			if (project.equals(javaBuilder.currentProject))
+				continue; // the types of the project are dependencies of each source file
+			State state = javaBuilder.getLastState(project);
+			if (state == null)
+				return null;
+			String[] typeNames = state.apiFingerprints.keySet().toArray(new String[state.apiFingerprints.size()]);
+			Arrays.sort(typeNames);
+			for (String typeName : typeNames) {
+				update(digest, typeName);
+				update(digest, state.apiFingerprints.get(typeName)[0]);
+			}
+		} else if (location instanceof ClasspathJar) {
+			byte[] contentDigest = digestContents(((ClasspathJar) location).zipFilename);
+			if (contentDigest == null)
+				return null;
+			digest.update(contentDigest);
+		} else if (location instanceof ClasspathJrt) {
+			// the image of a JDK is not replaced in place, its time stamp and size tell its version apart
+			File file = new File(((ClasspathJrt) location).zipFilename);
+			update(digest, file.lastModified());
+			update(digest, file.length());
+		} else {
+			return null;
+		}
+	}
+	return new BuildCache(store, digest.digest());
+}
+
+/**
+ * Answers the results to restore for the given source files, by choosing for each source file the most recent result
+ * whose dependencies agree with the fingerprints of the types of the other chosen results.
+ */
+Map<SourceFile, CachedResult> lookUp(SourceFile[] sourceFiles) {
+	Map<SourceFile, List<ResultKey>> candidates = new LinkedHashMap<>(); // the most recent first
+	for (SourceFile sourceFile : sourceFiles) {
+		String key = keyOf(sourceFile);
+		byte[] value = key == null ? null : get(key);
+		if (value != null) {
+			try {
+				candidates.put(sourceFile, readResultKeys(value));
+			} catch (IOException e) {
+				// not a list of results, compile the source file
+			}
+		}
+	}
+
+	Map<SourceFile, CachedResult> results = new LinkedHashMap<>(candidates.size());
+	for (Iterator<Entry<SourceFile, List<ResultKey>>> iterator = candidates.entrySet().iterator(); iterator.hasNext();) {
+		Entry<SourceFile, List<ResultKey>> entry = iterator.next();
+		CachedResult result = nextResult(entry.getKey(), entry.getValue(), Collections.emptyMap());
+		if (result == null)
+			iterator.remove();
+		else
+			results.put(entry.getKey(), result);
+	}
+	// the candidates are only discarded, so this ends
+	boolean changed;
+	do {
+		changed = false;
+		Map<String, Long> fingerprints = new HashMap<>();
+		for (CachedResult result : results.values())
+			for (int i = 0; i < result.classFileNames.length; i++)
+				if (result.fingerprints[i] != null)
+					fingerprints.put(result.classFileNames[i], result.fingerprints[i]);
+		for (Iterator<Entry<SourceFile, CachedResult>> iterator = results.entrySet().iterator(); iterator.hasNext();) {
+			Entry<SourceFile, CachedResult> entry = iterator.next();
+			if (agree(entry.getValue().dependencies, fingerprints))
+				continue;
+			CachedResult result = nextResult(entry.getKey(), candidates.get(entry.getKey()), fingerprints);
+			if (result == null)
+				iterator.remove();
+			else
+				entry.setValue(result);
+			changed = true;
+		}
+	} while (changed);
+	return results;
+}
+
+/**
+ * Answers the first result of the given candidates whose dependencies agree with the given fingerprints, removing the
+ * candidates before it.
+ */
+private CachedResult nextResult(SourceFile sourceFile, List<ResultKey> candidates, Map<String, Long> fingerprints) {
+	while (!candidates.isEmpty()) {
+		ResultKey candidate = candidates.remove(0);
+		if (!agree(candidate.dependencies, fingerprints))
+			continue;
+		byte[] value = get(candidate.key);
+		if (value == null)
+			continue;
+		try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(value)))) {
+			return new CachedResult(candidate.dependencies, in, sourceFile.getFileName());
+		} catch (IOException e) {
+			// not a result, try the next one
+		}
+	}
+	return null;
+}
+
+/**
+ * Answers false if a type of the given dependencies has another fingerprint.
+ */
+private static boolean agree(Map<String, Long> dependencies, Map<String, Long> fingerprints) {
+	for (Entry<String, Long> dependency : dependencies.entrySet()) {
+		Long fingerprint = fingerprints.get(dependency.getKey());
+		if (fingerprint != null && !fingerprint.equals(dependency.getValue()))
+			return false;
+	}
+	return true;
+}
+
+/**
+ * Remembers that the given result was restored for the given source file, to validate its dependencies once all the
+ * source files are restored or compiled.
+ */
+void restored(SourceFile sourceFile, CachedResult result) {
+	this.restoredResults.put(sourceFile, result);
+	if (JavaBuilder.DEBUG)
+		trace("Restored from the build cache " + sourceFile.typeLocator()); //$NON-NLS-1$
+}
+
+/**
+ * Answers the restored source files whose dependencies are not the types of the given state they were compiled with,
+ * and which must be compiled again.
+ */
+List<SourceFile> invalidRestoredSourceFiles(State state) {
+	Map<String, SourceFile> sourceFiles = new HashMap<>(this.restoredResults.size());
+	for (SourceFile sourceFile : this.restoredResults.keySet())
+		sourceFiles.put(sourceFile.typeLocator(), sourceFile);
+	Map<String, TreeMap<String, Long>> dependencies = dependencies(state, sourceFiles);
+	List<SourceFile> invalidSourceFiles = new ArrayList<>();
+	for (Entry<SourceFile, CachedResult> entry : this.restoredResults.entrySet()) {
+		if (!entry.getValue().dependencies.equals(dependencies.get(entry.getKey().typeLocator()))) {
+			if (JavaBuilder.DEBUG)
+				trace("Dependencies changed since cached " + entry.getKey().typeLocator()); //$NON-NLS-1$
+			invalidSourceFiles.add(entry.getKey());
+		}
+	}
+	this.restoredResults.clear();
+	return invalidSourceFiles;
+}
+
+/**
+ * Stores the given result of compiling the given source file, whose class files are recorded in the given state.
+ * Its dependencies are only known once all the source files are compiled, see {@link #storeDependencies(State)}.
+ */
+void put(SourceFile sourceFile, CompilationResult result, State state) {
+	String typeLocator = sourceFile.typeLocator();
+	this.compiledResults.remove(typeLocator);
+	if (this.failed || CharOperation.equals(sourceFile.getMainTypeName(), TypeConstants.PACKAGE_INFO_NAME))
+		return; // the problems of a package-info file may be reported on its package
+	CategorizedProblem[] problems = result.getProblems();
+	CategorizedProblem[] tasks = result.getTasks();
+	if (!isCacheable(problems) || !isCacheable(tasks))
+		return;
+
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+		ClassFile[] classFiles = result.getClassFiles();
+		out.writeInt(classFiles.length);
+		for (ClassFile classFile : classFiles) {
+			String qualifiedFileName = new String(classFile.fileName());
+			out.writeUTF(qualifiedFileName);
+			out.writeBoolean(classFile.isNestedType);
+			long[] fingerprint = state.apiFingerprints.get(qualifiedFileName);
+			out.writeBoolean(fingerprint != null);
+			if (fingerprint != null)
+				out.writeLong(fingerprint[0]);
+			byte[] contents = classFile.getBytes();
+			out.writeInt(contents.length);
+			out.write(contents);
+		}
+		out.writeInt(result.qualifiedReferences.length);
+		for (char[][] qualifiedReference : result.qualifiedReferences)
+			writeNames(out, qualifiedReference);
+		writeNames(out, result.simpleNameReferences);
+		writeNames(out, result.rootReferences);
+		writeProblems(out, problems);
+		writeProblems(out, tasks);
+	} catch (IOException e) {
+		return; // e.g. a message too long to be written
+	}
+	String resultKey = toHex(newDigest().digest(bytes.toByteArray()));
+	if (put(resultKey, bytes.toByteArray()))
+		this.compiledResults.put(typeLocator, resultKey);
+}
+
+private static boolean isCacheable(CategorizedProblem[] problems) {
+	if (problems != null) {
+		for (CategorizedProblem problem : problems) {
+			if (problem.getClass() != DefaultProblem.class || problem.getMessage() == null)
+				return false; // may have extra marker attributes
+			String[] arguments = problem.getArguments();
+			if (arguments != null)
+				for (String argument : arguments)
+					if (argument == null)
+						return false;
+		}
+	}
+	return true;
+}
+
+/**
+ * Forgets the result of compiling the given source file, which cannot be restored.
+ */
+void remove(SourceFile sourceFile) {
+	this.compiledResults.remove(sourceFile.typeLocator());
+}
+
+/**
+ * Stores the dependencies of the results of the source files compiled during the build, in the given state, as the
+ * most recent results of these source files.
+ */
+void storeDependencies(State state) {
+	if (this.compiledResults.isEmpty()) return;
+
+	Map<String, String> typeLocators = new HashMap<>(this.compiledResults.size());
+	for (String typeLocator : this.compiledResults.keySet())
+		typeLocators.put(typeLocator, typeLocator);
+	Map<String, TreeMap<String, Long>> dependencies = dependencies(state, typeLocators);
+	for (Entry<String, String> entry : this.compiledResults.entrySet()) {
+		if (this.failed) break;
+		String key = this.sourceKeys.get(entry.getKey());
+		if (key == null) continue; // not looked up, the source file was added during the build
+		List<ResultKey> resultKeys = new ArrayList<>();
+		TreeMap<String, Long> resultDependencies = dependencies.get(entry.getKey());
+		resultKeys.add(new ResultKey(entry.getValue(), resultDependencies));
+		byte[] value = get(key);
+		if (value != null) {
+			try {
+				for (ResultKey resultKey : readResultKeys(value))
+					if (resultKeys.size() < MAX_RESULTS_PER_SOURCE_FILE && !resultDependencies.equals(resultKey.dependencies))
+						resultKeys.add(resultKey); // a result for other dependencies, e.g. on another branch
+			} catch (IOException e) {
+				// replace it
+			}
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(resultKeys.size());
+			for (ResultKey resultKey : resultKeys) {
+				out.writeUTF(resultKey.key);
+				out.writeInt(resultKey.dependencies.size());
+				for (Entry<String, Long> dependency : resultKey.dependencies.entrySet()) {
+					out.writeUTF(dependency.getKey());
+					out.writeLong(dependency.getValue().longValue());
+				}
+			}
+		} catch (IOException e) {
+			continue;
+		}
+		put(key, bytes.toByteArray());
+	}
+	this.compiledResults.clear();
+}
+
+/**
+ * Answers the fingerprints of the types of the given state which the given source files may depend on, keyed by the
+ * type locators of the source files. A source file depends on the types whose name its references include, as when
+ * the dependents of a changed type are found by an incremental build.
+ *
+ * @see IncrementalImageBuilder#addAffectedSourceFiles(java.util.Set, java.util.Set, java.util.Set, java.util.Set)
+ */
+static Map<String, TreeMap<String, Long>> dependencies(State state, Map<String, ?> typeLocators) {
+	Map<String, TreeMap<String, Long>> dependencies = new HashMap<>(typeLocators.size());
+	for (String typeLocator : typeLocators.keySet())
+		dependencies.put(typeLocator, new TreeMap<>());
+	// a change of a member type affects the dependents of its top level type
+	Map<String, List<String>> typeNamesPerTopLevelType = new HashMap<>();
+	for (String typeName : state.apiFingerprints.keySet()) {
+		int memberIndex = typeName.indexOf('$', typeName.lastIndexOf('/') + 1);
+		String topLevelTypeName = memberIndex > 0 ? typeName.substring(0, memberIndex) : typeName;
+		typeNamesPerTopLevelType.computeIfAbsent(topLevelTypeName, k -> new ArrayList<>(1)).add(typeName);
+	}
+	for (Entry<String, List<String>> entry : typeNamesPerTopLevelType.entrySet()) {
+		String topLevelTypeName = entry.getKey();
+		int packageEnd = topLevelTypeName.lastIndexOf('/');
+		char[][][] qualifiedNames = ReferenceCollection.internQualifiedNames(
+				Collections.singleton(packageEnd < 0 ? "" : topLevelTypeName.substring(0, packageEnd))); //$NON-NLS-1$
+		if (qualifiedNames.length == 0)
+			qualifiedNames = null; // a well known name
+		char[][] simpleNames = ReferenceCollection.internSimpleNames(
+				Collections.singleton(topLevelTypeName.substring(packageEnd + 1)), true);
+		if (simpleNames.length == 0)
+			simpleNames = null;
+		char[][] rootNames = ReferenceCollection.internSimpleNames(
+				Collections.singleton(packageEnd < 0 ? topLevelTypeName : topLevelTypeName.substring(0, topLevelTypeName.indexOf('/'))), false);
+		for (String typeLocator : state.getTypeLocatorsReferencing(qualifiedNames, simpleNames, rootNames)) {
+			TreeMap<String, Long> typeDependencies = dependencies.get(typeLocator);
+			if (typeDependencies == null) continue;
+			ReferenceCollection references = state.references.get(typeLocator);
+			if (references != null && references.includes(qualifiedNames, simpleNames, rootNames))
+				for (String typeName : entry.getValue())
+					typeDependencies.put(typeName, Long.valueOf(state.apiFingerprints.get(typeName)[0]));
+		}
+	}
+	return dependencies;
+}
+
+/**
+ * Answers the key of the given source file, or null if it cannot be read or should not be restored.
+ */
+private String keyOf(SourceFile sourceFile) {
+	if (CharOperation.equals(sourceFile.getMainTypeName(), TypeConstants.PACKAGE_INFO_NAME))
+		return null;
+	char[] contents;
+	try {
+		contents = sourceFile.getContents();
+	} catch (AbortCompilation e) {
+		return null; // reported when it is compiled
+	}
+	MessageDigest digest = newDigest();
+	digest.update(this.configurationDigest);
+	update(digest, sourceFile.typeLocator());
+	update(digest, sourceFile.sourceLocation.release);
+	char[] moduleName = sourceFile.getModuleName();
+	update(digest, moduleName == null ? "" : new String(moduleName)); //$NON-NLS-1$
+	ByteBuffer buffer = ByteBuffer.allocate(contents.length * 2);
+	buffer.asCharBuffer().put(contents);
+	digest.update(buffer.array());
+	String key = toHex(digest.digest());
+	this.sourceKeys.put(sourceFile.typeLocator(), key);
+	return key;
+}
+
+private byte[] get(String key) {
+	if (this.failed) return null;
+	try {
+		return this.store.get(key);
+	} catch (IOException e) {
+		failed(e);
+		return null;
+	}
+}
+
+private boolean put(String key, byte[] value) {
+	if (this.failed) return false;
+	try {
+		this.store.put(key, value);
+		return true;
+	} catch (IOException e) {
+		failed(e);
+		return false;
+	}
+}
+
+private void failed(IOException e) {
+	this.failed = true;
+	Util.log(e, "Build cache disabled for this build after failing to access " + this.store); //$NON-NLS-1$
+}
+
+private static List<ResultKey> readResultKeys(byte[] value) throws IOException {
+	DataInputStream in = new DataInputStream(new ByteArrayInputStream(value));
+	int length = in.readInt();
+	List<ResultKey> resultKeys = new ArrayList<>(length);
+	for (int i = 0; i < length; i++) {
+		String resultKey = in.readUTF();
+		TreeMap<String, Long> dependencies = new TreeMap<>();
+		for (int j = 0, l = in.readInt(); j < l; j++)
+			dependencies.put(in.readUTF(), Long.valueOf(in.readLong()));
+		resultKeys.add(new ResultKey(resultKey, dependencies));
+	}
+	return resultKeys;
+}
+
+private static char[][] readNames(DataInputStream in) throws IOException {
+	char[][] names = new char[in.readInt()][];
+	for (int i = 0; i < names.length; i++)
+		names[i] = in.readUTF().toCharArray();
+	return names;
+}
+
+private static void writeNames(DataOutputStream out, char[][] names) throws IOException {
+	out.writeInt(names.length);
+	for (char[] name : names)
+		out.writeUTF(new String(name));
+}
+
+private static CategorizedProblem[] readProblems(DataInputStream in, char[] fileName) throws IOException {
+	CategorizedProblem[] problems = new CategorizedProblem[in.readInt()];
+	for (int i = 0; i < problems.length; i++) {
+		int id = in.readInt();
+		String message = in.readUTF();
+		String[] arguments = new String[in.readInt()];
+		for (int j = 0; j < arguments.length; j++)
+			arguments[j] = in.readUTF();
+		int severity = in.readInt();
+		problems[i] = new CachedProblem(fileName, message, id, arguments, severity, in.readInt(), in.readInt(),
+				in.readInt(), in.readInt(), in.readInt());
+	}
+	return problems;
+}
+
+private static void writeProblems(DataOutputStream out, CategorizedProblem[] problems) throws IOException {
+	if (problems == null) {
+		out.writeInt(0);
+		return;
+	}
+	out.writeInt(problems.length);
+	for (CategorizedProblem problem : problems) {
+		out.writeInt(problem.getID());
+		out.writeUTF(problem.getMessage());
+		String[] arguments = problem.getArguments();
+		out.writeInt(arguments == null ? 0 : arguments.length);
+		if (arguments != null)
+			for (String argument : arguments)
+				out.writeUTF(argument);
+		out.writeInt(problem.isError() ? ProblemSeverities.Error : problem.isInfo() ? ProblemSeverities.Info : ProblemSeverities.Warning);
+		out.writeInt(problem.getSourceStart());
+		out.writeInt(problem.getSourceEnd());
+		out.writeInt(problem.getSourceLineNumber());
+		out.writeInt(((DefaultProblem) problem).getSourceColumnNumber());
+		out.writeInt(problem.getCategoryID());
+	}
+}
+
+/**
+ * Answers the digest of the contents of the given file, which is only read again when its time stamp or size changed,
+ * or null if it cannot be read.
+ */
+private static byte[] digestContents(String path) {
+	File file = new File(path);
+	long lastModified = file.lastModified();
+	long length = file.length();
+	ContentDigest contentDigest = contentDigests.get(path);
+	if (contentDigest == null || contentDigest.lastModified != lastModified || contentDigest.length != length) {
+		MessageDigest digest = newDigest();
+		try (InputStream in = new FileInputStream(file)) {
+			byte[] buffer = new byte[8192];
+			for (int read; (read = in.read(buffer)) != -1;)
+				digest.update(buffer, 0, read);
+		} catch (IOException e) {
+			return null;
+		}
+		contentDigest = new ContentDigest(lastModified, length, digest.digest());
+		contentDigests.put(path, contentDigest);
+	}
+	return contentDigest.digest;
+}
+
+private static MessageDigest newDigest() {
+	try {
+		return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+	} catch (NoSuchAlgorithmException e) {
+		throw new IllegalStateException(e); // required of every Java platform
+	}
+}
+
+private static void update(MessageDigest digest, String value) {
+	byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+	update(digest, bytes.length);
+	digest.update(bytes);
+}
+
+private static void update(MessageDigest digest, long value) {
+	for (int i = 0; i < 64; i += 8)
+		digest.update((byte) (value >>> i));
+}
+
+private static String toHex(byte[] bytes) {
+	StringBuilder hex = new StringBuilder(bytes.length * 2);
+	for (byte b : bytes)
+		hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+	return hex.toString();
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,10 @@ protected int newErrorCount;
 protected int fixedErrorCount;
 protected int newWarningCount;
 protected int fixedWarningCount;
+private final int initialNewErrorCount;
+private final int initialFixedErrorCount;
+private final int initialNewWarningCount;
+private final int initialFixedWarningCount;
 protected int workDone;
 protected int totalWork;
 protected String previousSubtask;
@@ -50,7 +54,7 @@ private final BooleanSupplier interruptSupplier;
 private final long startTimeNanos;
 private final int buildKind;
 
-public static void resetProblemCounters() {
+public static synchronized void resetProblemCounters() {
 	NewErrorCount = 0;
 	FixedErrorCount = 0;
 	NewWarningCount = 0;
@@ -62,10 +66,12 @@ public BuildNotifier(IProgressMonitor monitor, int buildKind, BooleanSupplier in
 	this.buildKind = buildKind;
 	this.interruptSupplier = interruptSupplier;
 	this.cancelling = false;
-	this.newErrorCount = NewErrorCount;
-	this.fixedErrorCount = FixedErrorCount;
-	this.newWarningCount = NewWarningCount;
-	this.fixedWarningCount = FixedWarningCount;
+	synchronized (BuildNotifier.class) {
+		this.newErrorCount = this.initialNewErrorCount = NewErrorCount;
+		this.fixedErrorCount = this.initialFixedErrorCount = FixedErrorCount;
+		this.newWarningCount = this.initialNewWarningCount = NewWarningCount;
+		this.fixedWarningCount = this.initialFixedWarningCount = FixedWarningCount;
+	}
 	this.workDone = 0;
 	this.totalWork = 1000000;
 	this.startTimeNanos = System.nanoTime();
@@ -151,10 +157,13 @@ public void compiled(SourceFile unit) {
 }
 
 public void done() {
-	NewErrorCount = this.newErrorCount;
-	FixedErrorCount = this.fixedErrorCount;
-	NewWarningCount = this.newWarningCount;
-	FixedWarningCount = this.fixedWarningCount;
+	synchronized (BuildNotifier.class) {
+		// add the problems of this build, other projects may have been built concurrently
+		NewErrorCount += this.newErrorCount - this.initialNewErrorCount;
+		FixedErrorCount += this.fixedErrorCount - this.initialFixedErrorCount;
+		NewWarningCount += this.newWarningCount - this.initialNewWarningCount;
+		FixedWarningCount += this.fixedWarningCount - this.initialFixedWarningCount;
+	}
 
 	updateProgress(1.0f);
 	subTask(Messages.build_done);
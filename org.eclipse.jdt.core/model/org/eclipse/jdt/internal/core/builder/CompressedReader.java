@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 jkubitz and others.
+ * Copyright (c) 2021, 2026 jkubitz and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,11 @@ public class CompressedReader {
 		return this.in.readInt();
 	}
 
+	/** @see CompressedWriter#writeBytes(byte[]) **/
+	public void readFully(byte[] bytes) throws IOException {
+		this.in.readFully(bytes);
+	}
+
 	/** @see CompressedWriter#writeChars(char[]) **/
 	public char[] readChars() throws IOException {
 		return this.in.readUTF().toCharArray();
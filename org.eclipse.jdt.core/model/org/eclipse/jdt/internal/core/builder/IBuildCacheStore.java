@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.io.IOException;
+
+/**
+ * The storage of the build cache used by full builds, see {@link JavaBuilder#BUILD_CACHE_STORE}.
+ * <p>
+ * Keys are lower case hexadecimal digests and the values stored under a key are opaque. A store may be shared by
+ * several workspaces and machines, and may be accessed by concurrent builds. It may drop any value at any time.
+ * </p>
+ *
+ * @see LocalBuildCacheStore
+ */
+public interface IBuildCacheStore {
+
+	/**
+	 * Answers the value stored under the given key, or null if the store has none.
+	 */
+	byte[] get(String key) throws IOException;
+
+	/**
+	 * Stores the given value under the given key, replacing the value previously stored under this key.
+	 */
+	void put(String key, byte[] value) throws IOException;
+}
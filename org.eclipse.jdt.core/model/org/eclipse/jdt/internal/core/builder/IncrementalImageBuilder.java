@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -93,6 +93,7 @@ protected IncrementalImageBuilder(JavaBuilder javaBuilder) {
 
 protected IncrementalImageBuilder(BatchImageBuilder batchBuilder, CompilationGroup compilationGroup) {
 	this(batchBuilder.javaBuilder, batchBuilder.newState, compilationGroup);
+	this.buildCache = batchBuilder.buildCache; // the source files compiled again replace their results
 	resetCollections();
 }
 
@@ -259,11 +260,10 @@ protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simp
 		internedSimpleNames = null;
 	char[][] internedRootNames = ReferenceCollection.internSimpleNames(rootSet, false);
 
-	next: for (Entry<String, ReferenceCollection> entry : this.newState.references.entrySet()) {
-		String typeLocator = entry.getKey();
+	next: for (String typeLocator : this.newState.getTypeLocatorsReferencing(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
 		if (affectedTypes != null && !affectedTypes.contains(typeLocator)) continue next;
-		ReferenceCollection refs = entry.getValue();
-		if (refs.includes(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
+		ReferenceCollection refs = this.newState.references.get(typeLocator);
+		if (refs != null && refs.includes(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
 			IFile file = this.javaBuilder.currentProject.getFile(typeLocator);
 			SourceFile sourceFile = findSourceFile(file, true);
 			if (sourceFile == null) continue next;
@@ -440,10 +440,13 @@ protected boolean findAffectedSourceFiles(IResourceDelta delta, ClasspathLocatio
 					int segmentCount = binaryDelta.getFullPath().segmentCount();
 					IResourceDelta[] children = binaryDelta.getAffectedChildren(); // .class files from class folder
 					StringSet structurallyChangedTypes = null;
-					if (bLocation.isOutputFolder())
-						structurallyChangedTypes = this.newState.getStructurallyChangedTypes(this.javaBuilder.getLastState(prereqProject));
+					State prereqState = null;
+					if (bLocation.isOutputFolder()) {
+						prereqState = this.javaBuilder.getLastState(prereqProject);
+						structurallyChangedTypes = this.newState.getStructurallyChangedTypes(prereqState);
+					}
 					for (IResourceDelta child : children)
-						findAffectedSourceFiles(child, segmentCount, structurallyChangedTypes);
+						findAffectedSourceFiles(child, segmentCount, structurallyChangedTypes, prereqProject, prereqState);
 					this.notifier.checkCancel();
 				}
 			}
@@ -452,7 +455,12 @@ protected boolean findAffectedSourceFiles(IResourceDelta delta, ClasspathLocatio
 	return true;
 }
 
-protected void findAffectedSourceFiles(IResourceDelta binaryDelta, int segmentCount, StringSet structurallyChangedTypes) {
+/**
+ * Adds the source files affected by the given delta of the output folder of the given prerequisite project, if any,
+ * skipping the changed class files whose API did not change since this project was last built.
+ */
+protected void findAffectedSourceFiles(IResourceDelta binaryDelta, int segmentCount, StringSet structurallyChangedTypes,
+		IProject prereqProject, State prereqState) {
 	// When a package becomes a type or vice versa, expect 2 deltas,
 	// one on the folder & one on the class file
 	IResource resource = binaryDelta.getResource();
@@ -488,7 +496,7 @@ protected void findAffectedSourceFiles(IResourceDelta binaryDelta, int segmentCo
 				case IResourceDelta.CHANGED :
 					IResourceDelta[] children = binaryDelta.getAffectedChildren();
 					for (IResourceDelta child : children)
-						findAffectedSourceFiles(child, segmentCount, structurallyChangedTypes);
+						findAffectedSourceFiles(child, segmentCount, structurallyChangedTypes, prereqProject, prereqState);
 			}
 			return;
 		case IResource.FILE :
@@ -506,6 +514,8 @@ protected void findAffectedSourceFiles(IResourceDelta binaryDelta, int segmentCo
 							return; // skip it since it really isn't changed
 						if (structurallyChangedTypes != null && !structurallyChangedTypes.includes(typePath.toString()))
 							return; // skip since it wasn't a structural change
+						if (prereqState != null && !this.newState.wasApiChanged(typePath.toString(), prereqProject, prereqState))
+							return; // skip since its API did not change since the last build
 						if (JavaBuilder.DEBUG)
 							System.out.println("Found changed class file " + typePath); //$NON-NLS-1$
 						addDependentsOf(typePath, false);
@@ -896,6 +906,7 @@ protected void writeClassFileContents(ClassFile classfile, IFile file, String qu
 		if (classFileChanged(file, qualifiedFileName, bytes) || compilationUnit.updateClassFile) { // see 46093
 			if (JavaBuilder.DEBUG)
 				System.out.println("Writing changed class file " + file.getName());//$NON-NLS-1$
+			recordApiFingerprint(classfile, qualifiedFileName, bytes, this.newState);
 			if (!file.isDerived())
 				file.setDerived(true, null);
 			file.setContents(bytes, true, false, null);
@@ -905,6 +916,7 @@ protected void writeClassFileContents(ClassFile classfile, IFile file, String qu
 	} else {
 		if (isTopLevelType)
 			addDependentsOf(new Path(qualifiedFileName), true); // new type
+		recordApiFingerprint(classfile, qualifiedFileName, bytes, this.newState);
 		if (JavaBuilder.DEBUG)
 			System.out.println("Writing new class file " + file.getName());//$NON-NLS-1$
 		try {
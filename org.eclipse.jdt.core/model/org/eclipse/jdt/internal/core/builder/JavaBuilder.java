@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
@@ -41,6 +42,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaModelMarker;
 import org.eclipse.jdt.core.IJavaModelStatusConstants;
@@ -83,6 +85,22 @@ public static boolean SHOW_STATS;
  * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
  */
 private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
+/**
+ * Whether the builds of projects which do not depend on each other can run concurrently, when the workspace allows
+ * concurrent builds (see {@link org.eclipse.core.resources.IWorkspaceDescription#setMaxConcurrentBuilds(int)}): the
+ * build of a project then only locks this project instead of the workspace.
+ * Specify VM property: {@code -Dorg.eclipse.jdt.core.builder.parallel=true}
+ */
+public static boolean PARALLEL_BUILD = Boolean.getBoolean("org.eclipse.jdt.core.builder.parallel"); //$NON-NLS-1$
+/**
+ * Where full builds store the results of compiling each source file, to restore them instead of compiling the source
+ * files again when their contents, the compiler options and the API of their dependencies are the same, or null.
+ * Specify VM property: {@code -Dorg.eclipse.jdt.core.builder.cache=<directory>} to use a local directory, whose
+ * maximum size in megabytes is set by {@code -Dorg.eclipse.jdt.core.builder.cache.maxSizeMB=<size>}, or set another
+ * store, e.g. shared by the machines of a team.
+ */
+public static IBuildCacheStore BUILD_CACHE_STORE = newBuildCacheStore(System.getProperty("org.eclipse.jdt.core.builder.cache"), //$NON-NLS-1$
+		Long.getLong("org.eclipse.jdt.core.builder.cache.maxSizeMB", 2048).longValue()); //$NON-NLS-1$
 private static final IPath JDT_CORE_SETTINGS_PATH = Path.fromPortableString(JavaProject.DEFAULT_PREFERENCES_DIRNAME + IPath.SEPARATOR + JavaProject.JAVA_CORE_PREFS_FILE);
 
 /**
@@ -340,6 +358,17 @@ private void buildDeltas(Map<IProject, IResourceDelta> deltas) {
 	}
 }
 
+/**
+ * Answers the project when the projects can be built in parallel, since a build only modifies the resources of its
+ * project and reads the output folders and the last built states of the projects it depends on.
+ */
+@Override
+public ISchedulingRule getRule(int kind, Map<String, String> args) {
+	if (PARALLEL_BUILD)
+		return getProject();
+	return super.getRule(kind, args);
+}
+
 @Override
 protected void clean(IProgressMonitor monitor) throws CoreException {
 	this.currentProject = getProject();
@@ -499,6 +528,12 @@ private Map<IProject, IResourceDelta> findDeltas() {
 	return deltas;
 }
 
+private static IBuildCacheStore newBuildCacheStore(String directory, long maximumSize) {
+	if (directory == null || directory.isEmpty() || maximumSize <= 0)
+		return null;
+	return new LocalBuildCacheStore(new File(directory).toPath(), maximumSize * 1024 * 1024);
+}
+
 public State getLastState(IProject project) {
 	return (State) JavaModelManager.getJavaModelManager().getLastBuiltState(project, this.notifier.monitor);
 }
@@ -706,10 +741,12 @@ private int initializeBuilder(int kind, boolean forBuild) throws CoreException {
 
 		// Flush the existing external files cache if this is the beginning of a build cycle
 		String projectName = this.currentProject.getName();
-		if (builtProjects == null || builtProjects.contains(projectName)) {
-			builtProjects = new LinkedHashSet<>();
+		synchronized (JavaBuilder.class) { // projects may be built concurrently
+			if (builtProjects == null || builtProjects.contains(projectName)) {
+				builtProjects = new LinkedHashSet<>();
+			}
+			builtProjects.add(projectName);
 		}
-		builtProjects.add(projectName);
 
 		if (kind != CLEAN_BUILD && kind != FULL_BUILD) {
 			// check if we need to switch to full build due to missing output folder(s)
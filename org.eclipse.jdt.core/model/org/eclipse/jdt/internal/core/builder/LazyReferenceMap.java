@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The references of a {@link State} read from its file, whose reference collections are decoded when they are
+ * first queried, so that the collections of the projects which are not built during a session are never decoded.
+ * <p>
+ * The encoded collections are kept in one array, where each type locator is mapped to the offset of its collection
+ * until the collection is decoded, replaced or removed. The names of the collections are interned when the state is
+ * read, in the arrays the encoded collections refer to.
+ * </p>
+ * <p>
+ * The map may be queried by other threads (e.g. the search) while a build changes it, so every access holds the lock
+ * of the map, and its key and entry sets are snapshots of the type locators taken when they are requested. The
+ * entries of the entry set are read when iterated, and a removed type locator is answered with a null collection.
+ * </p>
+ */
+final class LazyReferenceMap extends AbstractMap<String, ReferenceCollection> {
+
+private final LinkedHashMap<String, Object> entries; // type locator -> ReferenceCollection or Integer offset of its encoding
+private final byte[] encodedCollections;
+private final char[][][] internedQualifiedNames;
+private final char[][] internedSimpleNames;
+private final char[][] internedRootNames;
+
+LazyReferenceMap(LinkedHashMap<String, Object> entries, byte[] encodedCollections, char[][][] internedQualifiedNames,
+		char[][] internedSimpleNames, char[][] internedRootNames) {
+	this.entries = entries;
+	this.encodedCollections = encodedCollections;
+	this.internedQualifiedNames = internedQualifiedNames;
+	this.internedSimpleNames = internedSimpleNames;
+	this.internedRootNames = internedRootNames;
+}
+
+/**
+ * Copies the given references, sharing their encoded collections.
+ */
+LazyReferenceMap(LazyReferenceMap references) {
+	synchronized (references) {
+		this.entries = new LinkedHashMap<>(references.entries);
+	}
+	this.encodedCollections = references.encodedCollections;
+	this.internedQualifiedNames = references.internedQualifiedNames;
+	this.internedSimpleNames = references.internedSimpleNames;
+	this.internedRootNames = references.internedRootNames;
+}
+
+@Override
+public synchronized int size() {
+	return this.entries.size();
+}
+
+@Override
+public synchronized boolean containsKey(Object typeLocator) {
+	return this.entries.containsKey(typeLocator);
+}
+
+@Override
+public synchronized ReferenceCollection get(Object typeLocator) {
+	Object value = this.entries.get(typeLocator);
+	if (value instanceof Integer) {
+		ReferenceCollection collection = decode(((Integer) value).intValue());
+		this.entries.put((String) typeLocator, collection); // not a structural change, the order is kept
+		return collection;
+	}
+	return (ReferenceCollection) value;
+}
+
+@Override
+public synchronized ReferenceCollection put(String typeLocator, ReferenceCollection collection) {
+	Object value = this.entries.put(typeLocator, collection);
+	return value instanceof Integer ? null : (ReferenceCollection) value; // the previous encoded collection is not decoded
+}
+
+@Override
+public synchronized ReferenceCollection remove(Object typeLocator) {
+	Object value = this.entries.remove(typeLocator);
+	return value instanceof Integer ? null : (ReferenceCollection) value;
+}
+
+@Override
+public synchronized void clear() {
+	this.entries.clear();
+}
+
+/**
+ * Answers a snapshot of the type locators, in their order.
+ */
+@Override
+public synchronized Set<String> keySet() {
+	return Collections.unmodifiableSet(new LinkedHashSet<>(this.entries.keySet()));
+}
+
+/**
+ * Answers the entries of a snapshot of the type locators, whose collections are queried when iterated.
+ */
+@Override
+public Set<Entry<String, ReferenceCollection>> entrySet() {
+	Set<String> typeLocators = keySet();
+	return new AbstractSet<Entry<String, ReferenceCollection>>() {
+		@Override
+		public Iterator<Entry<String, ReferenceCollection>> iterator() {
+			Iterator<String> iterator = typeLocators.iterator();
+			return new Iterator<Entry<String, ReferenceCollection>>() {
+				private String typeLocator;
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+				@Override
+				public Entry<String, ReferenceCollection> next() {
+					this.typeLocator = iterator.next();
+					return new SimpleImmutableEntry<>(this.typeLocator, get(this.typeLocator));
+				}
+				@Override
+				public void remove() {
+					if (this.typeLocator == null)
+						throw new IllegalStateException();
+					LazyReferenceMap.this.remove(this.typeLocator);
+					this.typeLocator = null;
+				}
+			};
+		}
+		@Override
+		public int size() {
+			return typeLocators.size();
+		}
+	};
+}
+
+/**
+ * Answers the collection of the given type locator, without keeping it if it is decoded.
+ */
+synchronized ReferenceCollection peek(String typeLocator) {
+	Object value = this.entries.get(typeLocator);
+	return value instanceof Integer ? decode(((Integer) value).intValue()) : (ReferenceCollection) value;
+}
+
+/**
+ * Decodes the collection written at the given offset by {@link State#write(java.io.DataOutputStream)}.
+ */
+private ReferenceCollection decode(int offset) {
+	CompressedReader in = new CompressedReader(new DataInputStream(
+			new ByteArrayInputStream(this.encodedCollections, offset, this.encodedCollections.length - offset)));
+	try {
+		switch (in.readByte()) {
+			case 1 :
+				char[][] additionalTypeNames = State.readNames(in);
+				return new AdditionalTypeCollection(additionalTypeNames, readQualifiedNames(in), readSimpleNames(in),
+						readRootNames(in));
+			case 2 :
+				return new ReferenceCollection(readQualifiedNames(in), readSimpleNames(in), readRootNames(in));
+			default :
+				throw new IOException("Corrupted reference collection at offset " + offset); //$NON-NLS-1$
+		}
+	} catch (IOException e) {
+		throw new UncheckedIOException(e);
+	}
+}
+
+private char[][][] readQualifiedNames(CompressedReader in) throws IOException {
+	char[][][] names = new char[in.readInt()][][];
+	for (int i = 0, l = names.length; i < l; i++)
+		names[i] = this.internedQualifiedNames[in.readIntInRange(this.internedQualifiedNames.length)];
+	return names;
+}
+
+private char[][] readSimpleNames(CompressedReader in) throws IOException {
+	char[][] names = new char[in.readInt()][];
+	for (int i = 0, l = names.length; i < l; i++)
+		names[i] = this.internedSimpleNames[in.readIntInRange(this.internedSimpleNames.length)];
+	return names;
+}
+
+private char[][] readRootNames(CompressedReader in) throws IOException {
+	char[][] names = new char[in.readInt()][];
+	for (int i = 0, l = names.length; i < l; i++)
+		names[i] = this.internedRootNames[in.readIntInRange(this.internedRootNames.length)];
+	return names;
+}
+
+static Map<String, ReferenceCollection> copyOf(Map<String, ReferenceCollection> references) {
+	return references instanceof LazyReferenceMap
+			? new LazyReferenceMap((LazyReferenceMap) references)
+			: new LinkedHashMap<>(references);
+}
+}
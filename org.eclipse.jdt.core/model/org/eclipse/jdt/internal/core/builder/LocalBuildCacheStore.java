@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A build cache store in a local directory, where each value is a file named after its key.
+ * <p>
+ * Values are written to a temporary file which is then moved in place, so that concurrent builds never read a partly
+ * written value. The modification time of a file is updated when it is read, and the least recently used values are
+ * deleted when the store exceeds its maximum size.
+ * </p>
+ * <p>
+ * The size of the store is only computed again once the values written since it was last computed may exceed the
+ * maximum size, and the store is then trimmed to {@value #TRIMMED_PERCENT}% of its maximum size, so that the
+ * directory is not listed on every write.
+ * </p>
+ */
+public class LocalBuildCacheStore implements IBuildCacheStore {
+
+private static final int TRIMMED_PERCENT = 75;
+private static final String TEMPORARY_FILE_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+private final Path directory;
+private final long maximumSize;
+private long size = -1; // the size of the values of the directory, as last computed plus the values written since, or -1
+
+/**
+ * Creates a store in the given directory, whose size in bytes does not exceed the given maximum size.
+ */
+public LocalBuildCacheStore(Path directory, long maximumSize) {
+	this.directory = directory;
+	this.maximumSize = maximumSize;
+}
+
+@Override
+public byte[] get(String key) throws IOException {
+	Path file = fileFor(key);
+	byte[] value;
+	try {
+		value = Files.readAllBytes(file);
+	} catch (NoSuchFileException e) {
+		return null;
+	}
+	try {
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+	} catch (IOException e) {
+		// e.g. a read only store
+	}
+	return value;
+}
+
+@Override
+public void put(String key, byte[] value) throws IOException {
+	Path file = fileFor(key);
+	Files.createDirectories(file.getParent());
+	Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+	try {
+		Files.write(temporaryFile, value);
+		try {
+			Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	} finally {
+		Files.deleteIfExists(temporaryFile);
+	}
+	synchronized (this) {
+		if (this.size >= 0 && (this.size += value.length) <= this.maximumSize)
+			return;
+	}
+	trim();
+}
+
+/**
+ * Deletes the least recently used values until the store does not exceed {@value #TRIMMED_PERCENT}% of its maximum
+ * size, if it exceeds its maximum size.
+ */
+private synchronized void trim() throws IOException {
+	List<Path> files = new ArrayList<>();
+	Map<Path, BasicFileAttributes> attributes = new HashMap<>(); // other builds may use the files while they are sorted
+	long directorySize = 0;
+	try (DirectoryStream<Path> folders = Files.newDirectoryStream(this.directory, Files::isDirectory)) {
+		for (Path folder : folders) {
+			try (DirectoryStream<Path> values = Files.newDirectoryStream(folder)) {
+				for (Path file : values) {
+					if (file.getFileName().toString().endsWith(TEMPORARY_FILE_SUFFIX))
+						continue; // being written
+					try {
+						BasicFileAttributes fileAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+						files.add(file);
+						attributes.put(file, fileAttributes);
+						directorySize += fileAttributes.size();
+					} catch (NoSuchFileException e) {
+						// deleted by another build
+					}
+				}
+			}
+		}
+	}
+	if (directorySize > this.maximumSize) {
+		long trimmedSize = this.maximumSize / 100 * TRIMMED_PERCENT;
+		files.sort(Comparator.comparing(file -> attributes.get(file).lastModifiedTime()));
+		for (int i = 0, l = files.size(); i < l && directorySize > trimmedSize; i++) {
+			if (Files.deleteIfExists(files.get(i)))
+				directorySize -= attributes.get(files.get(i)).size();
+		}
+	}
+	this.size = directorySize;
+}
+
+private Path fileFor(String key) {
+	// spread the files over 256 folders
+	return this.directory.resolve(key.substring(0, 2)).resolve(key.substring(2));
+}
+
+@Override
+public String toString() {
+	return "Local build cache store in " + this.directory; //$NON-NLS-1$
+}
+}
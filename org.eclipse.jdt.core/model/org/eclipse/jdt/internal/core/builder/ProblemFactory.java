@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,23 +13,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.builder;
 
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 
 public class ProblemFactory extends DefaultProblemFactory {
 
-static Map<Locale, ProblemFactory> factories = new HashMap<>();
+static Map<Locale, ProblemFactory> factories = new ConcurrentHashMap<>(); // projects may be built concurrently
 
 private ProblemFactory(Locale locale) {
 	super(locale);
 }
 
 public static ProblemFactory getProblemFactory(Locale locale) {
-	ProblemFactory factory = factories.get(locale);
-	if (factory == null)
-		factories.put(locale, factory = new ProblemFactory(locale));
-	return factory;
+	return factories.computeIfAbsent(locale, ProblemFactory::new);
 }
 }
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.jdt.internal.compiler.util.CharArray;
+import org.eclipse.jdt.internal.compiler.util.CharCharArray;
+
+/**
+ * An inverted index of the reference collections of a {@link State}, which answers the type locators whose
+ * collection may include some names in time proportional to the number of type locators referencing these names,
+ * instead of the number of type locators of the state.
+ * <p>
+ * Entries are only appended: the names of the previous collection of a type locator are kept when it is recorded
+ * again, so the answered type locators must still be checked with
+ * {@link ReferenceCollection#includes(char[][][], char[][], char[][])}. The index should be rebuilt once
+ * {@link #isStale()}.
+ * </p>
+ */
+final class ReferenceIndex {
+
+private final Map<String, Integer> ids; // type locator -> id, ids follow the order of the type locators in the state
+private final List<String> typeLocators; // id -> type locator, null once removed
+private final Map<CharArray, IntList> simpleNames;
+private final Map<CharCharArray, IntList> qualifiedNames;
+private final Map<CharArray, IntList> rootNames;
+private int builtEntries, appendedEntries;
+
+static final class IntList {
+
+int size;
+int[] elements = new int[4];
+
+void add(int element) {
+	if (this.size > 0 && this.elements[this.size - 1] == element)
+		return; // the names of a collection are added together
+	if (this.size == this.elements.length)
+		System.arraycopy(this.elements, 0, this.elements = new int[this.size * 2], 0, this.size);
+	this.elements[this.size++] = element;
+}
+}
+
+private ReferenceIndex(int size) {
+	this.ids = new HashMap<>(size);
+	this.typeLocators = new ArrayList<>(size);
+	this.simpleNames = new HashMap<>();
+	this.qualifiedNames = new HashMap<>();
+	this.rootNames = new HashMap<>();
+}
+
+/**
+ * Builds the index of the given references, without keeping decoded the collections of a {@link LazyReferenceMap}
+ * which were not queried yet.
+ */
+static ReferenceIndex build(Map<String, ReferenceCollection> references) {
+	ReferenceIndex index = new ReferenceIndex(references.size());
+	if (references instanceof LazyReferenceMap) {
+		LazyReferenceMap lazyReferences = (LazyReferenceMap) references;
+		for (String typeLocator : lazyReferences.keySet())
+			index.add(typeLocator, lazyReferences.peek(typeLocator));
+	} else {
+		for (Entry<String, ReferenceCollection> entry : references.entrySet())
+			index.add(entry.getKey(), entry.getValue());
+	}
+	index.builtEntries = index.appendedEntries;
+	index.appendedEntries = 0;
+	return index;
+}
+
+/**
+ * Adds the names of the given collection, which is recorded or changed for the given type locator.
+ */
+void add(String typeLocator, ReferenceCollection collection) {
+	Integer id = this.ids.get(typeLocator);
+	if (id == null) {
+		id = Integer.valueOf(this.typeLocators.size());
+		this.ids.put(typeLocator, id);
+		this.typeLocators.add(typeLocator);
+	}
+	if (collection == null) return;
+	int value = id.intValue();
+	for (char[] name : collection.simpleNameReferences)
+		this.simpleNames.computeIfAbsent(new CharArray(name), k -> new IntList()).add(value);
+	for (char[][] name : collection.qualifiedNameReferences)
+		this.qualifiedNames.computeIfAbsent(new CharCharArray(name), k -> new IntList()).add(value);
+	for (char[] name : collection.rootReferences)
+		this.rootNames.computeIfAbsent(new CharArray(name), k -> new IntList()).add(value);
+	this.appendedEntries += collection.simpleNameReferences.length + collection.qualifiedNameReferences.length
+			+ collection.rootReferences.length;
+}
+
+void remove(String typeLocator) {
+	Integer id = this.ids.remove(typeLocator);
+	if (id != null)
+		this.typeLocators.set(id.intValue(), null); // a type locator added again is ordered last, as in the state
+}
+
+/**
+ * Answers whether the entries appended since the index was built outnumber the entries it was built with.
+ */
+boolean isStale() {
+	return this.appendedEntries > Math.max(this.builtEntries, 1000);
+}
+
+/**
+ * Answers the type locators whose collection may include the given names, in the order of the state, or null if
+ * the index cannot tell them apart (i.e. the names are all well known).
+ *
+ * @see ReferenceCollection#includes(char[][][], char[][], char[][])
+ */
+List<String> typeLocatorsReferencing(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+	BitSet ids = new BitSet(this.typeLocators.size());
+	if (simpleNames != null) {
+		// a collection includes one of the simple names, when known
+		for (char[] name : simpleNames)
+			addIds(this.simpleNames.get(new CharArray(name)), ids);
+	} else if (qualifiedNames != null) {
+		// a collection includes one of the qualified names, or the simple name of a qualified name of one segment
+		for (char[][] name : qualifiedNames) {
+			addIds(this.qualifiedNames.get(new CharCharArray(name)), ids);
+			if (name.length == 1)
+				addIds(this.simpleNames.get(new CharArray(name[0])), ids);
+		}
+	} else if (rootNames != null) {
+		for (char[] name : rootNames)
+			addIds(this.rootNames.get(new CharArray(name)), ids);
+	} else {
+		return null;
+	}
+	List<String> result = new ArrayList<>(ids.cardinality());
+	for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+		String typeLocator = this.typeLocators.get(id);
+		if (typeLocator != null)
+			result.add(typeLocator);
+	}
+	return result;
+}
+
+private static void addIds(IntList list, BitSet ids) {
+	if (list == null) return;
+	for (int i = 0; i < list.size; i++)
+		ids.set(list.elements[i]);
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,11 +20,13 @@ package org.eclipse.jdt.internal.core.builder;
 
 import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -69,18 +71,22 @@ public ClasspathLocation[] binaryLocations;
 public ClasspathLocation[] testBinaryLocations;
 // keyed by the project relative path of the type (i.e. "src1/p1/p2/A.java"), value is a ReferenceCollection or an AdditionalTypeCollection
 Map<String, ReferenceCollection> references;
+// inverted index of the references, built on demand and handed over to the next state, see getTypeLocatorsReferencing()
+private ReferenceIndex referenceIndex;
 // Holds a mapping of types to a path to detect duplicate type definitions (possibly depending on the release for multi-release types)
 public TypeLocators typeLocators;
 
 int buildNumber;
 long lastStructuralBuildTime;
 HashMap<String, Long> structuralBuildTimes;
+// keyed by the qualified name of a type (i.e. "p1/p2/A$M"), value is {fingerprint of its API, last structural build time when its API changed}
+HashMap<String, long[]> apiFingerprints;
 
 private long previousStructuralBuildTime;
 private StringSet structurallyChangedTypes;
 public static int MaxStructurallyChangedTypes = 100; // keep track of ? structurally changed types, otherwise consider all to be changed
 
-public static final byte VERSION = 0x0027;
+public static final byte VERSION = 0x0029;
 
 static final byte SOURCE_FOLDER = 1;
 static final byte BINARY_FOLDER = 2;
@@ -111,6 +117,7 @@ protected State(JavaBuilder javaBuilder) {
 	this.buildNumber = 0; // indicates a full build
 	this.lastStructuralBuildTime = computeStructuralBuildTime(javaBuilder.lastState == null ? 0 : javaBuilder.lastState.lastStructuralBuildTime);
 	this.structuralBuildTimes = new HashMap<>();
+	this.apiFingerprints = new HashMap<>();
 }
 
 long computeStructuralBuildTime(long previousTime) {
@@ -126,9 +133,13 @@ void copyFrom(State lastState) {
 	this.buildNumber = lastState.buildNumber + 1;
 	this.lastStructuralBuildTime = lastState.lastStructuralBuildTime;
 	this.structuralBuildTimes = lastState.structuralBuildTimes;
+	this.apiFingerprints = new HashMap<>(lastState.apiFingerprints);
 
-	this.references = new LinkedHashMap<>(lastState.references);
+	this.references = LazyReferenceMap.copyOf(lastState.references);
 	this.typeLocators = new TypeLocators(lastState.typeLocators);
+	// the last state rebuilds its index if it is used again
+	this.referenceIndex = lastState.referenceIndex;
+	lastState.referenceIndex = null;
 }
 
 /**
@@ -151,7 +162,8 @@ public boolean equals(Object obj) {
 			&& Arrays.equals(this.testSourceLocations, other.testSourceLocations)
 			&& Arrays.equals(this.testBinaryLocations, other.testBinaryLocations)
 			&& Objects.equals(this.typeLocators, other.typeLocators)
-			&& Objects.equals(this.references, other.references);
+			&& Objects.equals(this.references, other.references)
+			&& equalApiFingerprints(this.apiFingerprints, other.apiFingerprints);
 // Below fields aren't persisted
 //			&& this.previousStructuralBuildTime == other.previousStructuralBuildTime
 //			&& Arrays.equals(this.knownPackageNames, other.knownPackageNames)
@@ -159,6 +171,15 @@ public boolean equals(Object obj) {
 //			&& Objects.equals(this.structuralBuildTimes, other.structuralBuildTimes)
 }
 
+private static boolean equalApiFingerprints(Map<String, long[]> fingerprints, Map<String, long[]> otherFingerprints) {
+	if (fingerprints.size() != otherFingerprints.size())
+		return false;
+	for (Entry<String, long[]> entry : fingerprints.entrySet())
+		if (!Arrays.equals(entry.getValue(), otherFingerprints.get(entry.getKey())))
+			return false;
+	return true;
+}
+
 @Override
 public int hashCode() {
 	return 31 + Objects.hash(this.javaProjectName);
@@ -175,6 +196,43 @@ public Map<String, ReferenceCollection> getReferences() {
 	return this.references;
 }
 
+/**
+ * Answers the type locators whose reference collection may include the given names, in the order of the references,
+ * using an inverted index of the references so that the type locators which cannot include them are not visited.
+ * The reference collections of the answered type locators must still be checked.
+ *
+ * @see ReferenceCollection#includes(char[][][], char[][], char[][])
+ */
+Collection<String> getTypeLocatorsReferencing(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+	if (this.referenceIndex == null || this.referenceIndex.isStale())
+		this.referenceIndex = ReferenceIndex.build(this.references);
+	List<String> typeLocatorsReferencing = this.referenceIndex.typeLocatorsReferencing(qualifiedNames, simpleNames, rootNames);
+	return typeLocatorsReferencing == null ? this.references.keySet() : typeLocatorsReferencing;
+}
+
+void addDependencies(String typeLocator, String[] typeNameDependencies) {
+	ReferenceCollection refs = this.references.get(typeLocator);
+	if (refs != null) {
+		refs.addDependencies(typeNameDependencies);
+		if (this.referenceIndex != null)
+			this.referenceIndex.add(typeLocator, refs);
+	}
+}
+
+/**
+ * Answers whether the API of the given type of the given prerequisite project may have changed since this project was
+ * last built, i.e. if its fingerprint changed after the last structural build time recorded for the prerequisite project.
+ */
+boolean wasApiChanged(String qualifiedTypeName, IProject prereqProject, State prereqState) {
+	if (prereqState != null) {
+		long[] fingerprint = prereqState.apiFingerprints.get(qualifiedTypeName);
+		Long previous = this.structuralBuildTimes.get(prereqProject.getName());
+		if (fingerprint != null && previous != null && fingerprint[1] <= previous.longValue())
+			return false;
+	}
+	return true;
+}
+
 StringSet getStructurallyChangedTypes(State prereqState) {
 	if (prereqState != null && prereqState.previousStructuralBuildTime > 0) {
 		Object o = this.structuralBuildTimes.get(prereqState.javaProjectName);
@@ -202,13 +260,29 @@ boolean isSourceFolderEmpty(IContainer sourceFolder) {
 }
 
 void record(String typeLocator, char[][][] qualifiedRefs, char[][] simpleRefs, char[][] rootRefs, char[] mainTypeName, ArrayList typeNames) {
+	ReferenceCollection collection;
 	if (typeNames.size() == 1 && CharOperation.equals(mainTypeName, (char[]) typeNames.get(0))) {
-		this.references.put(typeLocator, new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs));
+		collection = new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs);
 	} else {
 		char[][] definedTypeNames = new char[typeNames.size()][]; // can be empty when no types are defined
 		typeNames.toArray(definedTypeNames);
-		this.references.put(typeLocator, new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs));
+		collection = new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs);
 	}
+	this.references.put(typeLocator, collection);
+	if (this.referenceIndex != null)
+		this.referenceIndex.add(typeLocator, collection);
+}
+
+/**
+ * Records the fingerprint of the API of the given type, whose last change is kept from the given state if the
+ * fingerprint is unchanged.
+ */
+void recordApiFingerprint(String qualifiedTypeName, long fingerprint, State lastState) {
+	long[] last = lastState == null ? null : lastState.apiFingerprints.get(qualifiedTypeName);
+	if (last != null && last[0] == fingerprint)
+		this.apiFingerprints.put(qualifiedTypeName, last);
+	else
+		this.apiFingerprints.put(qualifiedTypeName, new long[] {fingerprint, this.lastStructuralBuildTime});
 }
 
 void recordLocatorForType(String qualifiedTypeName, String typeLocator, int release) {
@@ -223,6 +297,8 @@ void recordStructuralDependency(IProject prereqProject, State prereqState) {
 
 void removeLocator(String typeLocatorToRemove, int release) {
 	this.references.remove(typeLocatorToRemove);
+	if (this.referenceIndex != null)
+		this.referenceIndex.remove(typeLocatorToRemove);
 	this.typeLocators.removeLocator(typeLocatorToRemove, release);
 }
 
@@ -243,6 +319,7 @@ void removePackage(IResourceDelta sourceDelta, int release) {
 
 void removeQualifiedTypeName(String qualifiedTypeNameToRemove) {
 	this.typeLocators.removeLocator(qualifiedTypeNameToRemove);
+	this.apiFingerprints.remove(qualifiedTypeNameToRemove);
 }
 
 static State read(IProject project, DataInputStream input) throws IOException, CoreException {
@@ -284,6 +361,10 @@ static State read(IProject project, DataInputStream input) throws IOException, C
 	for (int i = 0; i < length; i++)
 		newState.structuralBuildTimes.put(in.readStringUsingDictionary(), Long.valueOf(in.readLong()));
 
+	newState.apiFingerprints = new HashMap<>((int) ((length = in.readInt()) / 0.75 + 1));
+	for (int i = 0; i < length; i++)
+		newState.apiFingerprints.put(in.readStringUsingLast(), new long[] {in.readLong(), in.readLong()});
+
 	String[] internedTypeLocators = new String[length = in.readInt()];
 	for (int i = 0; i < length; i++)
 		internedTypeLocators[i] = in.readStringUsingLast();
@@ -304,39 +385,25 @@ static State read(IProject project, DataInputStream input) throws IOException, C
 	}
 	internedQualifiedNames = ReferenceCollection.internQualifiedNames(internedQualifiedNames, false /* drop well known */, false /* do not sort */);
 
-	length = in.readInt();
-	newState.references = new LinkedHashMap((int) (length / 0.75 + 1));
+	// the reference collections are decoded on demand, see LazyReferenceMap
+	LinkedHashMap<String, Object> encodedReferences = new LinkedHashMap<>((int) ((length = in.readInt()) / 0.75 + 1));
+	int[] offsets = new int[length];
 	for (int i = 0; i < length; i++) {
 		String typeLocator = internedTypeLocators[in.readInt()];
-		ReferenceCollection collection = null;
-		switch (in.readByte()) {
-			case 1 :
-				char[][] additionalTypeNames = readNames(in);
-				char[][][] qualifiedNames = new char[in.readInt()][][];
-				for (int j = 0, m = qualifiedNames.length; j < m; j++)
-					qualifiedNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] simpleNames = new char[in.readInt()][];
-				for (int j = 0, m = simpleNames.length; j < m; j++)
-					simpleNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rootNames = new char[in.readInt()][];
-				for (int j = 0, m = rootNames.length; j < m; j++)
-					rootNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new AdditionalTypeCollection(additionalTypeNames, qualifiedNames, simpleNames, rootNames);
-				break;
-			case 2 :
-				char[][][] qNames = new char[in.readInt()][][];
-				for (int j = 0, m = qNames.length; j < m; j++)
-					qNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] sNames = new char[in.readInt()][];
-				for (int j = 0, m = sNames.length; j < m; j++)
-					sNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rNames = new char[in.readInt()][];
-				for (int j = 0, m = rNames.length; j < m; j++)
-					rNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new ReferenceCollection(qNames, sNames, rNames);
-		}
-		newState.references.put(typeLocator, collection);
+		offsets[i] = in.readInt();
+		encodedReferences.put(typeLocator, null);
 	}
+	byte[] encodedCollections = new byte[in.readInt()];
+	in.readFully(encodedCollections);
+	int i = 0;
+	for (Entry<String, Object> entry : encodedReferences.entrySet()) {
+		int offset = offsets[i++];
+		if (offset < 0 || offset >= encodedCollections.length)
+			throw new IOException("Corrupted references of " + newState.javaProjectName); //$NON-NLS-1$
+		entry.setValue(Integer.valueOf(offset));
+	}
+	newState.references = new LazyReferenceMap(encodedReferences, encodedCollections, internedQualifiedNames,
+			internedSimpleNames, internedRootNames);
 	if (JavaBuilder.DEBUG) {
 		trace("Successfully read state for " + newState.javaProjectName); //$NON-NLS-1$
 	}
@@ -544,6 +611,22 @@ void write(DataOutputStream output) throws IOException {
 		out.writeLong(entry.getValue().longValue());
 	}
 
+/*
+ * API fingerprints table
+ * String		qualified type name
+ * long			fingerprint of its API
+ * long			last structural build time when its API changed
+*/
+	String[] fingerprintedTypeNames = this.apiFingerprints.keySet().toArray(new String[this.apiFingerprints.size()]);
+	Arrays.sort(fingerprintedTypeNames); // share the prefixes of the names
+	out.writeInt(fingerprintedTypeNames.length);
+	for (String typeName : fingerprintedTypeNames) {
+		long[] fingerprint = this.apiFingerprints.get(typeName);
+		out.writeStringUsingLast(typeName);
+		out.writeLong(fingerprint[0]);
+		out.writeLong(fingerprint[1]);
+	}
+
 /*
  * String[]	Interned type locators
  */
@@ -564,7 +647,8 @@ void write(DataOutputStream output) throws IOException {
 	Map<CharArray, Integer> internedRootNames = new HashMap<>();
 	Map<CharCharArray, Integer> internedQualifiedNames = new HashMap<>();
 	Map<CharArray, Integer> internedSimpleNames = new HashMap<>();
-	for (ReferenceCollection collection : this.references.values()) {
+	for (String typeLocator : this.references.keySet()) {
+		ReferenceCollection collection = peekReferences(typeLocator);
 		for (char[] rName : collection.rootReferences) {
 			// remember the names have been interned
 			internedRootNames.putIfAbsent(new CharArray(rName), internedRootNames.size());
@@ -615,43 +699,58 @@ void write(DataOutputStream output) throws IOException {
 /*
  * References table
  * int		interned locator id
- * ReferenceCollection
+ * int		offset of the encoded ReferenceCollection
+ * byte[]	encoded ReferenceCollections, decoded on demand
 */
+	ByteArrayOutputStream encodedCollections = new ByteArrayOutputStream();
+	CompressedWriter collectionOut = new CompressedWriter(new DataOutputStream(encodedCollections));
 	out.writeInt(this.references.size());
-	for (Entry<String, ReferenceCollection> entry : this.references.entrySet()) {
-		String key = entry.getKey();
+	for (String key : this.references.keySet()) {
 		Integer index = internedTypeLocators.get(key);
 		out.writeInt(index.intValue());
-		ReferenceCollection collection = entry.getValue();
+		out.writeInt(encodedCollections.size());
+		ReferenceCollection collection = peekReferences(key);
 		if (collection instanceof AdditionalTypeCollection) {
-			out.writeByte(1);
+			collectionOut.writeByte(1);
 			AdditionalTypeCollection atc = (AdditionalTypeCollection) collection;
-			writeNames(atc.definedTypeNames, out);
+			writeNames(atc.definedTypeNames, collectionOut);
 		} else {
-			out.writeByte(2);
+			collectionOut.writeByte(2);
 		}
 		char[][][] qNames = collection.qualifiedNameReferences;
 		int qLength = qNames.length;
-		out.writeInt(qLength);
+		collectionOut.writeInt(qLength);
 		for (char[][] qName:qNames) {
 			Integer i = internedQualifiedNames.get(new CharCharArray(qName));
-			out.writeIntInRange(i.intValue(), internedQualifiedNames.size());
+			collectionOut.writeIntInRange(i.intValue(), internedQualifiedNames.size());
 		}
 		char[][] sNames = collection.simpleNameReferences;
 		int sLength = sNames.length;
-		out.writeInt(sLength);
+		collectionOut.writeInt(sLength);
 		for (char[] sName: sNames) {
 			Integer i = internedSimpleNames.get(new CharArray(sName));
-			out.writeIntInRange(i.intValue(), internedSimpleNames.size());
+			collectionOut.writeIntInRange(i.intValue(), internedSimpleNames.size());
 		}
 		char[][] rNames = collection.rootReferences;
 		int rLength = rNames.length;
-		out.writeInt(rLength);
+		collectionOut.writeInt(rLength);
 		for (char[] rName: rNames) {
 			Integer i = internedRootNames.get(new CharArray(rName));
-			out.writeIntInRange(i.intValue(), internedRootNames.size());
+			collectionOut.writeIntInRange(i.intValue(), internedRootNames.size());
 		}
 	}
+	out.writeInt(encodedCollections.size());
+	out.writeBytes(encodedCollections.toByteArray());
+}
+
+/**
+ * Answers the reference collection of the given type locator, without keeping it decoded if it was not queried since
+ * the state was read.
+ */
+private ReferenceCollection peekReferences(String typeLocator) {
+	return this.references instanceof LazyReferenceMap
+			? ((LazyReferenceMap) this.references).peek(typeLocator)
+			: this.references.get(typeLocator);
 }
 
 private void writeSourceLocations(CompressedWriter out, ClasspathMultiDirectory[] srcLocations) throws IOException {
@@ -782,7 +881,7 @@ private void writeNames(char[][] names, CompressedWriter out) throws IOException
 	}
 }
 
-private static char[][] readNames(CompressedReader in) throws IOException {
+static char[][] readNames(CompressedReader in) throws IOException {
 	int length = in.readInt();
 	char[][] names = new char[length][];
 	for (int i = 0; i < length; i++)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.index;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.io.UTFDataFormatException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.regex.Pattern;
@@ -54,6 +59,10 @@ private int cacheUserCount;
 private String[][] cachedChunks; // decompressed chunks of document names
 private HashtableOfObject categoryTables; // category name -> HashtableOfObject(words -> int[] of document #'s) or offset if not read yet
 private char[] cachedCategoryName;
+private volatile MappedIndexFile mappedFile; // decodes the lookups without reopening the file, see mappedFile()
+private boolean mappingFailed;
+private WordBloomFilter wordFilter; // screens the exact match queries, null if the file is empty
+private WordBloomFilter.Builder wordFilterBuilder; // while the category tables are written
 
 private static final int DEFAULT_BUFFER_SIZE = 2048;
 private static int BUFFER_READ_SIZE = DEFAULT_BUFFER_SIZE;
@@ -63,7 +72,7 @@ private int bufferIndex, bufferEnd; // used when reading from the file into the
 private int streamEnd; // used when writing data from the streamBuffer to the file
 char separator = Index.DEFAULT_SEPARATOR;
 
-public static final String INDEX_VERSION = "1.134"; //$NON-NLS-1$
+public static final String INDEX_VERSION = "1.135"; //$NON-NLS-1$
 public static final String SIGNATURE = "INDEX VERSION " + INDEX_VERSION; //$NON-NLS-1$
 private static final char[] SIGNATURE_CHARS = SIGNATURE.toCharArray();
 public static boolean DEBUG = false;
@@ -76,6 +85,18 @@ private static final int CHUNK_SIZE = 100;
 private static final SimpleSetOfCharArray INTERNED_CATEGORY_NAMES = new SimpleSetOfCharArray(20);
 private static final String TMP_EXT = ".tmp"; //$NON-NLS-1$
 
+/**
+ * Changes saved since the index file was last written are kept in a delta file next to it, so that saving a few
+ * documents does not rewrite the whole index file, see {@link #saveDelta(MemoryIndex)}.
+ */
+public static final String DELTA_EXT = ".delta"; //$NON-NLS-1$
+private static final String DELTA_SIGNATURE = "INDEX DELTA " + INDEX_VERSION; //$NON-NLS-1$
+// indexes with fewer documents are rewritten when saved, as are indexes whose delta would exceed 1/8 of their documents
+private static final int MIN_DOCUMENTS_FOR_DELTA = 1000;
+private static final int MAX_DELTA_RATIO = 8;
+// a mapped file can neither be deleted nor replaced on Windows until the mapping is garbage collected, see mergeWith()
+public static boolean MAP_INDEX_FILES = !System.getProperty("os.name").toLowerCase().contains("windows"); //$NON-NLS-1$ //$NON-NLS-2$
+
 static class IntList {
 
 int size;
@@ -178,6 +199,14 @@ private HashtableOfObject addQueryResult(HashtableOfObject results, char[] word,
 HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule, MemoryIndex memoryIndex) throws IOException {
 	// assumes sender has called startQuery() & will call stopQuery() when finished
 	if (this.categoryOffsets == null) return null; // file is empty
+	if (key != null && (matchRule & ~SearchPattern.R_CASE_SENSITIVE) == SearchPattern.R_EXACT_MATCH) {
+		categories = categoriesMightContain(categories, key);
+		if (categories.length == 0) return null; // no category table needs to be read
+	}
+
+	MappedIndexFile mapped = mappedFile();
+	if (mapped != null)
+		return addMappedQueryResults(mapped, categories, key, matchRule, memoryIndex);
 
 	HashtableOfObject results = null; // initialized if needed
 
@@ -261,8 +290,102 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 
 	return results;
 }
-private synchronized void cacheDocumentNames() throws IOException {
+/**
+ * Answers the given categories without the ones whose table does not contain the given key, ignoring case.
+ */
+private char[][] categoriesMightContain(char[][] categories, char[] key) {
+	WordBloomFilter filter = this.wordFilter;
+	if (filter == null) return categories;
+	int length = categories.length;
+	char[][] result = null;
+	int count = 0;
+	for (int i = 0; i < length; i++) {
+		if (filter.mightContain(categories[i], key)) {
+			if (result != null)
+				result[count] = categories[i];
+			count++;
+		} else if (result == null) {
+			System.arraycopy(categories, 0, result = new char[length][], 0, count);
+		}
+	}
+	if (result == null) return categories;
+	if (count < length)
+		System.arraycopy(result, 0, result = new char[count][], 0, count);
+	return result;
+}
+private HashtableOfObject addMappedQueryResults(MappedIndexFile mapped, char[][] categories, char[] key, int matchRule, MemoryIndex memoryIndex) throws IOException {
+	// same as addQueryResults(...), looking up the words of the category tables in the mapped file
+	HashtableOfObject results = null; // initialized if needed
+	boolean prevResults = false;
+	if (key == null) {
+		for (char[] category : categories) {
+			MappedCategoryTable wordsToDocNumbers = readMappedCategoryTable(mapped, category);
+			if (wordsToDocNumbers != null) {
+				int size = wordsToDocNumbers.size();
+				if (results == null)
+					results = new HashtableOfObject(size);
+				for (int j = 0; j < size; j++)
+					results = addQueryResult(results, wordsToDocNumbers.wordAt(j), wordsToDocNumbers.documentNumbersAt(j), memoryIndex, prevResults);
+			}
+			prevResults = results != null;
+		}
+		if (results != null && this.cachedChunks == null)
+			cacheDocumentNames();
+	} else {
+		switch (matchRule) {
+			case SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE:
+				for (char[] category : categories) {
+					MappedCategoryTable wordsToDocNumbers = readMappedCategoryTable(mapped, category);
+					int index;
+					if (wordsToDocNumbers != null && (index = wordsToDocNumbers.indexOf(key)) >= 0)
+						results = addQueryResult(results, key, wordsToDocNumbers.documentNumbersAt(index), memoryIndex, prevResults);
+					prevResults = results != null;
+				}
+				break;
+			case SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE:
+				for (char[] category : categories) {
+					MappedCategoryTable wordsToDocNumbers = readMappedCategoryTable(mapped, category);
+					if (wordsToDocNumbers != null) {
+						// the words starting with the key follow each other
+						for (int j = wordsToDocNumbers.indexOfFirstWordNotBefore(key), m = wordsToDocNumbers.size(); j < m; j++) {
+							char[] word = wordsToDocNumbers.wordAt(j);
+							if (!CharOperation.prefixEquals(key, word)) break;
+							results = addQueryResult(results, word, wordsToDocNumbers.documentNumbersAt(j), memoryIndex, prevResults);
+						}
+					}
+					prevResults = results != null;
+				}
+				break;
+			default:
+				Pattern pattern = matchRule == SearchPattern.R_REGEXP_MATCH ? Pattern.compile(new String(key)) : null;
+				for (char[] category : categories) {
+					MappedCategoryTable wordsToDocNumbers = readMappedCategoryTable(mapped, category);
+					if (wordsToDocNumbers != null) {
+						for (int j = 0, m = wordsToDocNumbers.size(); j < m; j++) {
+							char[] word = wordsToDocNumbers.wordAt(j);
+							if (pattern != null ? pattern.matcher(new String(word)).matches() : Index.isMatch(key, word, matchRule))
+								results = addQueryResult(results, word, wordsToDocNumbers.documentNumbersAt(j), memoryIndex, prevResults);
+						}
+					}
+					prevResults = results != null;
+				}
+		}
+	}
+	return results;
+}
+private void cacheDocumentNames() throws IOException {
 	// will need all document names so get them now
+	MappedIndexFile mapped = mappedFile();
+	if (mapped == null) {
+		cacheDocumentNamesFromStream();
+		return;
+	}
+	String[][] chunks = readAllChunks(mapped);
+	synchronized (this) {
+		this.cachedChunks = chunks;
+	}
+}
+private synchronized void cacheDocumentNamesFromStream() throws IOException {
 	this.cachedChunks = new String[this.numberOfChunks][];
 	try (InputStream stream = this.indexLocation.getInputStream()) {
 		if (this.numberOfChunks > 5) BUFFER_READ_SIZE <<= 1;
@@ -433,6 +556,7 @@ void initialize(boolean reuseExistingFile) throws IOException {
 			throw new IOException("Failed to delete index " + this.indexLocation); //$NON-NLS-1$
 		}
 	}
+	deleteDelta(); // written for the previous index file
 	if (this.indexLocation.createNewFile()) {
 		try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(this.indexLocation.getIndexFile(), false));) {
 			this.streamBuffer = new byte[BUFFER_READ_SIZE];
@@ -466,6 +590,7 @@ private void initializeFrom(DiskIndex diskIndex, File newIndexFile) throws IOExc
 	this.categoryEnds = new HashtableOfIntValues(size);
 	this.categoryTables = new HashtableOfObject(size);
 	this.separator = diskIndex.separator;
+	this.wordFilterBuilder = new WordBloomFilter.Builder();
 }
 private void mergeCategories(DiskIndex onDisk, int[] positions, OutputStream stream) throws IOException {
 	// at this point, this.categoryTables contains the names -> wordsToDocs added in copyQueryResults()
@@ -539,7 +664,10 @@ DiskIndex mergeWith(MemoryIndex memoryIndex) throws IOException {
 	SimpleLookupTable indexedDocuments = new SimpleLookupTable(3); // for each new/changed document in the memoryIndex
 	docNames = computeDocumentNames(docNames, positions, indexedDocuments, memoryIndex);
 	if (docNames.length == 0) {
-		if (previousLength == 0) return this; // nothing to do... memory index contained deleted documents that had never been saved
+		if (previousLength == 0) { // nothing to do... memory index contained deleted documents that had never been saved
+			deleteDelta();
+			return this;
+		}
 
 		// index is now empty since all the saved documents were removed
 		DiskIndex newDiskIndex = new DiskIndex(this.indexLocation);
@@ -621,14 +749,128 @@ DiskIndex mergeWith(MemoryIndex memoryIndex) throws IOException {
 		throw e;
 	}
 
+	// the changes of the delta file are now in the new index file
+	deleteDelta();
 	if (!usingTmp) // rename done, use the new file
 		newDiskIndex.indexLocation = this.indexLocation;
+	else
+		newDiskIndex.deleteDelta();
 	return newDiskIndex;
 }
-private synchronized String[] readAllDocumentNames() throws IOException {
+private File deltaFile() {
+	if (!(this.indexLocation instanceof FileIndexLocation)) return null; // pre-built indexes are read-only
+	File indexFile = this.indexLocation.getIndexFile();
+	return indexFile == null ? null : new File(indexFile.getPath() + DELTA_EXT);
+}
+private void deleteDelta() {
+	File deltaFile = deltaFile();
+	if (deltaFile != null) {
+		try {
+			Files.deleteIfExists(deltaFile.toPath());
+		} catch (IOException e) {
+			Util.log(e, "Failed to delete index delta " + deltaFile); //$NON-NLS-1$
+		}
+	}
+}
+/**
+ * Identifies the index file the delta file was written for, which changes whenever the index file is rewritten.
+ */
+private void writeDeltaStamp(DataOutputStream stream) throws IOException {
+	stream.writeInt(this.headerInfoOffset);
+	stream.writeLong(this.indexLocation.length());
+	stream.writeLong(this.indexLocation.lastModified());
+}
+private boolean readDeltaStamp(DataInputStream stream) throws IOException {
+	return stream.readInt() == this.headerInfoOffset
+		& stream.readLong() == this.indexLocation.length()
+		& stream.readLong() == this.indexLocation.lastModified();
+}
+/**
+ * Reads the changes saved in the delta file of this index into the given memory index, which then has no
+ * unsaved changes.
+ */
+void readDelta(MemoryIndex memoryIndex) throws IOException {
+	File deltaFile = deltaFile();
+	if (deltaFile == null || !deltaFile.exists() || this.headerInfoOffset <= 0) return;
+	try (DataInputStream stream = new DataInputStream(new BufferedInputStream(new FileInputStream(deltaFile)))) {
+		if (!DELTA_SIGNATURE.equals(stream.readUTF()) || !readDeltaStamp(stream)) {
+			// left behind by a previous version, or after the index file was rewritten
+			stream.close();
+			deleteDelta();
+			return;
+		}
+		memoryIndex.readDocuments(stream);
+	} catch (EOFException | UTFDataFormatException e) {
+		throw new IOException("Index delta is corrupted " + deltaFile, e); //$NON-NLS-1$
+	}
+	memoryIndex.saved = true;
+}
+/**
+ * Writes the documents of the given memory index to the delta file of this index, the index file being left
+ * unchanged. All the changes since the index file was written must be in the memory index, which is read back
+ * from the delta file when the index is reused.
+ *
+ * @return false if the memory index should rather be merged with this index, either because this index is
+ * 	small or because the delta grew too large compared to this index
+ */
+boolean saveDelta(MemoryIndex memoryIndex) throws IOException {
+	// assume write lock is held
+	File deltaFile = deltaFile();
+	if (deltaFile == null || this.headerInfoOffset <= 0) return false;
+	int numberOfDocuments = (this.numberOfChunks - 1) * CHUNK_SIZE + this.sizeOfLastChunk;
+	if (numberOfDocuments < MIN_DOCUMENTS_FOR_DELTA || memoryIndex.docsToReferences.elementSize * MAX_DELTA_RATIO > numberOfDocuments)
+		return false;
+
+	File newDeltaFile = new File(deltaFile.getPath() + TMP_EXT);
+	try {
+		try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(newDeltaFile, false)))) {
+			stream.writeUTF(DELTA_SIGNATURE);
+			writeDeltaStamp(stream);
+			memoryIndex.writeDocuments(stream);
+		}
+		try {
+			Files.move(newDeltaFile.toPath(), deltaFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(newDeltaFile.toPath(), deltaFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	} catch (UTFDataFormatException e) {
+		// a word is too long for the delta file
+		Files.deleteIfExists(newDeltaFile.toPath());
+		return false;
+	} catch (IOException e) {
+		Files.deleteIfExists(newDeltaFile.toPath());
+		throw e;
+	}
+	memoryIndex.saved = true;
+	return true;
+}
+private String[] readAllDocumentNames() throws IOException {
 	if (this.numberOfChunks <= 0)
 		return CharOperation.NO_STRINGS;
 
+	MappedIndexFile mapped = mappedFile();
+	if (mapped == null)
+		return readAllDocumentNamesFromStream();
+	try {
+		String[][] chunks = readAllChunks(mapped);
+		String[] docNames = new String[(this.numberOfChunks - 1) * CHUNK_SIZE + this.sizeOfLastChunk];
+		for (int i = 0; i < this.numberOfChunks; i++)
+			System.arraycopy(chunks[i], 0, docNames, i * CHUNK_SIZE, chunks[i].length);
+		return docNames;
+	} catch (UTFDataFormatException ue) {
+		ILog.get().warn("Java Index broken - will be automatically deleted to repair: " + this.indexLocation, ue); //$NON-NLS-1$
+		this.indexLocation.delete();
+		return CharOperation.NO_STRINGS;
+	}
+}
+private String[][] readAllChunks(MappedIndexFile mapped) throws IOException {
+	String[][] chunks = new String[this.numberOfChunks][];
+	int lastIndex = this.numberOfChunks - 1;
+	for (int i = 0; i <= lastIndex; i++)
+		chunks[i] = mapped.readChunk(this.chunkOffsets[i], i < lastIndex ? CHUNK_SIZE : this.sizeOfLastChunk);
+	return chunks;
+}
+private synchronized String[] readAllDocumentNamesFromStream() throws IOException {
 	try {
 		try (InputStream stream = this.indexLocation.getInputStream();) {
 			int offset = this.chunkOffsets[0];
@@ -653,7 +895,88 @@ private synchronized String[] readAllDocumentNames() throws IOException {
 		return CharOperation.NO_STRINGS;
 	}
 }
-private synchronized HashtableOfObject readCategoryTable(char[] categoryName, boolean readDocNumbers) throws IOException {
+private HashtableOfObject readCategoryTable(char[] categoryName, boolean readDocNumbers) throws IOException {
+	MappedIndexFile mapped = mappedFile();
+	if (mapped == null)
+		return readCategoryTableFromStream(categoryName, readDocNumbers);
+
+	// result will be null if categoryName is unknown
+	int offset = this.categoryOffsets.get(categoryName);
+	if (offset == HashtableOfIntValues.NO_VALUE) {
+		return null;
+	}
+	synchronized (this) {
+		if (this.categoryTables == null) {
+			this.categoryTables = new HashtableOfObject(3);
+		} else {
+			Object cached = this.categoryTables.get(categoryName);
+			if (cached instanceof HashtableOfObject) { // not a MappedCategoryTable
+				HashtableOfObject cachedTable = (HashtableOfObject) cached;
+				if (readDocNumbers) { // must cache remaining document number arrays
+					Object[] arrayOffsets = cachedTable.valueTable;
+					for (int i = 0, l = arrayOffsets.length; i < l; i++)
+						if (arrayOffsets[i] instanceof Integer)
+							arrayOffsets[i] = mapped.readDocumentNumbers(((Integer) arrayOffsets[i]).intValue());
+				}
+				return cachedTable;
+			}
+		}
+	}
+
+	// decoded without holding the lock, concurrent queries reading the same table cache either one
+	HashtableOfObject categoryTable;
+	try {
+		categoryTable = mapped.readCategoryTable(offset, readDocNumbers);
+	} catch (UTFDataFormatException ue) {
+		ILog.get().warn("Java Index broken - will be automatically deleted to repair: " + this.indexLocation, ue); //$NON-NLS-1$
+		this.indexLocation.delete();
+		return null;
+	}
+	synchronized (this) {
+		if (this.categoryTables == null)
+			this.categoryTables = new HashtableOfObject(3);
+		this.categoryTables.put(INTERNED_CATEGORY_NAMES.get(categoryName), categoryTable);
+		// cache the table as long as its not too big
+		this.cachedCategoryName = categoryTable.elementSize < 20000 ? categoryName : null;
+	}
+	return categoryTable;
+}
+/**
+ * Answers the words of the given category table, without decoding the table on the heap.
+ */
+private MappedCategoryTable readMappedCategoryTable(MappedIndexFile mapped, char[] categoryName) throws IOException {
+	// result will be null if categoryName is unknown
+	int offset = this.categoryOffsets.get(categoryName);
+	if (offset == HashtableOfIntValues.NO_VALUE) {
+		return null;
+	}
+	synchronized (this) {
+		if (this.categoryTables == null) {
+			this.categoryTables = new HashtableOfObject(3);
+		} else {
+			Object cached = this.categoryTables.get(categoryName);
+			if (cached instanceof MappedCategoryTable)
+				return (MappedCategoryTable) cached;
+		}
+	}
+
+	MappedCategoryTable categoryTable;
+	try {
+		categoryTable = mapped.readCategoryWords(offset);
+	} catch (UTFDataFormatException ue) {
+		ILog.get().warn("Java Index broken - will be automatically deleted to repair: " + this.indexLocation, ue); //$NON-NLS-1$
+		this.indexLocation.delete();
+		return null;
+	}
+	synchronized (this) {
+		if (this.categoryTables == null)
+			this.categoryTables = new HashtableOfObject(3);
+		this.categoryTables.put(INTERNED_CATEGORY_NAMES.get(categoryName), categoryTable);
+		this.cachedCategoryName = categoryName; // 8 bytes per word, small enough to be kept
+	}
+	return categoryTable;
+}
+private synchronized HashtableOfObject readCategoryTableFromStream(char[] categoryName, boolean readDocNumbers) throws IOException {
 	// result will be null if categoryName is unknown
 	int offset = this.categoryOffsets.get(categoryName);
 	if (offset == HashtableOfIntValues.NO_VALUE) {
@@ -782,7 +1105,29 @@ private void readChunk(String[] docNames, InputStream stream, int index, int siz
 		current = next;
 	}
 }
-synchronized String readDocumentName(int docNumber) throws IOException {
+String readDocumentName(int docNumber) throws IOException {
+	MappedIndexFile mapped = mappedFile();
+	if (mapped == null)
+		return readDocumentNameFromStream(docNumber);
+
+	int chunkNumber = docNumber / CHUNK_SIZE;
+	String[] chunk;
+	synchronized (this) {
+		if (this.cachedChunks == null)
+			this.cachedChunks = new String[this.numberOfChunks][];
+		chunk = this.cachedChunks[chunkNumber];
+	}
+	if (chunk == null) {
+		boolean isLastChunk = chunkNumber == this.numberOfChunks - 1;
+		chunk = mapped.readChunk(this.chunkOffsets[chunkNumber], isLastChunk ? this.sizeOfLastChunk : CHUNK_SIZE);
+		synchronized (this) {
+			if (this.cachedChunks != null)
+				this.cachedChunks[chunkNumber] = chunk;
+		}
+	}
+	return chunk[docNumber - (chunkNumber * CHUNK_SIZE)];
+}
+private synchronized String readDocumentNameFromStream(int docNumber) throws IOException {
 	if (this.cachedChunks == null)
 		this.cachedChunks = new String[this.numberOfChunks][];
 
@@ -820,14 +1165,19 @@ synchronized String readDocumentName(int docNumber) throws IOException {
 	this.streamBuffer = null;
 	return chunk[docNumber - (chunkNumber * CHUNK_SIZE)];
 }
-synchronized int[] readDocumentNumbers(Object arrayOffset) throws IOException {
+int[] readDocumentNumbers(Object arrayOffset) throws IOException {
 	// arrayOffset is either a cached array of docNumbers or an Integer offset in the file
 	if (arrayOffset instanceof int[])
 		return (int[]) arrayOffset;
 
+	MappedIndexFile mapped = mappedFile();
+	if (mapped != null)
+		return mapped.readDocumentNumbers(((Integer) arrayOffset).intValue());
+	return readDocumentNumbersFromStream(((Integer) arrayOffset).intValue());
+}
+private synchronized int[] readDocumentNumbersFromStream(int offset) throws IOException {
 	InputStream stream = this.indexLocation.getInputStream();
 	try (stream) {
-		int offset = ((Integer) arrayOffset).intValue();
 		stream.skip(offset);
 		this.streamBuffer = new byte[BUFFER_READ_SIZE];
 		this.bufferIndex = 0;
@@ -881,8 +1231,40 @@ private void readHeaderInfo(InputStream stream) throws IOException {
 	if (previousCategory != null) {
 		this.categoryEnds.put(previousCategory, this.headerInfoOffset); // cache end of the category table
 	}
+	int filterSize = readStreamInt(stream);
+	if (filterSize < 0 || (length != -1 && filterSize > length)) {
+		if (DEBUG)
+			System.out.println("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
+		throw new IOException("Index file is corrupted " + this.indexLocation); //$NON-NLS-1$
+	}
+	if (filterSize > 0) {
+		long[] bits = new long[filterSize];
+		for (int i = 0; i < filterSize; i++)
+			bits[i] = ((long) readStreamInt(stream) << 32) | (readStreamInt(stream) & 0xFFFFFFFFL);
+		this.wordFilter = new WordBloomFilter(bits);
+	}
 	this.categoryTables = new HashtableOfObject(3);
 }
+/**
+ * Answers the read-only mapping of the index file, or null if its contents must be read through streams
+ * (e.g. for a pre-built index in a jar).
+ */
+private MappedIndexFile mappedFile() {
+	MappedIndexFile mapped = this.mappedFile;
+	if (mapped == null && MAP_INDEX_FILES) {
+		synchronized (this) {
+			mapped = this.mappedFile;
+			if (mapped == null && !this.mappingFailed && this.headerInfoOffset > 0) {
+				File file = this.indexLocation.getIndexFile();
+				if (file != null)
+					mapped = MappedIndexFile.map(file, this.documentReferenceSize);
+				this.mappedFile = mapped;
+				this.mappingFailed = mapped == null;
+			}
+		}
+	}
+	return mapped;
+}
 synchronized void startQuery() {
 	this.cacheUserCount++;
 }
@@ -1158,6 +1540,7 @@ private void writeCategoryTable(char[] categoryName, HashtableOfObject wordsToDo
 		Object o = values[i];
 		if (o != null) {
 			writeStreamChars(stream, words[i]);
+			this.wordFilterBuilder.add(categoryName, words[i]);
 			if (o instanceof int[]) {
 				int[] documentNumbers = (int[]) o;
 				if (documentNumbers.length == 1)
@@ -1245,6 +1628,16 @@ private void writeHeaderInfo(OutputStream stream) throws IOException {
 			writeStreamInt(stream, offsets[i]);
 		}
 	}
+
+	// append the file with the filter of the words of the category tables
+	this.wordFilter = this.wordFilterBuilder.build();
+	this.wordFilterBuilder = null;
+	long[] bits = this.wordFilter.bits();
+	writeStreamInt(stream, bits.length);
+	for (long word : bits) {
+		writeStreamInt(stream, (int) (word >>> 32));
+		writeStreamInt(stream, (int) word);
+	}
 	// ensure buffer is written to the stream
 	if (this.bufferIndex > 0) {
 		stream.write(this.streamBuffer, 0, this.bufferIndex);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -119,11 +119,31 @@ public Index(IndexLocation location, String containerPath, boolean reuseExisting
 	this.memoryIndex = new MemoryIndex();
 	this.diskIndex = new DiskIndex(location);
 	this.diskIndex.initialize(reuseExistingFile);
-	if (reuseExistingFile) this.separator = this.diskIndex.separator;
+	if (reuseExistingFile) {
+		this.separator = this.diskIndex.separator;
+		this.diskIndex.readDelta(this.memoryIndex);
+	}
+}
+/**
+ * Creates an index kept in memory only, which collects the entries of documents indexed on another thread
+ * until they are added to the index of the same container by {@link #addIndexEntries(Index)}.
+ * It cannot be queried nor saved.
+ */
+public Index(String containerPath) {
+	this.containerPath = containerPath;
+	this.memoryIndex = new MemoryIndex();
 }
 public void addIndexEntry(char[] category, char[] key, String containerRelativePath) {
 	this.memoryIndex.addIndexEntry(category, key, containerRelativePath);
 }
+/**
+ * Adds the entries collected by the given index kept in memory, as if their documents were indexed by this index.
+ *
+ * @see #Index(String)
+ */
+public void addIndexEntries(Index entries) {
+	this.memoryIndex.addAll(entries.memoryIndex);
+}
 public String containerRelativePath(String documentPath) {
 	int index = documentPath.indexOf(IJavaSearchScope.JAR_FILE_ENTRY_SEPARATOR);
 	if (index == -1) {
@@ -142,8 +162,11 @@ public IndexLocation getIndexLocation() {
 public long getIndexLastModified() {
 	return this.diskIndex == null? -1 : this.diskIndex.indexLocation.lastModified();
 }
+/**
+ * Answers whether this index has changes which were not saved.
+ */
 public boolean hasChanged() {
-	return this.memoryIndex.hasChanged();
+	return this.memoryIndex.hasUnsavedChanges();
 }
 /**
  * Returns the entries containing the given key in a group of categories, or null if no matches are found.
@@ -158,7 +181,7 @@ public EntryResult[] query(char[][] categories, char[] key, int matchRule) throw
 	}
 	if (this.memoryIndex.shouldMerge() && readWriteMonitor.exitReadEnterWrite()) {
 		try {
-			save();
+			save(true);
 		} finally {
 			readWriteMonitor.exitWriteEnterRead();
 		}
@@ -216,16 +239,31 @@ public void reset() throws IOException {
 	this.diskIndex = new DiskIndex(this.diskIndex.indexLocation);
 	this.diskIndex.initialize(false/*do not reuse the index file*/);
 }
+/**
+ * Saves this index into a single index file, which includes the changes previously saved incrementally.
+ */
 public boolean save() throws IOException {
+	return save(false);
+}
+/**
+ * Saves the changes of this index, incrementally if allowed: the changes are then written to a delta file
+ * while the index file is left unchanged, unless the index is small or the delta grew too large, so that
+ * saving a few changes of a large index does not rewrite it.
+ *
+ * @see DiskIndex#saveDelta(MemoryIndex)
+ */
+public boolean save(boolean incremental) throws IOException {
 	ReadWriteMonitor readWriteMonitor = this.monitor;
 	if(readWriteMonitor == null) {
 		// index got deleted since acquired
 		return false;
 	}
 	// must own the write lock of the monitor
-	if (!hasChanged()) return false;
+	if (incremental ? !hasChanged() : !this.memoryIndex.hasChanged()) return false;
 
 	this.diskIndex.separator = this.separator;
+	if (incremental && this.diskIndex.saveDelta(this.memoryIndex))
+		return true; // the memory index keeps the changes saved in the delta file
 	this.diskIndex = this.diskIndex.mergeWith(this.memoryIndex);
 	this.memoryIndex = new MemoryIndex();
 	return true;
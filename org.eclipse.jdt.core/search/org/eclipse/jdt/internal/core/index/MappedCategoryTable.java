@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.io.IOException;
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * A category table of a {@link MappedIndexFile}, which only keeps the positions of its words and of their document
+ * numbers in the file, sorted by word. Words are decoded from the mapping when looked up, so that a query keeps
+ * 8 bytes per word on the heap instead of the decoded words and document numbers.
+ * <p>
+ * Exact and prefix lookups binary search the sorted words, other match rules scan them.
+ * </p>
+ */
+final class MappedCategoryTable {
+
+private final MappedIndexFile file;
+private final int[] wordPositions; // sorted by word
+private final int[] documentNumbersPositions;
+
+MappedCategoryTable(MappedIndexFile file, int[] wordPositions, int[] documentNumbersPositions) {
+	this.file = file;
+	this.wordPositions = wordPositions;
+	this.documentNumbersPositions = documentNumbersPositions;
+}
+
+int size() {
+	return this.wordPositions.length;
+}
+
+char[] wordAt(int index) throws IOException {
+	return this.file.readWord(this.wordPositions[index]);
+}
+
+/**
+ * Answers the document numbers of the word at the given index, either as an <code>int[]</code> or as the
+ * <code>Integer</code> offset to read them from, see {@link DiskIndex#readDocumentNumbers(Object)}.
+ */
+Object documentNumbersAt(int index) throws IOException {
+	return this.file.readDocumentNumbersReference(this.documentNumbersPositions[index]);
+}
+
+/**
+ * Answers the index of the given word, or -1 if the table does not contain it.
+ */
+int indexOf(char[] word) throws IOException {
+	int index = indexOfFirstWordNotBefore(word);
+	return index < size() && CharOperation.equals(word, wordAt(index)) ? index : -1;
+}
+
+/**
+ * Answers the index of the first word which is equal to or sorted after the given key, which is the first word
+ * starting with the key if any.
+ */
+int indexOfFirstWordNotBefore(char[] key) throws IOException {
+	int low = 0;
+	int high = size();
+	while (low < high) {
+		int middle = (low + high) >>> 1;
+		if (CharOperation.compareTo(wordAt(middle), key) < 0)
+			low = middle + 1;
+		else
+			high = middle;
+	}
+	return low;
+}
+}
@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
+
+/**
+ * A read-only memory mapping of a {@link DiskIndex} file, which decodes the category tables, document number
+ * arrays and chunks of document names at their absolute position in the file, in the format written by
+ * {@link DiskIndex}.
+ * <p>
+ * Each read uses its own view of the mapping, so that concurrent queries on the same index are neither serialized
+ * nor reopening the file. The mapping is released once this object is garbage collected.
+ * </p>
+ * <p>
+ * {@link DiskIndex} never rewrites an index file in place: the file is deleted before a new one is written, or
+ * replaced by a complete temporary file, so that the mapping keeps the contents of the unlinked file. Another process
+ * may still truncate the file, in which case the JVM raises an {@link InternalError} when a page past its end is
+ * accessed. The read then fails with an {@link IOException}, as for a corrupted file read through streams.
+ * </p>
+ */
+final class MappedIndexFile {
+
+private final File file;
+private final ByteBuffer contents;
+private final int documentReferenceSize;
+
+private MappedIndexFile(File file, ByteBuffer contents, int documentReferenceSize) {
+	this.file = file;
+	this.contents = contents;
+	this.documentReferenceSize = documentReferenceSize;
+}
+
+/**
+ * Maps the given index file, answers null if it cannot be mapped.
+ */
+static MappedIndexFile map(File file, int documentReferenceSize) {
+	try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+		long size = channel.size();
+		if (size > Integer.MAX_VALUE) return null; // offsets in the file are ints
+		return new MappedIndexFile(file, channel.map(MapMode.READ_ONLY, 0, size), documentReferenceSize);
+	} catch (IOException | UnsupportedOperationException e) {
+		return null;
+	}
+}
+
+private ByteBuffer at(int offset) throws IOException {
+	if (offset < 0 || offset >= this.contents.limit())
+		throw corrupted(null);
+	ByteBuffer buffer = this.contents.duplicate();
+	buffer.position(offset);
+	return buffer;
+}
+
+private IOException corrupted(Throwable cause) {
+	return new IOException("Index file is corrupted " + this.file, cause); //$NON-NLS-1$
+}
+
+/**
+ * Reads the document names of the chunk written at the given offset.
+ */
+String[] readChunk(int offset, int size) throws IOException {
+	try {
+		ByteBuffer buffer = at(offset);
+		String[] docNames = new String[size];
+		String current = new String(readChars(buffer));
+		docNames[0] = current;
+		for (int i = 1; i < size; i++) {
+			int start = buffer.get() & 0xFF;
+			int end = buffer.get() & 0xFF;
+			String next = new String(readChars(buffer));
+			if (start > 0) {
+				if (end > 0) {
+					int length = current.length();
+					next = current.substring(0, start) + next + current.substring(length - end, length);
+				} else {
+					next = current.substring(0, start) + next;
+				}
+			} else if (end > 0) {
+				int length = current.length();
+				next = next + current.substring(length - end, length);
+			}
+			docNames[i] = next;
+			current = next;
+		}
+		return docNames;
+	} catch (BufferUnderflowException | IndexOutOfBoundsException | InternalError e) {
+		throw corrupted(e);
+	}
+}
+
+/**
+ * Reads the array of document numbers written at the given offset, preceded by its size.
+ */
+int[] readDocumentNumbers(int offset) throws IOException {
+	try {
+		ByteBuffer buffer = at(offset);
+		return readDocumentArray(buffer, buffer.getInt());
+	} catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException | InternalError e) {
+		throw corrupted(e);
+	}
+}
+
+/**
+ * Reads the category table written at the given offset, the large document number arrays being left as their
+ * offset in the file unless <code>readDocNumbers</code> is set.
+ *
+ * @see DiskIndex#readCategoryTable(char[], boolean)
+ */
+HashtableOfObject readCategoryTable(int offset, boolean readDocNumbers) throws IOException {
+	try {
+		ByteBuffer buffer = at(offset);
+		int size = buffer.getInt();
+		HashtableOfObject categoryTable;
+		try {
+			categoryTable = new HashtableOfObject(size);
+		} catch (NegativeArraySizeException | OutOfMemoryError e) {
+			String message = "Failed to read index data from " + this.file + " at offset " + offset //$NON-NLS-1$ //$NON-NLS-2$
+					+ " and size " + size; //$NON-NLS-1$
+			UTFDataFormatException ue = new UTFDataFormatException(message);
+			ue.initCause(e);
+			throw ue;
+		}
+		int largeArraySize = 256;
+		for (int i = 0; i < size; i++) {
+			char[] word = readChars(buffer);
+			int arrayOffset = buffer.getInt();
+			if (arrayOffset <= 0) {
+				categoryTable.putUnsafely(word, new int[] {-arrayOffset}); // store 1 element array by negating documentNumber
+			} else if (arrayOffset < largeArraySize) {
+				categoryTable.putUnsafely(word, readDocumentArray(buffer, arrayOffset)); // read in-lined array providing size
+			} else {
+				arrayOffset = buffer.getInt(); // read actual offset
+				categoryTable.putUnsafely(word, readDocNumbers ? readDocumentNumbers(arrayOffset) : Integer.valueOf(arrayOffset));
+			}
+		}
+		return categoryTable;
+	} catch (BufferUnderflowException | IndexOutOfBoundsException | InternalError e) {
+		throw corrupted(e);
+	}
+}
+
+/**
+ * Reads the words of the category table written at the given offset, and sorts them.
+ */
+MappedCategoryTable readCategoryWords(int offset) throws IOException {
+	try {
+		ByteBuffer buffer = at(offset);
+		int size = buffer.getInt();
+		if (size < 0 || size > buffer.remaining())
+			throw corrupted(null);
+		char[][] words = new char[size][];
+		int[] wordPositions = new int[size];
+		int[] documentNumbersPositions = new int[size];
+		int referenceSize = this.documentReferenceSize == 1 || this.documentReferenceSize == 2 ? this.documentReferenceSize : 4;
+		int largeArraySize = 256;
+		for (int i = 0; i < size; i++) {
+			wordPositions[i] = buffer.position();
+			words[i] = readChars(buffer);
+			documentNumbersPositions[i] = buffer.position();
+			int arrayOffset = buffer.getInt();
+			if (arrayOffset >= largeArraySize)
+				buffer.getInt(); // offset to the array
+			else if (arrayOffset > 0)
+				buffer.position(buffer.position() + arrayOffset * referenceSize); // in-lined array
+		}
+
+		// the words are decoded only once to sort them
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++)
+			order[i] = Integer.valueOf(i);
+		Arrays.sort(order, (i1, i2) -> CharOperation.compareTo(words[i1.intValue()], words[i2.intValue()]));
+		int[] sortedWordPositions = new int[size];
+		int[] sortedDocumentNumbersPositions = new int[size];
+		for (int i = 0; i < size; i++) {
+			int index = order[i].intValue();
+			sortedWordPositions[i] = wordPositions[index];
+			sortedDocumentNumbersPositions[i] = documentNumbersPositions[index];
+		}
+		return new MappedCategoryTable(this, sortedWordPositions, sortedDocumentNumbersPositions);
+	} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | InternalError e) {
+		throw corrupted(e);
+	}
+}
+
+char[] readWord(int position) throws IOException {
+	try {
+		return readChars(at(position));
+	} catch (BufferUnderflowException | IndexOutOfBoundsException | InternalError e) {
+		throw corrupted(e);
+	}
+}
+
+/**
+ * Reads the document numbers of a word of a category table, written at the given position after the word.
+ *
+ * @return the document number if there is only one, otherwise the offset of the array of document numbers
+ * 	preceded by its size
+ */
+Object readDocumentNumbersReference(int position) throws IOException {
+	try {
+		ByteBuffer buffer = at(position);
+		int arrayOffset = buffer.getInt();
+		if (arrayOffset <= 0)
+			return new int[] {-arrayOffset}; // 1 element array stored by negating documentNumber
+		if (arrayOffset < 256)
+			return Integer.valueOf(position); // the size of the in-lined array is followed by the array
+		return Integer.valueOf(buffer.getInt());
+	} catch (BufferUnderflowException | IndexOutOfBoundsException | InternalError e) {
+		throw corrupted(e);
+	}
+}
+
+private int[] readDocumentArray(ByteBuffer buffer, int arraySize) {
+	int[] indexes = new int[arraySize];
+	switch (this.documentReferenceSize) {
+		case 1 :
+			for (int i = 0; i < arraySize; i++)
+				indexes[i] = buffer.get() & 0xFF;
+			break;
+		case 2 :
+			for (int i = 0; i < arraySize; i++)
+				indexes[i] = buffer.getShort() & 0xFFFF;
+			break;
+		default :
+			for (int i = 0; i < arraySize; i++)
+				indexes[i] = buffer.getInt();
+			break;
+	}
+	return indexes;
+}
+
+/**
+ * Reads the chars written by <code>DiskIndex#writeStreamChars(OutputStream, char[])</code>: their number on two
+ * bytes followed by the chars in modified UTF-8.
+ */
+private static char[] readChars(ByteBuffer buffer) throws UTFDataFormatException {
+	int length = buffer.getChar();
+	char[] word = new char[length];
+	for (int i = 0; i < length; i++) {
+		byte b = buffer.get();
+		switch (b & 0xF0) {
+			case 0x00 :
+			case 0x10 :
+			case 0x20 :
+			case 0x30 :
+			case 0x40 :
+			case 0x50 :
+			case 0x60 :
+			case 0x70 :
+				word[i] = (char) b;
+				break;
+			case 0xC0 :
+			case 0xD0 :
+				char next = (char) buffer.get();
+				if ((next & 0xC0) != 0x80) {
+					throw new UTFDataFormatException();
+				}
+				char ch = (char) ((b & 0x1F) << 6);
+				ch |= next & 0x3F;
+				word[i] = ch;
+				break;
+			case 0xE0 :
+				char first = (char) buffer.get();
+				char second = (char) buffer.get();
+				if ((first & second & 0xC0) != 0x80) {
+					throw new UTFDataFormatException();
+				}
+				ch = (char) ((b & 0x0F) << 12);
+				ch |= ((first & 0x3F) << 6);
+				ch |= second & 0x3F;
+				word[i] = ch;
+				break;
+			default :
+				throw new UTFDataFormatException();
+		}
+	}
+	return word;
+}
+}
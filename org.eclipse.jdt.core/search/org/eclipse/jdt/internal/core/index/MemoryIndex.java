@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.index;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
 import org.eclipse.jdt.internal.compiler.util.SimpleLookupTable;
@@ -27,6 +30,7 @@ SimpleLookupTable docsToReferences; // document paths -> HashtableOfObject(categ
 SimpleWordSet allWords; // save space by locally interning the referenced words, since an indexer can generate numerous duplicates
 String lastDocumentName;
 HashtableOfObject lastReferenceTable;
+boolean saved; // whether the documents were written to the delta file of the disk index since they last changed
 
 MemoryIndex() {
 	this.docsToReferences = new SimpleLookupTable(7);
@@ -47,6 +51,7 @@ void addDocumentNames(String substring, SimpleSet results) {
 	}
 }
 void addIndexEntry(char[] category, char[] key, String documentName) {
+	this.saved = false;
 	HashtableOfObject referenceTable;
 	if (documentName.equals(this.lastDocumentName))
 		referenceTable = this.lastReferenceTable;
@@ -65,6 +70,41 @@ void addIndexEntry(char[] category, char[] key, String documentName) {
 
 	existingWords.add(this.allWords.add(key));
 }
+/**
+ * Adds the entries of the documents of the given memory index, including the documents it removed.
+ * The entries of a document replace its current ones, as when the document is indexed again by this index.
+ */
+void addAll(MemoryIndex entries) {
+	Object[] paths = entries.docsToReferences.keyTable;
+	Object[] referenceTables = entries.docsToReferences.valueTable;
+	for (int i = 0, l = paths.length; i < l; i++) {
+		String documentName = (String) paths[i];
+		if (documentName == null) continue;
+		HashtableOfObject categoryToWords = (HashtableOfObject) referenceTables[i];
+		if (categoryToWords == null) {
+			remove(documentName);
+			continue;
+		}
+		HashtableOfObject referenceTable = new HashtableOfObject(categoryToWords.elementSize);
+		char[][] categories = categoryToWords.keyTable;
+		Object[] wordSets = categoryToWords.valueTable;
+		for (int j = 0, m = categories.length; j < m; j++) {
+			SimpleWordSet wordSet = (SimpleWordSet) wordSets[j];
+			if (wordSet == null) continue;
+			SimpleWordSet words = new SimpleWordSet(wordSet.elementSize);
+			for (char[] word : wordSet.words)
+				if (word != null)
+					words.add(this.allWords.add(word));
+			referenceTable.put(categories[j], words);
+		}
+		if (documentName.equals(this.lastDocumentName)) {
+			this.lastDocumentName = null;
+			this.lastReferenceTable = null;
+		}
+		this.docsToReferences.put(documentName, referenceTable);
+		this.saved = false;
+	}
+}
 HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule, HashtableOfObject results) {
 	// assumed the disk index already skipped over documents which have been added/changed/deleted
 	// results maps a word -> EntryResult
@@ -116,14 +156,75 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 boolean hasChanged() {
 	return this.docsToReferences.elementSize > 0;
 }
+boolean hasUnsavedChanges() {
+	return !this.saved && hasChanged();
+}
+/**
+ * Reads the documents written by {@link #writeDocuments(DataOutput)}, replacing the current ones.
+ */
+void readDocuments(DataInput input) throws IOException {
+	int documentCount = input.readInt();
+	for (int i = 0; i < documentCount; i++) {
+		String documentName = input.readUTF();
+		int categoryCount = input.readInt();
+		if (categoryCount < 0) {
+			remove(documentName);
+			continue;
+		}
+		HashtableOfObject referenceTable = new HashtableOfObject(categoryCount);
+		for (int j = 0; j < categoryCount; j++) {
+			char[] category = input.readUTF().toCharArray();
+			int wordCount = input.readInt();
+			SimpleWordSet words = new SimpleWordSet(wordCount);
+			for (int k = 0; k < wordCount; k++)
+				words.add(this.allWords.add(input.readUTF().toCharArray()));
+			referenceTable.put(category, words);
+		}
+		this.docsToReferences.put(documentName, referenceTable);
+	}
+	this.lastDocumentName = null;
+	this.lastReferenceTable = null;
+}
 void remove(String documentName) {
 	if (documentName.equals(this.lastDocumentName)) {
 		this.lastDocumentName = null;
 		this.lastReferenceTable = null;
 	}
 	this.docsToReferences.put(documentName, null);
+	this.saved = false;
 }
 boolean shouldMerge() {
-	return this.docsToReferences.elementSize >= this.NUM_CHANGES;
+	return !this.saved && this.docsToReferences.elementSize >= this.NUM_CHANGES;
+}
+/**
+ * Writes the entries of each document, or that it was removed.
+ *
+ * @throws java.io.UTFDataFormatException if a word is too long to be written
+ */
+void writeDocuments(DataOutput output) throws IOException {
+	output.writeInt(this.docsToReferences.elementSize);
+	Object[] paths = this.docsToReferences.keyTable;
+	Object[] referenceTables = this.docsToReferences.valueTable;
+	for (int i = 0, l = paths.length; i < l; i++) {
+		if (paths[i] == null) continue;
+		output.writeUTF((String) paths[i]);
+		HashtableOfObject categoryToWords = (HashtableOfObject) referenceTables[i];
+		if (categoryToWords == null) {
+			output.writeInt(-1); // removed
+			continue;
+		}
+		output.writeInt(categoryToWords.elementSize);
+		char[][] categories = categoryToWords.keyTable;
+		Object[] wordSets = categoryToWords.valueTable;
+		for (int j = 0, m = categories.length; j < m; j++) {
+			if (categories[j] == null) continue;
+			output.writeUTF(new String(categories[j]));
+			SimpleWordSet wordSet = (SimpleWordSet) wordSets[j];
+			output.writeInt(wordSet.elementSize);
+			for (char[] word : wordSet.words)
+				if (word != null)
+					output.writeUTF(new String(word));
+		}
+	}
 }
 }
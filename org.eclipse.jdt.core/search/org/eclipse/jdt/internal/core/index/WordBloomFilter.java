@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import org.eclipse.jdt.internal.compiler.parser.ScannerHelper;
+
+/**
+ * A Bloom filter of the words of the category tables of a {@link DiskIndex} file, written in its header, which
+ * answers whether a category may contain a word without reading the category table.
+ * <p>
+ * Words are hashed ignoring their case, so that both case sensitive and case insensitive exact match queries can
+ * be screened. About 1% of the words which are not in a category are wrongly answered as possibly contained.
+ * </p>
+ */
+final class WordBloomFilter {
+
+private static final int BITS_PER_WORD = 10;
+private static final int HASH_COUNT = 7;
+
+private final long[] bits;
+
+WordBloomFilter(long[] bits) {
+	this.bits = bits;
+}
+
+long[] bits() {
+	return this.bits;
+}
+
+/**
+ * Answers the hash of the given word of the given category.
+ */
+static long hash(char[] category, char[] word) {
+	long hash = 0xcbf29ce484222325L; // FNV-1a
+	for (char c : category)
+		hash = (hash ^ c) * 0x100000001b3L;
+	hash = (hash ^ '/') * 0x100000001b3L;
+	for (char c : word)
+		hash = (hash ^ ScannerHelper.toLowerCase(c)) * 0x100000001b3L;
+	// spread the bits of the short words
+	hash ^= hash >>> 33;
+	hash *= 0xff51afd7ed558ccdL;
+	hash ^= hash >>> 33;
+	return hash;
+}
+
+/**
+ * Answers false if the given category contains no word equal to the given word ignoring case.
+ */
+boolean mightContain(char[] category, char[] word) {
+	long hash = hash(category, word);
+	long size = this.bits.length * 64L;
+	int hash1 = (int) hash;
+	int hash2 = (int) (hash >>> 32);
+	for (int i = 1; i <= HASH_COUNT; i++) {
+		long bit = Math.floorMod(hash1 + (long) i * hash2, size);
+		if ((this.bits[(int) (bit >>> 6)] & (1L << bit)) == 0)
+			return false;
+	}
+	return true;
+}
+
+/**
+ * Collects the hashes of the words of the category tables while they are written.
+ */
+static final class Builder {
+
+private long[] hashes = new long[256];
+private int size;
+
+void add(char[] category, char[] word) {
+	if (this.size == this.hashes.length)
+		System.arraycopy(this.hashes, 0, this.hashes = new long[this.size * 2], 0, this.size);
+	this.hashes[this.size++] = hash(category, word);
+}
+
+WordBloomFilter build() {
+	long size = Math.max(64, ((long) this.size * BITS_PER_WORD + 63) & ~63L);
+	long[] bits = new long[(int) (size >>> 6)];
+	for (int i = 0; i < this.size; i++) {
+		long hash = this.hashes[i];
+		int hash1 = (int) hash;
+		int hash2 = (int) (hash >>> 32);
+		for (int j = 1; j <= HASH_COUNT; j++) {
+			long bit = Math.floorMod(hash1 + (long) j * hash2, size);
+			bits[(int) (bit >>> 6)] |= 1L << bit;
+		}
+	}
+	return new WordBloomFilter(bits);
+}
+}
+}
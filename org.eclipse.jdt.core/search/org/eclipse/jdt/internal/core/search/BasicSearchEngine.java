@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,7 +29,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.search.*;
@@ -97,6 +99,13 @@ public class BasicSearchEngine {
 	 */
 	public static boolean VERBOSE = false;
 
+	/**
+	 * Preference to locate the matches of the first queried indexes while the other indexes are queried, so that
+	 * the first matches are reported earlier. The matches are then not reported in the same order.
+	 */
+	public static final String ENABLE_STREAMING_SEARCH = "enableStreamingJavaSearch";//$NON-NLS-1$
+	public static final boolean ENABLE_STREAMING_SEARCH_DEFAULT = false;
+
 	/*
 	 * Creates a new search basic engine.
 	 */
@@ -258,6 +267,23 @@ public class BasicSearchEngine {
 					iterationMonitor.subTask(Messages.bind(Messages.engine_searching_indexing, new String[] {participant.getDescription()}));
 					participant.beginSearching();
 					requestor.enterParticipant(participant);
+					if (isStreamingSearchEnabled()) {
+						// the query job reports the progress while matches are located, these passes only observe its cancellation
+						SubMonitor queryMonitor = iterationMonitor.split(50);
+						StreamingPathCollector streamingCollector = new StreamingPathCollector(pattern, scope, participant,
+								requestor, getWorkingCopies(), new PatternSearchJob.ParallelSearchMonitor(queryMonitor));
+						try {
+							indexManager.performConcurrentJob(
+								new PatternSearchJob(pattern, participant, scope, streamingCollector),
+								IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+								queryMonitor);
+						} catch (StreamingPathCollector.StreamingException e) {
+							throw e.getCause();
+						}
+						iterationMonitor.subTask(Messages.bind(Messages.engine_searching_matching, new String[] {participant.getDescription()}));
+						streamingCollector.locateRemainingMatches(iterationMonitor.split(50));
+						continue;
+					}
 					PathCollector pathCollector = new PathCollector();
 					indexManager.performConcurrentJob(
 						new PatternSearchJob(pattern, participant, scope, pathCollector),
@@ -289,6 +315,18 @@ public class BasicSearchEngine {
 			}
 		}
 	}
+	/**
+	 * Returns whether the matches are located while the indexes are queried.
+	 *
+	 * @see #ENABLE_STREAMING_SEARCH
+	 */
+	public static boolean isStreamingSearchEnabled() {
+		IPreferencesService preferenceService = Platform.getPreferencesService();
+		if (preferenceService == null) {
+			return ENABLE_STREAMING_SEARCH_DEFAULT;
+		}
+		return preferenceService.getBoolean(JavaCore.PLUGIN_ID, ENABLE_STREAMING_SEARCH, ENABLE_STREAMING_SEARCH_DEFAULT, null);
+	}
 	/**
 	 * Returns a new default Java search participant.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,4 +25,12 @@ public abstract class IndexQueryRequestor {
 	// answer false if requesting cancel
 	public abstract boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant participant, AccessRuleSet access);
 
+	/**
+	 * Notifies that all the matches of an index were accepted, in the order of the selected indexes.
+	 * Does nothing by default.
+	 */
+	public void indexQueried() {
+		// nothing by default
+	}
+
 }
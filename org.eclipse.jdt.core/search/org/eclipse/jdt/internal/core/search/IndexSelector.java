@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -287,6 +287,7 @@ private void initializeIndexLocations() {
 					}
 				}
 			}
+			locations = prioritize(locations, focus, manager);
 		} catch (JavaModelException e) {
 			// ignored
 		}
@@ -296,6 +297,36 @@ private void initializeIndexLocations() {
 	this.indexLocations = locations.toArray(new IndexLocation[locations.size()]);
 }
 
+/*
+ * Answers the given index locations with the index of the focus first, followed by the indexes of the direct
+ * classpath entries of the focus project in their classpath order, so that the matches that are the closest to
+ * the focus are found first.
+ */
+private static LinkedHashSet<IndexLocation> prioritize(LinkedHashSet<IndexLocation> locations, IJavaElement focus, IndexManager manager) throws JavaModelException {
+	LinkedHashSet<IndexLocation> prioritized = new LinkedHashSet<>(locations.size() * 2);
+	prioritize(focus.getPath(), locations, prioritized, manager);
+	if (focus instanceof JavaProject) {
+		IClasspathEntry[] entries = ((JavaProject) focus).getResolvedClasspath();
+		for (IClasspathEntry entry : entries) {
+			int kind = entry.getEntryKind();
+			if (kind == IClasspathEntry.CPE_PROJECT || kind == IClasspathEntry.CPE_LIBRARY)
+				prioritize(entry.getPath(), locations, prioritized, manager);
+		}
+	}
+	if (prioritized.isEmpty())
+		return locations;
+	prioritized.addAll(locations);
+	return prioritized;
+}
+private static void prioritize(IPath path, Set<IndexLocation> locations, Set<IndexLocation> prioritized, IndexManager manager) {
+	Object target = JavaModel.getTarget(path, false/*don't check existence*/);
+	if (target instanceof IFolder) // case of an external folder
+		path = ((IFolder) target).getFullPath();
+	IndexLocation location = manager.computeIndexLocation(path);
+	if (location != null && locations.contains(location))
+		prioritized.add(location);
+}
+
 public IndexLocation[] getIndexLocations() {
 	if (this.indexLocations == null) {
 		initializeIndexLocations();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,6 +116,7 @@ public boolean execute(IProgressMonitor progressMonitor) {
 		} else {
 			for (int i = 0; i < max; i++) {
 				isComplete &= search(indexes[i], this.requestor, loopMonitor.split(1), parallel);
+				this.requestor.indexQueried();
 			}
 		}
 
@@ -159,6 +160,7 @@ private boolean performParallelSearch(Index[] indexes, SubMonitor loopMonitor) {
 						throw new OperationCanceledException();
 					}
 				});
+				this.requestor.indexQueried();
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 				throw new OperationCanceledException();
@@ -292,7 +294,7 @@ private boolean canRunInParallel() {
 			&& IParallelizable.isParallelSearchSupported(this.pattern);
 }
 
-private boolean isParallelSearchEnabled() {
+public static boolean isParallelSearchEnabled() {
 	IPreferencesService preferenceService = Platform.getPreferencesService();
 	if (preferenceService == null) {
 		return true;
@@ -335,7 +337,7 @@ static class IndexMatch {
 	}
 }
 
-static class ParallelSearchMonitor extends NullProgressMonitor {
+public static class ParallelSearchMonitor extends NullProgressMonitor {
 	private volatile boolean canceled;
 	private final IProgressMonitor original;
 
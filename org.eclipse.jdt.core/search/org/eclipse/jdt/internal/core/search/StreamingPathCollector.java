@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchDocument;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.internal.compiler.env.AccessRuleSet;
+import org.eclipse.jdt.internal.core.search.matching.MatchLocator;
+
+/**
+ * Collects the resource paths of the index matches, and locates the matches of the collected paths while the
+ * remaining indexes are queried, so that the first search matches are reported once the first index with matches
+ * is queried instead of once all the indexes are queried.
+ * <p>
+ * The matches are located as soon as an index yields paths, then when the paths collected since are at least as
+ * many as the paths already located, so that the matches are located a logarithmic number of times.
+ * </p>
+ * <p>
+ * The matches located while the indexes are queried are given a monitor which only observes the cancellation of the
+ * query, since the query reports the progress meanwhile. The remaining matches are located with their own monitor.
+ * </p>
+ */
+public class StreamingPathCollector extends PathCollector {
+
+	private final SearchPattern pattern;
+	private final IJavaSearchScope scope;
+	private final SearchParticipant participant;
+	private final SearchRequestor requestor;
+	private final ICompilationUnit[] workingCopies;
+	private final IProgressMonitor queryMonitor;
+
+	private final List<String> pendingPaths = new ArrayList<>();
+	private final Set<String> locatedPaths = new HashSet<>();
+
+	public StreamingPathCollector(SearchPattern pattern, IJavaSearchScope scope, SearchParticipant participant,
+			SearchRequestor requestor, ICompilationUnit[] workingCopies, IProgressMonitor queryMonitor) {
+		this.pattern = pattern;
+		this.scope = scope;
+		this.participant = participant;
+		this.requestor = requestor;
+		this.workingCopies = workingCopies;
+		this.queryMonitor = queryMonitor;
+	}
+
+	@Override
+	public boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant searchParticipant, AccessRuleSet access) {
+		if (this.paths.add(documentPath))
+			this.pendingPaths.add(documentPath);
+		return true;
+	}
+
+	@Override
+	public void indexQueried() {
+		int pending = this.pendingPaths.size();
+		if (pending > 0 && pending >= this.locatedPaths.size()) {
+			try {
+				locatePendingMatches(this.queryMonitor);
+			} catch (CoreException e) {
+				throw new StreamingException(e);
+			}
+		}
+	}
+
+	/**
+	 * Locates the matches of the paths which are not located yet, and of the working copies which are not
+	 * included in the collected paths.
+	 */
+	public void locateRemainingMatches(IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		locatePendingMatches(subMonitor.split(1));
+		SearchDocument[] copies = MatchLocator.addWorkingCopies(this.pattern, new SearchDocument[0], this.workingCopies, this.participant);
+		List<SearchDocument> remaining = new ArrayList<>(copies.length);
+		for (SearchDocument copy : copies) {
+			if (!this.locatedPaths.contains(copy.getPath()))
+				remaining.add(copy);
+		}
+		if (!remaining.isEmpty())
+			this.participant.locateMatches(remaining.toArray(new SearchDocument[remaining.size()]), this.pattern, this.scope, this.requestor, subMonitor.split(1));
+	}
+
+	private void locatePendingMatches(IProgressMonitor monitor) throws CoreException {
+		int length = this.pendingPaths.size();
+		if (length == 0)
+			return;
+		SearchDocument[] indexMatches = new SearchDocument[length];
+		for (int i = 0; i < length; i++) {
+			String path = this.pendingPaths.get(i);
+			indexMatches[i] = this.participant.getDocument(path);
+			this.locatedPaths.add(path);
+		}
+		this.pendingPaths.clear();
+		// working copies replace their compilation unit in place, the other working copies are located last
+		SearchDocument[] matches = MatchLocator.addWorkingCopies(this.pattern, indexMatches, this.workingCopies, this.participant);
+		if (matches.length > length)
+			System.arraycopy(matches, 0, matches = new SearchDocument[length], 0, length);
+		this.participant.locateMatches(matches, this.pattern, this.scope, this.requestor, monitor);
+	}
+
+	/**
+	 * Wraps a failure to locate matches while indexes are queried, to be rethrown once the query job completes.
+	 */
+	public static class StreamingException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		StreamingException(CoreException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized CoreException getCause() {
+			return (CoreException) super.getCause();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,13 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import org.eclipse.core.resources.IFile;
@@ -46,6 +52,7 @@ import org.eclipse.jdt.internal.core.search.processing.JobManager;
 class AddJarFileToIndex extends BinaryContainer {
 
 	private static final char JAR_SEPARATOR = IJavaSearchScope.JAR_FILE_ENTRY_SEPARATOR.charAt(0);
+
 	IFile resource;
 	private IndexLocation indexFileURL;
 	private final boolean forceIndexUpdate;
@@ -107,6 +114,17 @@ class AddJarFileToIndex extends BinaryContainer {
 				return true;
 			}
 
+			// an identical jar may have been indexed already, for another path or in another workspace
+			SharedIndexStore sharedIndexes = this.forceIndexUpdate ? null : SharedIndexStore.getInstance();
+			String sharedIndexKey = null;
+			boolean reusesSharedIndex = false;
+			if (sharedIndexes != null) {
+				File indexFile = this.manager.computeIndexLocation(this.containerPath).getIndexFile();
+				// hashing the jar is only worth it when there is no index file to check against the jar
+				if (indexFile != null && !indexFile.exists() && (sharedIndexKey = sharedIndexes.keyOf(getLocalJarFile())) != null)
+					reusesSharedIndex = sharedIndexes.fetch(sharedIndexKey, indexFile);
+			}
+
 			index = this.manager.getIndexForUpdate(this.containerPath, true, /*reuse index file*/ true /*create if none*/);
 			if (index == null) {
 				if (JobManager.VERBOSE)
@@ -205,6 +223,8 @@ class AddJarFileToIndex extends BinaryContainer {
 								+ zip.getName() + " (" //$NON-NLS-1$
 								+ (System.currentTimeMillis() - initialTime) + "ms)"); //$NON-NLS-1$
 							this.manager.saveIndex(index); // to ensure its placed into the saved state
+							if (reusesSharedIndex)
+								this.manager.updateMetaIndex(index);
 							return true;
 						}
 					}
@@ -225,24 +245,60 @@ class AddJarFileToIndex extends BinaryContainer {
 					indexPath = indexLocation.getIndexPath();
 				}
 				boolean hasModuleInfoClass = false;
-				for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
-					if (this.isCancelled) {
-						if (JobManager.VERBOSE)
-							trace("-> indexing of " + zip.getName() + " has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
-						return false;
-					}
+				// large jars are indexed by batches of class files on the threads of the pool, the job thread
+				// only reads the entries and adds the entries of the indexed batches to the index, in order
+				ForkJoinPool pool = IndexingPool.forDocuments(zip.size());
+				Deque<Future<Index>> indexedBatches = new ArrayDeque<>();
+				List<JavaSearchDocument> batch = new ArrayList<>(IndexingPool.BATCH_SIZE);
+				try {
+					for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
+						if (this.isCancelled || progressMonitor != null && progressMonitor.isCanceled()) {
+							if (JobManager.VERBOSE)
+								trace("-> indexing of " + zip.getName() + " has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
+							return false;
+						}
 
-					// iterate each entry to index it
-					ZipEntry ze = e.nextElement();
-					String zipEntryName = ze.getName();
-					if (Util.isClassFileName(zipEntryName) &&
-							isValidPackageNameForClassOrisModule(zipEntryName)) {
-						hasModuleInfoClass |= zipEntryName.contains(TypeConstants.MODULE_INFO_NAME_STRING);
-						// index only classes coming from valid packages - https://bugs.eclipse.org/bugs/show_bug.cgi?id=293861
-						final byte[] classFileBytes = org.eclipse.jdt.internal.compiler.util.Util.getZipEntryByteContent(ze, zip);
-						JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, classFileBytes, participant);
+						// iterate each entry to index it
+						ZipEntry ze = e.nextElement();
+						String zipEntryName = ze.getName();
+						if (Util.isClassFileName(zipEntryName) &&
+								isValidPackageNameForClassOrisModule(zipEntryName)) {
+							hasModuleInfoClass |= zipEntryName.contains(TypeConstants.MODULE_INFO_NAME_STRING);
+							// index only classes coming from valid packages - https://bugs.eclipse.org/bugs/show_bug.cgi?id=293861
+							final byte[] classFileBytes = org.eclipse.jdt.internal.compiler.util.Util.getZipEntryByteContent(ze, zip);
+							JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, classFileBytes, participant);
+							if (pool == null) {
+								this.manager.indexDocument(entryDocument, participant, index, indexPath);
+								continue;
+							}
+							batch.add(entryDocument);
+							if (batch.size() == IndexingPool.BATCH_SIZE) {
+								indexedBatches.add(indexBatch(pool, batch, participant, index, indexPath));
+								batch = new ArrayList<>(IndexingPool.BATCH_SIZE);
+								// bound the class files held in memory
+								while (indexedBatches.size() > 2 * IndexingPool.PARALLELISM)
+									index.addIndexEntries(IndexingPool.waitFor(indexedBatches.removeFirst()));
+							}
+						}
+					}
+					for (JavaSearchDocument entryDocument : batch)
 						this.manager.indexDocument(entryDocument, participant, index, indexPath);
+					while (!indexedBatches.isEmpty()) {
+						if (this.isCancelled || progressMonitor != null && progressMonitor.isCanceled()) {
+							if (JobManager.VERBOSE)
+								trace("-> indexing of " + zip.getName() + " has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
+							return false;
+						}
+						index.addIndexEntries(IndexingPool.waitFor(indexedBatches.removeFirst()));
 					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					if (JobManager.VERBOSE)
+						trace("-> indexing of " + zip.getName() + " has been interrupted"); //$NON-NLS-1$ //$NON-NLS-2$
+					return false;
+				} finally {
+					for (Future<Index> indexedBatch : indexedBatches)
+						indexedBatch.cancel(false);
 				}
 				if (!hasModuleInfoClass) {
 					String s;
@@ -266,6 +322,12 @@ class AddJarFileToIndex extends BinaryContainer {
 				}
 				else {
 					this.manager.saveIndex(index);
+					if (sharedIndexes != null) {
+						if (sharedIndexKey == null)
+							sharedIndexKey = sharedIndexes.keyOf(getLocalJarFile());
+						if (sharedIndexKey != null)
+							sharedIndexes.publish(sharedIndexKey, index.getIndexFile());
+					}
 				}
 				if (JobManager.VERBOSE)
 					trace("-> done indexing of " //$NON-NLS-1$
@@ -293,6 +355,26 @@ class AddJarFileToIndex extends BinaryContainer {
 		}
 		return true;
 	}
+	private File getLocalJarFile() {
+		if (this.resource == null)
+			return this.containerPath.toFile(); // external file -> it is ok to use toFile()
+		IPath location = this.resource.getLocation();
+		return location == null ? null : location.toFile();
+	}
+	/**
+	 * Indexes the given class files on a thread of the pool, into an index kept in memory.
+	 */
+	private Future<Index> indexBatch(ForkJoinPool pool, List<JavaSearchDocument> batch, SearchParticipant participant, Index index, IPath indexPath) {
+		String containerPath = index.containerPath;
+		return pool.submit(() -> {
+			Index entries = new Index(containerPath);
+			for (JavaSearchDocument entryDocument : batch) {
+				if (this.isCancelled) break; // the entries are not added
+				this.manager.indexDocument(entryDocument, participant, entries, indexPath);
+			}
+			return entries;
+		});
+	}
 	@Override
 	public String getJobFamily() {
 		if (this.resource != null)
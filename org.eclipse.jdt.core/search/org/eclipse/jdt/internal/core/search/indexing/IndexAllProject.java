@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,14 @@ package org.eclipse.jdt.internal.core.search.indexing;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -29,11 +35,15 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.SearchDocument;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.internal.compiler.SourceElementParser;
 import org.eclipse.jdt.internal.compiler.util.SimpleLookupTable;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.JavaProject;
 import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.index.IndexLocation;
 import org.eclipse.jdt.internal.core.util.Util;
 
 public class IndexAllProject extends IndexRequest {
@@ -206,7 +216,7 @@ public class IndexAllProject extends IndexRequest {
 				}
 			}
 
-			SourceElementParser parser = this.manager.getSourceElementParser(javaProject, null/*requestor will be set by indexer*/);
+			List<IFile> addedFiles = new ArrayList<>();
 			Object[] names = indexedFileNames.keyTable;
 			Object[] values = indexedFileNames.valueTable;
 			for (int i = 0, namesLength = names.length; i < namesLength; i++) {
@@ -219,10 +229,21 @@ public class IndexAllProject extends IndexRequest {
 						if (value == DELETED)
 							this.manager.remove(name, this.containerPath);
 						else
-							this.manager.addSource((IFile) value, this.containerPath, parser);
+							addedFiles.add((IFile) value);
 					}
 				}
 			}
+			ForkJoinPool pool = IndexingPool.forDocuments(addedFiles.size());
+			if (pool == null) {
+				SourceElementParser parser = this.manager.getSourceElementParser(javaProject, null/*requestor will be set by indexer*/);
+				for (IFile file : addedFiles)
+					this.manager.addSource(file, this.containerPath, parser);
+			} else {
+				monitor.exitRead(); // the entries of the indexed files are added with the write lock
+				monitor = null;
+				if (!indexSources(pool, addedFiles, javaProject, index, progressMonitor))
+					return false;
+			}
 
 			// request to save index when all cus have been indexed... also sets state to SAVED_STATE
 			this.manager.request(new SaveIndex(this.containerPath, this.manager));
@@ -236,6 +257,76 @@ public class IndexAllProject extends IndexRequest {
 		}
 		return true;
 	}
+	/**
+	 * Indexes the given source files by batches on the threads of the pool, each batch into an index kept in memory,
+	 * and adds the entries of the indexed batches to the index in order. Source files with functional types are then
+	 * resolved and indexed again by the job thread, as by {@link IndexManager#scheduleDocumentIndexing}.
+	 */
+	private boolean indexSources(ForkJoinPool pool, List<IFile> files, JavaProject javaProject, Index index, IProgressMonitor progressMonitor) {
+		IndexLocation indexLocation = index.getIndexLocation();
+		IPath indexPath = indexLocation == null ? null : indexLocation.getIndexPath();
+		Deque<Future<IndexedSources>> indexedBatches = new ArrayDeque<>();
+		try {
+			for (int start = 0, size = files.size(); start < size; start += IndexingPool.BATCH_SIZE) {
+				if (this.isCancelled || progressMonitor != null && progressMonitor.isCanceled()) return false;
+				List<IFile> batch = files.subList(start, Math.min(start + IndexingPool.BATCH_SIZE, size));
+				indexedBatches.add(indexBatch(pool, batch, javaProject, index.containerPath, indexPath));
+				// bound the indexed entries and documents to resolve held in memory
+				while (indexedBatches.size() > 2 * IndexingPool.PARALLELISM)
+					if (!addIndexEntries(IndexingPool.waitFor(indexedBatches.removeFirst()), index, indexPath))
+						return false;
+			}
+			while (!indexedBatches.isEmpty()) {
+				if (this.isCancelled || progressMonitor != null && progressMonitor.isCanceled()) return false;
+				if (!addIndexEntries(IndexingPool.waitFor(indexedBatches.removeFirst()), index, indexPath))
+					return false;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			for (Future<IndexedSources> indexedBatch : indexedBatches)
+				indexedBatch.cancel(false);
+		}
+		this.manager.updateMetaIndex(index);
+		return true;
+	}
+	private Future<IndexedSources> indexBatch(ForkJoinPool pool, List<IFile> batch, JavaProject javaProject, String containerPath, IPath indexPath) {
+		return pool.submit(() -> {
+			Index entries = new Index(containerPath);
+			List<IndexedSource> sourcesToResolve = new ArrayList<>();
+			// parsers are not thread safe, each batch uses its own
+			SourceElementParser parser = this.manager.getSourceElementParser(javaProject, null/*requestor will be set by indexer*/);
+			for (IFile file : batch) {
+				if (this.isCancelled) break; // the entries are not added
+				// the participant keeps the indexer of a document to resolve
+				SearchParticipant participant = SearchEngine.getDefaultSearchParticipant();
+				SearchDocument document = participant.getDocument(file.getFullPath().toString());
+				document.setParser(parser);
+				this.manager.indexDocument(document, participant, entries, indexPath);
+				if (document.shouldIndexResolvedDocument())
+					sourcesToResolve.add(new IndexedSource(document, participant));
+			}
+			return new IndexedSources(entries, sourcesToResolve);
+		});
+	}
+	private boolean addIndexEntries(IndexedSources indexedBatch, Index index, IPath indexPath) {
+		ReadWriteMonitor monitor = index.monitor;
+		if (monitor == null) return false; // index got deleted since acquired
+		try {
+			monitor.enterWrite(); // ask permission to write
+			index.addIndexEntries(indexedBatch.entries());
+		} finally {
+			monitor.exitWrite(); // free write lock
+		}
+		for (IndexedSource source : indexedBatch.sourcesToResolve())
+			this.manager.indexResolvedDocument(source.document(), source.participant(), index, indexPath);
+		return true;
+	}
+	private record IndexedSource(SearchDocument document, SearchParticipant participant) {
+	}
+	private record IndexedSources(Index entries, List<IndexedSource> sourcesToResolve) {
+	}
 	@Override
 	public int hashCode() {
 		return this.project.hashCode();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -366,6 +366,13 @@ private void deleteIndexFiles(SimpleSet pathsToKeep, IProgressMonitor monitor) {
 			if (VERBOSE || DEBUG)
 				trace("Deleting index file " + indexesFile); //$NON-NLS-1$
 			indexesFile.delete();
+		} else if (fileName.endsWith(suffix + DiskIndex.DELTA_EXT)) {
+			// delta of an index file, see DiskIndex#saveDelta(MemoryIndex)
+			File deltaIndexFile = new File(fileName.substring(0, fileName.length() - DiskIndex.DELTA_EXT.length()));
+			if (pathsToKeep != null && pathsToKeep.includes(new FileIndexLocation(deltaIndexFile))) continue;
+			if (VERBOSE || DEBUG)
+				trace("Deleting index delta file " + indexesFile); //$NON-NLS-1$
+			indexesFile.delete();
 		}
 	}
 }
@@ -809,10 +816,10 @@ public synchronized void jobWasCancelled(IPath containerPath) {
  * Note: clients awaiting until the job count is zero are still waiting at this point.
  */
 @Override
-protected synchronized void moveToNextJob() {
+protected synchronized void moveToNextJob(IJob completedJob) {
 	// remember that one job was executed, and we will need to save indexes at some point
 	this.needToSave = true;
-	super.moveToNextJob();
+	super.moveToNextJob(completedJob);
 }
 /**
  * No more job awaiting.
@@ -1132,7 +1139,7 @@ public void saveIndex(Index index) throws IOException {
 	if (index.hasChanged()) {
 		if (VERBOSE)
 			trace("-> saving index " + index.getIndexLocation()); //$NON-NLS-1$
-		if (index.save()) {
+		if (index.save(true /*incremental*/)) {
 			updateMetaIndex(index);
 		} else {
 			if (VERBOSE)
@@ -1750,8 +1757,19 @@ class MetaIndexUpdateRequest implements IJob {
 			if (VERBOSE) {
 				trace("-> meta-index update from queue with size " + metaIndexUpdatesSize); //$NON-NLS-1$
 			}
+			ReadWriteMonitor monitor = index.monitor;
+			if (monitor == null) {
+				continue;
+			}
 			try {
-				updateMetaIndex(indexFile.getName(), index.getMetaIndexQualifications());
+				List<IndexQualifier> qualifications;
+				monitor.enterRead(); // other jobs may update the index concurrently
+				try {
+					qualifications = index.getMetaIndexQualifications();
+				} finally {
+					monitor.exitRead();
+				}
+				updateMetaIndex(indexFile.getName(), qualifications);
 			} catch (IOException e) {
 				Throwable cause = e.getCause();
 				if (cause != null) {
@@ -1772,6 +1790,11 @@ class MetaIndexUpdateRequest implements IJob {
 		return ""; //$NON-NLS-1$
 	}
 
+	@Override
+	public Object getSchedulingKey() {
+		return INDEX_META_CONTAINER;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,13 @@ public abstract class IndexRequest implements IJob {
 	public String getJobFamily() {
 		return this.containerPath.toString();
 	}
+	/**
+	 * Requests only update the index of their container.
+	 */
+	@Override
+	public Object getSchedulingKey() {
+		return this.containerPath;
+	}
 	protected Integer updatedIndexState() {
 		return IndexManager.UPDATING_STATE;
 	}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * The threads indexing the documents of a large container by batches, while the job thread reads the next
+ * documents and adds the entries of the indexed batches to the index of the container. Threads are created
+ * on demand.
+ * <p>
+ * The number of threads is set by the {@value #THREAD_COUNT_PROPERTY} system property, 1 disabling the pool.
+ * </p>
+ */
+final class IndexingPool {
+
+	static final String THREAD_COUNT_PROPERTY = "org.eclipse.jdt.core.indexing_threads"; //$NON-NLS-1$
+	private static final Integer THREAD_COUNT = Integer.getInteger(THREAD_COUNT_PROPERTY);
+	/** number of documents indexed together on a thread of the pool **/
+	static final int BATCH_SIZE = 64;
+
+	static final int PARALLELISM = Math.max(1, THREAD_COUNT == null ? ForkJoinPool.getCommonPoolParallelism() : THREAD_COUNT.intValue());
+	// Never use a shared ForkJoinPool.commonPool() as it may be busy with other tasks, see JavaModelManager#saving(ISaveContext)
+	private static final ForkJoinPool POOL = PARALLELISM > 1 ? new ForkJoinPool(PARALLELISM,
+			pool -> new ForkJoinWorkerThread(pool) {
+				// anonymous subclass to access protected constructor
+			}, null, false) : null;
+
+	private IndexingPool() {
+	}
+
+	/**
+	 * Answers the pool indexing the given number of documents, or null if they should be indexed by the job thread.
+	 */
+	static ForkJoinPool forDocuments(int documentCount) {
+		return documentCount > BATCH_SIZE ? POOL : null;
+	}
+
+	/**
+	 * Waits for a batch indexed on the pool, rethrowing its failure.
+	 */
+	static <T> T waitFor(Future<T> indexedBatch) throws InterruptedException {
+		try {
+			return indexedBatch.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			if (cause instanceof Error error)
+				throw error;
+			throw new IllegalStateException(cause);
+		}
+	}
+}
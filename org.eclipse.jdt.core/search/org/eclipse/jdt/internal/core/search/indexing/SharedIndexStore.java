@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+
+/**
+ * A directory shared by the workspaces of a machine, where the index files of jars are stored under the hash of
+ * the jar contents, so that an identical jar is indexed once whatever its path, project or workspace.
+ * <p>
+ * The least recently used index files are deleted when the store exceeds its maximum size. Index files are
+ * written to a temporary file which is then renamed, so that concurrent processes never read a partial index
+ * file, and a copy of a shared index file is still checked against the entries of the jar before it is used.
+ * </p>
+ * <p>
+ * The key of a jar hashes its whole contents, so it is only computed when its index file is missing or when the
+ * jar has just been indexed.
+ * </p>
+ * The store is disabled unless its directory is set by the {@value #DIRECTORY_PROPERTY} system property. Its
+ * maximum size in megabytes is set by the {@value #MAXIMUM_SIZE_PROPERTY} system property.
+ */
+public class SharedIndexStore {
+
+	public static final String DIRECTORY_PROPERTY = "jdt.core.sharedIndexes.directory"; //$NON-NLS-1$
+	public static final String MAXIMUM_SIZE_PROPERTY = "jdt.core.sharedIndexes.maxSizeMB"; //$NON-NLS-1$
+	private static final int DEFAULT_MAXIMUM_SIZE = 2048; // MB
+	private static final String INDEX_FILE_SUFFIX = ".index"; //$NON-NLS-1$
+
+	private static final SharedIndexStore INSTANCE = create();
+
+	private final File directory;
+	private final long maximumSize;
+
+	/**
+	 * Creates a store in the given directory, whose size in bytes does not exceed the given maximum size.
+	 */
+	public SharedIndexStore(File directory, long maximumSize) {
+		this.directory = directory;
+		this.maximumSize = maximumSize;
+	}
+
+	private static SharedIndexStore create() {
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+		if (directory == null || directory.isEmpty())
+			return null;
+		long maximumSize = Long.getLong(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE).longValue();
+		if (maximumSize <= 0)
+			return null;
+		return new SharedIndexStore(new File(directory), maximumSize * 1024 * 1024);
+	}
+
+	/**
+	 * Answers the store of the machine, or null if it is not enabled.
+	 */
+	public static SharedIndexStore getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Answers the key of the index of the given jar, or null if the jar cannot be read.
+	 * <p>
+	 * The key depends on the contents of the jar, on its name from which an automatic module name is derived,
+	 * and on the format of the index files.
+	 * </p>
+	 */
+	public String keyOf(File jarFile) {
+		if (jarFile == null || !jarFile.isFile())
+			return null;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] buffer = new byte[64 * 1024];
+			try (InputStream input = Files.newInputStream(jarFile.toPath())) {
+				for (int read; (read = input.read(buffer)) != -1;)
+					digest.update(buffer, 0, read);
+			}
+			digest.update(jarFile.getName().getBytes(StandardCharsets.UTF_8));
+			digest.update(DiskIndex.SIGNATURE.getBytes(StandardCharsets.UTF_8));
+			StringBuilder key = new StringBuilder(64);
+			for (byte b : digest.digest())
+				key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			return key.toString();
+		} catch (IOException | NoSuchAlgorithmException e) {
+			if (JobManager.VERBOSE)
+				trace("-> cannot compute the shared index key of " + jarFile, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Copies the shared index file with the given key to the given index file.
+	 *
+	 * @return whether the store contained an index file with this key and it was copied
+	 */
+	public boolean fetch(String key, File indexFile) {
+		File sharedFile = new File(this.directory, key + INDEX_FILE_SUFFIX);
+		if (!sharedFile.isFile())
+			return false;
+		try {
+			Files.copy(sharedFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			sharedFile.setLastModified(System.currentTimeMillis()); // recently used
+			if (JobManager.VERBOSE)
+				trace("-> reusing shared index " + sharedFile + " for " + indexFile); //$NON-NLS-1$ //$NON-NLS-2$
+			return true;
+		} catch (IOException e) {
+			// deleted by another process, or the index file cannot be written
+			indexFile.delete();
+			return false;
+		}
+	}
+
+	/**
+	 * Stores a copy of the given index file under the given key, unless the store already contains one.
+	 */
+	public void publish(String key, File indexFile) {
+		if (indexFile == null || !indexFile.isFile())
+			return;
+		File sharedFile = new File(this.directory, key + INDEX_FILE_SUFFIX);
+		if (sharedFile.isFile()) {
+			sharedFile.setLastModified(System.currentTimeMillis()); // recently used
+			return;
+		}
+		File temporaryFile = null;
+		try {
+			Files.createDirectories(this.directory.toPath());
+			temporaryFile = File.createTempFile(key, ".tmp", this.directory); //$NON-NLS-1$
+			Files.copy(indexFile.toPath(), temporaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			try {
+				Files.move(temporaryFile.toPath(), sharedFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile.toPath(), sharedFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			temporaryFile = null;
+			if (JobManager.VERBOSE)
+				trace("-> shared index " + sharedFile + " for " + indexFile); //$NON-NLS-1$ //$NON-NLS-2$
+		} catch (IOException e) {
+			if (JobManager.VERBOSE)
+				trace("-> cannot share index " + indexFile, e); //$NON-NLS-1$
+			return;
+		} finally {
+			if (temporaryFile != null)
+				temporaryFile.delete();
+		}
+		trim();
+	}
+
+	/**
+	 * Deletes the least recently used index files until the store does not exceed its maximum size.
+	 */
+	private void trim() {
+		File[] sharedFiles = this.directory.listFiles((dir, name) -> name.endsWith(INDEX_FILE_SUFFIX));
+		if (sharedFiles == null)
+			return;
+		long size = 0;
+		Map<File, Long> lastUses = new HashMap<>(); // other processes may use the files while they are sorted
+		for (File sharedFile : sharedFiles) {
+			size += sharedFile.length();
+			lastUses.put(sharedFile, Long.valueOf(sharedFile.lastModified()));
+		}
+		if (size <= this.maximumSize)
+			return;
+		Arrays.sort(sharedFiles, Comparator.comparing(lastUses::get));
+		for (int i = 0; i < sharedFiles.length && size > this.maximumSize; i++) {
+			long length = sharedFiles[i].length();
+			if (sharedFiles[i].delete())
+				size -= length;
+		}
+	}
+}
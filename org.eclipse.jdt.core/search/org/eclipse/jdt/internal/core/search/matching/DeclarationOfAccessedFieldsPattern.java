@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,4 +29,9 @@ public DeclarationOfAccessedFieldsPattern(IJavaElement enclosingElement) {
 	this.knownFields = new SimpleSet();
 	this.mustResolve = true;
 }
+@Override
+public boolean isParallelSearchSupported() {
+	// the known fields are shared by all the matches of the search
+	return false;
+}
 }
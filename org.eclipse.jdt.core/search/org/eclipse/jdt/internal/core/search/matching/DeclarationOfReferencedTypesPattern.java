@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,4 +28,9 @@ public DeclarationOfReferencedTypesPattern(IJavaElement enclosingElement) {
 	this.knownTypes = new SimpleSet();
 	this.mustResolve = true;
 }
+@Override
+public boolean isParallelSearchSupported() {
+	// the known types are shared by all the matches of the search
+	return false;
+}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,13 +21,18 @@ import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.zip.ZipFile;
 import org.eclipse.core.resources.IResource;
@@ -35,6 +40,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -81,6 +87,8 @@ import org.eclipse.jdt.internal.core.search.HierarchyScope;
 import org.eclipse.jdt.internal.core.search.IndexQueryRequestor;
 import org.eclipse.jdt.internal.core.search.IndexSelector;
 import org.eclipse.jdt.internal.core.search.JavaSearchDocument;
+import org.eclipse.jdt.internal.core.search.PatternSearchJob;
+import org.eclipse.jdt.internal.core.search.PatternSearchJob.ParallelSearchMonitor;
 import org.eclipse.jdt.internal.core.search.indexing.QualifierQuery;
 import org.eclipse.jdt.internal.core.search.processing.JobManager;
 import org.eclipse.jdt.internal.core.util.ASTNodeFinder;
@@ -90,7 +98,7 @@ import org.eclipse.jdt.internal.core.util.Util;
 
 public class MatchLocator implements ITypeRequestor {
 
-public static final int MAX_AT_ONCE;
+public static int MAX_AT_ONCE;
 static {
 	long maxMemory = Runtime.getRuntime().maxMemory();
 	int ratio = (int) Math.round(((double) maxMemory) / (64 * 0x100000));
@@ -151,6 +159,10 @@ public long resultCollectorTime = 0;
 int progressStep;
 int progressWorked;
 
+// Matches and failure of a chunk located by a worker, see locateMatchesInParallel(...)
+private List<SearchMatch> chunkMatches;
+private Exception chunkFailure;
+
 // Binding resolution and cache
 CompilationUnitScope unitScope;
 Map<JavaSearchPattern, Binding> bindingsByPattern;
@@ -1392,13 +1404,120 @@ protected void locateMatches(JavaProject javaProject, PossibleMatchSet matchSet,
 		this.progressMonitor.worked( expected-length);
 	}
 	// locate matches (processed matches are limited to avoid problem while using VM default memory heap size)
-	for (int index = 0; index < length;) {
-		int max = Math.min(MAX_AT_ONCE, length - index);
-		locateMatches(javaProject, possibleMatches, index, max);
-		index += max;
+	if (length > MAX_AT_ONCE && canLocateMatchesInParallel()) {
+		locateMatchesInParallel(javaProject, possibleMatches);
+	} else {
+		for (int index = 0; index < length;) {
+			int max = Math.min(MAX_AT_ONCE, length - index);
+			locateMatches(javaProject, possibleMatches, index, max);
+			index += max;
+		}
 	}
 	this.patternLocator.clear();
 }
+private boolean canLocateMatchesInParallel() {
+	return getClass() == MatchLocator.class // subclasses may rely on a single lookup environment
+		&& JavaSearchDelegateDiscovery.getInstance() == null
+		&& ForkJoinPool.getCommonPoolParallelism() > 1
+		&& PatternSearchJob.isParallelSearchEnabled()
+		&& IParallelizable.isParallelSearchSupported(this.scope)
+		&& IParallelizable.isParallelSearchSupported(this.pattern);
+}
+/**
+ * Locate the matches amongst the possible matches, by chunks of {@link #MAX_AT_ONCE} possible matches located
+ * concurrently by workers, each one with its own lookup environment, parser and pattern locator.
+ * The matches of a chunk are reported by this thread once the chunk is completed, in the order of the chunks,
+ * so that the requestor gets them as in a sequential search.
+ */
+private void locateMatchesInParallel(JavaProject javaProject, PossibleMatch[] possibleMatches) throws CoreException {
+	ForkJoinPool commonPool = ForkJoinPool.commonPool();
+	ParallelSearchMonitor monitor = new ParallelSearchMonitor(this.progressMonitor != null ? this.progressMonitor : new NullProgressMonitor());
+	// each chunk in progress holds its parsed units and bindings, so only as many as workers are submitted
+	int maxChunks = ForkJoinPool.getCommonPoolParallelism();
+	Deque<Future<MatchLocator>> chunks = new ArrayDeque<>(maxChunks);
+	int length = possibleMatches.length;
+	try {
+		for (int index = 0; index < length || !chunks.isEmpty();) {
+			if (index < length && chunks.size() < maxChunks) {
+				int start = index;
+				int max = Math.min(MAX_AT_ONCE, length - index);
+				MatchLocator worker = newWorker(monitor);
+				chunks.add(commonPool.submit(() -> worker.locateChunk(javaProject, possibleMatches, start, max)));
+				index += max;
+			} else {
+				reportChunk(chunks.remove());
+			}
+		}
+	} catch (CoreException | RuntimeException | Error e) {
+		monitor.setCanceled(true);
+		for (Future<MatchLocator> chunk : chunks) {
+			chunk.cancel(false);
+		}
+		throw e;
+	}
+}
+private MatchLocator newWorker(IProgressMonitor monitor) {
+	List<SearchMatch> matches = new ArrayList<>();
+	MatchLocator worker = new MatchLocator(this.pattern, new SearchRequestor() {
+		@Override
+		public void acceptSearchMatch(SearchMatch match) {
+			matches.add(match);
+		}
+	}, this.scope, monitor);
+	worker.chunkMatches = matches;
+	worker.workingCopies = this.workingCopies;
+	worker.handleFactory = new HandleFactory();
+	worker.progressStep = 1; // progress is reported by this locator once the chunk is completed
+	worker.patternLocator.initializePolymorphicSearch(worker, this.patternLocator);
+	return worker;
+}
+private MatchLocator locateChunk(JavaProject javaProject, PossibleMatch[] possibleMatches, int start, int length) {
+	JavaModelManager manager = JavaModelManager.getJavaModelManager();
+	try {
+		// optimize access to zip files during this chunk, the cache being per thread
+		manager.cacheZipFiles(this);
+		locateMatchesDefaultImpl(javaProject, possibleMatches, start, length);
+	} catch (CoreException | RuntimeException e) {
+		// reported after the matches found so far, as a sequential search would
+		this.chunkFailure = e;
+	} finally {
+		if (this.nameEnvironment != null)
+			this.nameEnvironment.cleanup();
+		this.unitScope = null;
+		manager.flushZipFiles(this);
+	}
+	return this;
+}
+private void reportChunk(Future<MatchLocator> chunk) throws CoreException {
+	MatchLocator worker;
+	try {
+		worker = chunk.get();
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new OperationCanceledException();
+	} catch (ExecutionException e) {
+		if (e.getCause() instanceof Error) {
+			throw (Error) e.getCause();
+		}
+		throw new RuntimeException(e.getCause());
+	}
+	for (SearchMatch match : worker.chunkMatches) {
+		this.requestor.acceptSearchMatch(match);
+	}
+	this.matchBinding.putAll(worker.matchBinding);
+	if (this.progressMonitor != null) {
+		for (int i = worker.progressWorked; i > 0; i--) {
+			this.progressWorked++;
+			if ((this.progressWorked%this.progressStep)==0) this.progressMonitor.worked(this.progressStep);
+		}
+	}
+	if (worker.chunkFailure instanceof CoreException) {
+		throw (CoreException) worker.chunkFailure;
+	}
+	if (worker.chunkFailure != null) {
+		throw (RuntimeException) worker.chunkFailure;
+	}
+}
 /**
  * Locate the matches in the given files and report them using the search requestor.
  */
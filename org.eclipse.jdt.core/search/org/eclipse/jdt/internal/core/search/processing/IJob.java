@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,4 +58,16 @@ public interface IJob {
 	public default boolean waitNeeded() {
 		return false;
 	}
+
+	/**
+	 * Answers the key of the data updated by this job when the job manager executes several jobs at the same time.
+	 * Jobs with different keys can be executed concurrently, jobs with equal keys are executed one after the
+	 * other in the order they were requested. Default implementation returns {@code null}, for a job which is
+	 * executed alone.
+	 *
+	 * @return the key of the updated data, or {@code null} if this job cannot run concurrently with other jobs
+	 */
+	public default Object getSchedulingKey() {
+		return null;
+	}
 }
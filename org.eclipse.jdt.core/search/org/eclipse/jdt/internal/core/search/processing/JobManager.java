@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,19 @@ package org.eclipse.jdt.internal.core.search.processing;
 
 import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -33,6 +42,17 @@ import org.eclipse.jdt.internal.core.util.Util;
 
 public abstract class JobManager {
 
+	/**
+	 * default number of jobs executed at the same time
+	 */
+	private static final int CONCURRENT_JOBS = Math.max(1, Integer.getInteger("org.eclipse.jdt.core.concurrent_indexing_jobs", 1).intValue()); //$NON-NLS-1$
+
+	/**
+	 * number of jobs executed at the same time, 1 to execute the jobs one after the other on the processing thread
+	 * @see IJob#getSchedulingKey()
+	 */
+	private final int concurrentJobs;
+
 	/**
 	 * queue of jobs to execute
 	 * <br>
@@ -42,6 +62,20 @@ public abstract class JobManager {
 
 	private volatile boolean executing;
 
+	/**
+	 * jobs executed by the workers, when several jobs are executed at the same time
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private final Set<IJob> executingJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * threads executing the jobs when several jobs are executed at the same time, created on demand
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private ExecutorService workers;
+
 	/**
 	 * background processing
 	 * <br>
@@ -72,6 +106,16 @@ public abstract class JobManager {
 
 	private final Object idleMonitor = new Object();
 
+	protected JobManager() {
+		this(CONCURRENT_JOBS);
+	}
+	/**
+	 * Creates a job manager executing the given number of jobs at the same time.
+	 */
+	protected JobManager(int concurrentJobs) {
+		this.concurrentJobs = Math.max(1, concurrentJobs);
+	}
+
 	private synchronized Thread getProcessingThread() {
 		return this.processingThread;
 	}
@@ -141,21 +185,32 @@ public abstract class JobManager {
 		}
 
 		try {
-			IJob currentJob;
-			// cancel current job if it belongs to the given family
+			List<IJob> runningJobs;
+			// cancel the running jobs if they belong to the given family
 			synchronized(this){
-				currentJob = currentJob();
+				if (this.concurrentJobs > 1) {
+					// the first job of the queue may not have started yet, while later ones are running
+					runningJobs = new ArrayList<>(this.executingJobs);
+				} else {
+					IJob currentJob = currentJob();
+					runningJobs = currentJob == null ? Collections.emptyList() : Collections.singletonList(currentJob);
+				}
 				disable();
 			}
-			if (currentJob != null && (jobFamily == null || currentJob.belongsTo(jobFamily))) {
-				currentJob.cancel();
-
+			List<IJob> cancelledJobs = new ArrayList<>();
+			for (IJob runningJob : runningJobs) {
+				if (jobFamily == null || runningJob.belongsTo(jobFamily)) {
+					runningJob.cancel();
+					cancelledJobs.add(runningJob);
+				}
+			}
+			if (!cancelledJobs.isEmpty()) {
 				synchronized (this) {
-					// wait until current active job has finished
-					while (getProcessingThread() != null && this.executing){
+					// wait until the cancelled jobs have finished, the jobs of other families keep running
+					while (getProcessingThread() != null && (this.executing || !Collections.disjoint(this.executingJobs, cancelledJobs))){
 						try {
 							if (VERBOSE) {
-								trace("-> waiting end of current background job - " + currentJob); //$NON-NLS-1$
+								trace("-> waiting end of current background jobs - " + cancelledJobs); //$NON-NLS-1$
 							}
 							this.wait(50);
 						} catch(InterruptedException e){
@@ -169,7 +224,7 @@ public abstract class JobManager {
 				Iterator<IJob> it = this.awaitingJobs.iterator();
 				boolean notify = false;
 				while (it.hasNext()) {
-					currentJob = it.next();
+					IJob currentJob = it.next();
 					if (jobFamily == null || currentJob.belongsTo(jobFamily)) {
 						if (VERBOSE) {
 							trace("-> discarding background job  - " + currentJob); //$NON-NLS-1$
@@ -218,6 +273,9 @@ public abstract class JobManager {
 			if(job == first) {
 				break;
 			}
+			if (this.executingJobs.contains(job)) {
+				continue; // already started
+			}
 			if (request.test(job)) {
 				return true;
 			}
@@ -226,20 +284,48 @@ public abstract class JobManager {
 	}
 
 	/**
-	 * Advance to the next available job, once the current one has been completed.
+	 * Advance to the next available job, once the given one has been completed.
 	 * Note: clients awaiting until the job count is zero are still waiting at this point.
 	 */
-	protected synchronized void moveToNextJob() {
+	protected synchronized void moveToNextJob(IJob completedJob) {
 		//if (!enabled) return;
 
-		if (!this.awaitingJobs.isEmpty()) {
-			this.awaitingJobs.remove(0);
-			if (awaitingJobsCount() == 0) {
-				synchronized (this) {
-					this.notifyAll();
-				}
+		this.executingJobs.remove(completedJob);
+		for (Iterator<IJob> it = this.awaitingJobs.iterator(); it.hasNext();) {
+			if (it.next() == completedJob) { // the first job, unless jobs are executed concurrently
+				it.remove();
+				break;
 			}
 		}
+		// wake up the clients waiting for the jobs to be done, and the processing thread if it waits for an executing job
+		if (awaitingJobsCount() == 0 || this.awaitingClients.get() > 0 || this.concurrentJobs > 1) {
+			notifyAll();
+		}
+	}
+	/**
+	 * Answers the first job in the queue which can be executed concurrently with the executing jobs, or null if
+	 * there is none or if the maximum number of jobs are executing.
+	 * <br>
+	 * synchronized by JobManager.this
+	 *
+	 * @see IJob#getSchedulingKey()
+	 */
+	private IJob nextConcurrentJob() {
+		if (this.enableCount <= 0 || this.executingJobs.size() >= this.concurrentJobs)
+			return null;
+		Set<Object> previousKeys = new HashSet<>();
+		for (IJob job : this.awaitingJobs) {
+			boolean started = this.executingJobs.contains(job);
+			Object key = job.getSchedulingKey();
+			if (key == null) {
+				// executed alone, once the previous jobs are done, and before the next ones
+				return !started && previousKeys.isEmpty() && this.executingJobs.isEmpty() ? job : null;
+			}
+			if (!started && !previousKeys.contains(key))
+				return job;
+			previousKeys.add(key);
+		}
+		return null;
 	}
 	/**
 	 * When idle, give chance to do something
@@ -359,7 +445,9 @@ public abstract class JobManager {
 								synchronized (this) {
 									if (awaitingJobsCount() > 0) {
 										try {
-											this.wait(50); // avoid Thread.sleep! wait is informed by notifyAll
+											// avoid Thread.sleep! wait is informed by notifyAll when a job is done,
+											// the timeout is only needed to check whether the monitor is cancelled
+											this.wait(100);
 										} catch (InterruptedException e) {
 											// ignore
 										}
@@ -501,6 +589,12 @@ public abstract class JobManager {
 							} else {
 								this.wait(); // wait until a new job is posted or disabled indexer is enabled again
 							}
+						} else if (this.concurrentJobs > 1) {
+							if ((job = nextConcurrentJob()) == null) {
+								this.wait(); // wait until a job is done or a new job is posted
+								continue;
+							}
+							this.executingJobs.add(job);
 						}
 					}
 					if (job == null) {
@@ -525,6 +619,17 @@ public abstract class JobManager {
 						trace(awaitingJobsCount() + " awaiting jobs"); //$NON-NLS-1$
 						trace("STARTING background job - " + job); //$NON-NLS-1$
 					}
+					if (this.concurrentJobs > 1) {
+						if (this.progressJob == null) {
+							ProgressJob pJob = new ProgressJob(Messages.bind(Messages.jobmanager_indexing, "", "")); //$NON-NLS-1$ //$NON-NLS-2$
+							pJob.setPriority(Job.LONG);
+							pJob.setSystem(true);
+							pJob.schedule();
+							this.progressJob = pJob;
+						}
+						executeConcurrently(job);
+						continue;
+					}
 					try {
 						this.executing = true;
 						if (this.progressJob == null) {
@@ -544,7 +649,7 @@ public abstract class JobManager {
 						if (VERBOSE) {
 							trace("FINISHED background job - " + job); //$NON-NLS-1$
 						}
-						moveToNextJob();
+						moveToNextJob(job);
 						if (this.awaitingClients.get() == 0 && job.waitNeeded()) {
 							if (VERBOSE) {
 								trace("WAITING after job - " + job); //$NON-NLS-1$
@@ -577,6 +682,51 @@ public abstract class JobManager {
 			}
 		}
 	}
+	/**
+	 * Executes the given job on a worker, the job being already registered as executing.
+	 */
+	private void executeConcurrently(IJob job) {
+		ExecutorService executor;
+		synchronized (this) {
+			if (this.workers == null) {
+				ThreadPoolExecutor pool = new ThreadPoolExecutor(this.concurrentJobs, this.concurrentJobs, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+					Thread t = new Thread(r, processName());
+					t.setDaemon(true);
+					t.setPriority(Thread.NORM_PRIORITY-1);
+					t.setContextClassLoader(this.getClass().getClassLoader());
+					return t;
+				});
+				pool.allowCoreThreadTimeOut(true);
+				this.workers = pool;
+			}
+			executor = this.workers;
+		}
+		executor.execute(() -> {
+			JavaModelManager manager = JavaModelManager.getJavaModelManager();
+			try {
+				manager.cacheZipFiles(this);
+				job.execute(null); // may enqueue a new job
+			} catch (RuntimeException | Error e) {
+				// the other jobs are not affected
+				Util.log(e, "Background Indexer Crash Recovery"); //$NON-NLS-1$
+			} finally {
+				manager.flushZipFiles(this);
+				if (VERBOSE) {
+					trace("FINISHED background job - " + job); //$NON-NLS-1$
+				}
+				moveToNextJob(job);
+				if (this.awaitingClients.get() == 0 && job.waitNeeded()) {
+					synchronized (this.idleMonitor) {
+						try {
+							this.idleMonitor.wait(5); // avoid sleep fixed time
+						} catch (InterruptedException e) {
+							// ignore
+						}
+					}
+				}
+			}
+		});
+	}
 	/**
 	 * Stop background processing, and wait until the current job is completed before returning
 	 */
@@ -601,6 +751,14 @@ public abstract class JobManager {
 				// in case processing thread is handling a job
 				thread.join();
 			}
+			ExecutorService executor;
+			synchronized (this) {
+				executor = this.workers;
+				this.workers = null;
+			}
+			if (executor != null) {
+				executor.shutdown();
+			}
 			Job job = this.progressJob;
 			if (job != null) {
 				job.cancel();